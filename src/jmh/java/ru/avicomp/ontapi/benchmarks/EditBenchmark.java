@@ -0,0 +1,73 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures small edits on a loaded ontology:
+ * adding and removing a new axiom, each followed by a signature check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EditBenchmark {
+
+    @Param({"ONT", "OWL"})
+    public Impl impl;
+    @Param({"PIZZA", "SYNTHETIC"})
+    public Source source;
+
+    private OWLOntology ontology;
+    private OWLDataFactory df;
+    private OWLClass parent;
+    private int count;
+
+    @Setup
+    public void setup() {
+        ontology = source.load(impl.createManager());
+        ontology.axioms().count();
+        df = ontology.getOWLOntologyManager().getOWLDataFactory();
+        parent = ontology.classesInSignature().findFirst().orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    public boolean addRemoveAxiom() {
+        OWLClass c = df.getOWLClass(SyntheticOntology.NS + "New" + (count++ % 1000));
+        OWLAxiom a = df.getOWLSubClassOfAxiom(c, parent);
+        ontology.add(a);
+        boolean res = ontology.containsClassInSignature(c.getIRI());
+        ontology.remove(a);
+        return res && !ontology.containsClassInSignature(c.getIRI());
+    }
+
+    @Benchmark
+    public boolean addRemoveAnnotatedAxiom() {
+        OWLClass c = df.getOWLClass(SyntheticOntology.NS + "New" + (count++ % 1000));
+        OWLAxiom a = df.getOWLSubClassOfAxiom(c, parent)
+                .getAnnotatedAxiom(Collections.singleton(df.getRDFSComment("x")));
+        ontology.add(a);
+        boolean res = ontology.containsAxiom(a);
+        ontology.remove(a);
+        return res;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.RDFDataMgr;
+import org.openjdk.jmh.annotations.*;
+import ru.avicomp.ontapi.jena.OffHeapGraph;
+import ru.avicomp.ontapi.jena.OntModelFactory;
+import ru.avicomp.ontapi.jena.vocabulary.RDF;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the standard in-memory graph with the {@link OffHeapGraph}:
+ * the {@code load} benchmark fills a graph and reports its heap and off-heap footprint (see {@link Heap}),
+ * the other benchmarks measure typical queries on a prepared graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GraphBenchmark {
+    private static final int QUERIES = 1000;
+
+    @Param({"MEM", "OFF_HEAP"})
+    public Store store;
+    @Param({"SYNTHETIC", "SYNTHETIC_EL"})
+    public Source source;
+
+    private List<Triple> triples;
+    private Graph graph;
+    private Triple[] queries;
+
+    @Setup
+    public void setup() {
+        Graph g = OntModelFactory.createDefaultGraph();
+        RDFDataMgr.read(g, new ByteArrayInputStream(source.getBytes()), source.getFormat().getLang());
+        triples = g.find().toList();
+        graph = store.create();
+        triples.forEach(graph::add);
+        Random r = new Random(42);
+        queries = new Triple[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = triples.get(r.nextInt(triples.size()));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Graph load(Heap heap) {
+        long before = heap.used();
+        Graph res = store.create();
+        triples.forEach(res::add);
+        heap.retained(before);
+        if (res instanceof OffHeapGraph) {
+            heap.offHeap(((OffHeapGraph) res).offHeapBytes());
+        }
+        heap.count += res.size();
+        return res;
+    }
+
+    @Benchmark
+    public long findBySubject() {
+        long res = 0;
+        for (Triple q : queries) {
+            res += graph.find(q.getSubject(), Node.ANY, Node.ANY).toList().size();
+        }
+        return res;
+    }
+
+    @Benchmark
+    public long findByObject() {
+        long res = 0;
+        for (Triple q : queries) {
+            res += graph.find(Node.ANY, Node.ANY, q.getObject()).toList().size();
+        }
+        return res;
+    }
+
+    @Benchmark
+    public long contains() {
+        long res = 0;
+        for (Triple q : queries) {
+            if (graph.contains(q)) res++;
+        }
+        return res;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long listTypes() {
+        return graph.find(Node.ANY, RDF.Nodes.type, Node.ANY).toList().size();
+    }
+
+    public enum Store {
+        MEM {
+            @Override
+            public Graph create() {
+                return OntModelFactory.createDefaultGraph();
+            }
+        },
+        OFF_HEAP {
+            @Override
+            public Graph create() {
+                return OntModelFactory.createOffHeapGraph();
+            }
+        },
+        ;
+
+        public abstract Graph create();
+    }
+}
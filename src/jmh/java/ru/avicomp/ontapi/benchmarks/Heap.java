@@ -0,0 +1,61 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * The auxiliary counters to report the memory footprint of a benchmark:
+ * the retained heap and the off-heap memory, in megabytes, and the number of processed items (axioms or triples).
+ * Since JMH reports the counters summed over an iteration, they are meaningful only if an iteration contains a single call,
+ * so they should be used with long operations and short iterations.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class Heap {
+    private static final double MB = 1024. * 1024;
+
+    public double retainedMB;
+    public double offHeapMB;
+    public long count;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        retainedMB = 0;
+        offHeapMB = 0;
+        count = 0;
+    }
+
+    /**
+     * Answers the used heap after full GC.
+     *
+     * @return long, bytes
+     */
+    long used() {
+        Runtime r = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return r.totalMemory() - r.freeMemory();
+    }
+
+    void retained(long before) {
+        retainedMB += (used() - before) / MB;
+    }
+
+    void offHeap(long bytes) {
+        offHeapMB += bytes / MB;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import ru.avicomp.ontapi.DataFactory;
+import ru.avicomp.ontapi.DataFactoryImpl;
+import ru.avicomp.ontapi.InterningDataFactoryImpl;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.NoOpReadWriteLock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the plain {@link DataFactoryImpl} with the hash-consing {@link InterningDataFactoryImpl}
+ * on a large EL ontology (see {@link Source#SYNTHETIC_EL}).
+ * The {@code create} benchmark measures the throughput of building the axioms,
+ * the {@code load} benchmark measures loading with reading all axioms into the model cache,
+ * and also reports the heap that is retained by the loaded ontology (see {@link Heap}).
+ * Since each {@code load} takes seconds and forces GC, its iterations are short, i.e. usually contain a single call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class InterningBenchmark {
+
+    @Param({"PLAIN", "INTERNING"})
+    public Factory factory;
+
+    @Setup
+    public void setup() {
+        Source.SYNTHETIC_EL.getBytes();
+    }
+
+    @Benchmark
+    public List<OWLAxiom> create() {
+        return SyntheticOntology.elAxioms(factory.create(), 10 * SyntheticOntology.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public OWLOntology load(Heap heap) {
+        long before = heap.used();
+        OWLOntology res = Source.SYNTHETIC_EL.load(new OntManagers.ONTAPIProfile()
+                .createManager(factory.create(), NoOpReadWriteLock.NO_OP_RW_LOCK));
+        res.axioms().forEach(a -> heap.count++);
+        heap.retained(before);
+        return res;
+    }
+
+    public enum Factory {
+        PLAIN {
+            @Override
+            public DataFactory create() {
+                return new DataFactoryImpl();
+            }
+        },
+        INTERNING {
+            @Override
+            public DataFactory create() {
+                return new InterningDataFactoryImpl();
+            }
+        },
+        ;
+
+        public abstract DataFactory create();
+    }
+}
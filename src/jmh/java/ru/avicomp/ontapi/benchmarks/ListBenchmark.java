@@ -0,0 +1,89 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures listing of axioms, signature and per-entity search on an already loaded ontology.
+ * The caches are warm (the steady state of a long-lived ontology).
+ * The per-entity benchmarks go through a sample of classes from the signature in one operation,
+ * the sample size is controlled by the {@link #entities} parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ListBenchmark {
+
+    @Param({"ONT", "OWL"})
+    public Impl impl;
+    @Param({"PIZZA", "FAMILY", "SYNTHETIC"})
+    public Source source;
+    @Param({"100"})
+    public int entities;
+
+    private OWLOntology ontology;
+    private List<OWLClass> classes;
+
+    @Setup
+    public void setup() {
+        ontology = source.load(impl.createManager());
+        classes = ontology.classesInSignature().limit(entities).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long axioms() {
+        return ontology.axioms().count();
+    }
+
+    @Benchmark
+    public long subClassOfAxioms() {
+        return ontology.axioms(AxiomType.SUBCLASS_OF).count();
+    }
+
+    @Benchmark
+    public long classesInSignature() {
+        return ontology.classesInSignature().count();
+    }
+
+    @Benchmark
+    public void subClassAxiomsForSubClass(Blackhole bh) {
+        classes.forEach(c -> bh.consume(ontology.subClassAxiomsForSubClass(c).count()));
+    }
+
+    @Benchmark
+    public void declarationAxioms(Blackhole bh) {
+        classes.forEach(c -> bh.consume(ontology.declarationAxioms(c).count()));
+    }
+
+    @Benchmark
+    public void annotationAssertionAxioms(Blackhole bh) {
+        classes.forEach(c -> bh.consume(ontology.annotationAssertionAxioms(c.getIRI()).count()));
+    }
+
+    @Benchmark
+    public void referencingAxioms(Blackhole bh) {
+        classes.forEach(c -> bh.consume(ontology.referencingAxioms(c).count()));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import ru.avicomp.ontapi.OntFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving of a loaded ontology into memory in different formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SaveBenchmark {
+
+    @Param({"ONT", "OWL"})
+    public Impl impl;
+    @Param({"PIZZA", "FAMILY", "SYNTHETIC"})
+    public Source source;
+    @Param({"TURTLE", "RDF_XML", "FUNCTIONAL_SYNTAX", "MANCHESTER_SYNTAX", "OWL_XML"})
+    public OntFormat format;
+
+    private OWLOntology ontology;
+
+    @Setup
+    public void setup() {
+        ontology = source.load(impl.createManager());
+        ontology.axioms().count();
+    }
+
+    @Benchmark
+    public int save() throws OWLOntologyStorageException {
+        ByteArrayOutputStream res = new ByteArrayOutputStream();
+        ontology.saveOntology(format.createOwlFormat(), res);
+        return res.size();
+    }
+}
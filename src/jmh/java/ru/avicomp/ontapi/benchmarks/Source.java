@@ -0,0 +1,131 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import ru.avicomp.ontapi.OntFormat;
+import ru.avicomp.ontapi.OntManagers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * The ontology documents to run benchmarks against.
+ * The bundled test resources are used, plus a generated one (see {@link SyntheticOntology}),
+ * so that nothing is downloaded from the network and all runs are reproducible.
+ */
+public enum Source {
+    PIZZA("/ontapi/pizza.ttl", OntFormat.TURTLE),
+    FAMILY("/ontapi/family.ttl", OntFormat.TURTLE),
+    GOODRELATIONS("/ontapi/goodrelations.rdf", OntFormat.RDF_XML),
+    SYNTHETIC(null, OntFormat.TURTLE) {
+        @Override
+        protected byte[] read() {
+            return generate(SyntheticOntology.axioms(OntManagers.getDataFactory(), SyntheticOntology.DEFAULT_SIZE));
+        }
+    },
+    SYNTHETIC_EL(null, OntFormat.TURTLE) {
+        @Override
+        protected byte[] read() {
+            return generate(SyntheticOntology.elAxioms(OntManagers.getDataFactory(), 10 * SyntheticOntology.DEFAULT_SIZE));
+        }
+    },
+    ;
+
+    private final String resource;
+    private final OntFormat format;
+    private byte[] bytes;
+
+    Source(String resource, OntFormat format) {
+        this.resource = resource;
+        this.format = format;
+    }
+
+    public OntFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the document content, which is read once and then kept in memory.
+     *
+     * @return array of bytes
+     */
+    public synchronized byte[] getBytes() {
+        return bytes == null ? bytes = read() : bytes;
+    }
+
+    /**
+     * Creates a fresh document source to load from memory.
+     *
+     * @return {@link StreamDocumentSource}
+     */
+    public StreamDocumentSource createSource() {
+        return new StreamDocumentSource(new ByteArrayInputStream(getBytes()),
+                IRI.generateDocumentIRI(), format.createOwlFormat(), null);
+    }
+
+    /**
+     * Loads the document into the given manager.
+     *
+     * @param manager {@link OWLOntologyManager}
+     * @return {@link OWLOntology}
+     */
+    public OWLOntology load(OWLOntologyManager manager) {
+        try {
+            return manager.loadOntologyFromOntologyDocument(createSource());
+        } catch (OWLOntologyCreationException e) {
+            throw new IllegalStateException("Can't load " + this, e);
+        }
+    }
+
+    protected static byte[] generate(List<OWLAxiom> axioms) {
+        OWLOntologyManager m = Impl.OWL.createManager();
+        try {
+            OWLOntology o = m.createOntology(SyntheticOntology.IRI);
+            o.add(axioms);
+            ByteArrayOutputStream res = new ByteArrayOutputStream();
+            o.saveOntology(new TurtleDocumentFormat(), res);
+            return res.toByteArray();
+        } catch (OWLOntologyCreationException | OWLOntologyStorageException e) {
+            throw new IllegalStateException("Can't generate ontology", e);
+        }
+    }
+
+    protected byte[] read() {
+        try (InputStream in = Source.class.getResourceAsStream(resource)) {
+            if (in == null) throw new IllegalStateException("Can't find " + resource);
+            ByteArrayOutputStream res = new ByteArrayOutputStream();
+            byte[] buff = new byte[8192];
+            int n;
+            while ((n = in.read(buff)) != -1) {
+                res.write(buff, 0, n);
+            }
+            return res.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import ru.avicomp.ontapi.OntFormat;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyManager;
+import ru.avicomp.ontapi.OntologyModel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures saving of a loaded ONT-API ontology in the Jena formats with different save modes:
+ * the default (pretty) writers, the streaming writers and the streaming writers with parallel serialisation
+ * (see {@link ru.avicomp.ontapi.config.OntConfig#setUseStreamWriters(boolean)}
+ * and {@link ru.avicomp.ontapi.config.OntConfig#setWriteParallelism(int)}).
+ * The output is discarded, only the number of bytes is counted; optionally it is compressed with GZIP.
+ * The transient memory consumption is reported by the GC profiler ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StreamSaveBenchmark {
+
+    @Param({"SYNTHETIC", "SYNTHETIC_EL"})
+    public Source source;
+    @Param({"NTRIPLES", "TURTLE", "RDF_THRIFT"})
+    public OntFormat format;
+    @Param({"PRETTY", "STREAM", "PARALLEL"})
+    public SaveMode mode;
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private OntologyManager manager;
+    private OntologyModel ontology;
+
+    @Setup
+    public void setup() {
+        manager = OntManagers.createONT();
+        manager.getOntologyConfigurator().setUseStreamWriters(mode.stream).setWriteParallelism(mode.threads);
+        ontology = (OntologyModel) source.load(manager);
+    }
+
+    @Benchmark
+    public long save() throws OWLOntologyStorageException, IOException {
+        CountingOutputStream res = new CountingOutputStream();
+        OutputStream out = gzip ? new GZIPOutputStream(res, 1 << 16) : res;
+        manager.saveOntology(ontology, format.createOwlFormat(), out);
+        out.close();
+        return res.count;
+    }
+
+    public enum SaveMode {
+        PRETTY(false, 1),
+        STREAM(true, 1),
+        PARALLEL(true, 4),
+        ;
+        private final boolean stream;
+        private final int threads;
+
+        SaveMode(boolean stream, int threads) {
+            this.stream = stream;
+            this.threads = threads;
+        }
+    }
+
+    /**
+     * An {@link OutputStream} that only counts the bytes.
+     */
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
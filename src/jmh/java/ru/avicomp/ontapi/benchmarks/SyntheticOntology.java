@@ -0,0 +1,117 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.semanticweb.owlapi.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A generator of synthetic ontologies with a predictable structure.
+ * For {@code n} classes there are a class hierarchy (binary tree), {@code n / 10} object and data properties
+ * with domains and ranges, {@code n} individuals with class and property assertions,
+ * and a label for each class.
+ * There is also an EL-style variant (see {@link #elAxioms(OWLDataFactory, int)}),
+ * where the same existential restrictions are repeated many times.
+ */
+public class SyntheticOntology {
+    public static final IRI IRI = org.semanticweb.owlapi.model.IRI.create("http://ont-api.ru/benchmarks/synthetic");
+    public static final String NS = IRI + "#";
+    public static final int DEFAULT_SIZE = 5_000;
+
+    public static OWLClass getClass(OWLDataFactory df, int i) {
+        return df.getOWLClass(NS + "C" + i);
+    }
+
+    public static OWLObjectProperty getObjectProperty(OWLDataFactory df, int i) {
+        return df.getOWLObjectProperty(NS + "op" + i);
+    }
+
+    public static OWLDataProperty getDataProperty(OWLDataFactory df, int i) {
+        return df.getOWLDataProperty(NS + "dp" + i);
+    }
+
+    public static OWLNamedIndividual getIndividual(OWLDataFactory df, int i) {
+        return df.getOWLNamedIndividual(NS + "I" + i);
+    }
+
+    /**
+     * Generates axioms.
+     *
+     * @param df      {@link OWLDataFactory}
+     * @param classes int, the number of classes
+     * @return List of {@link OWLAxiom}s
+     */
+    public static List<OWLAxiom> axioms(OWLDataFactory df, int classes) {
+        List<OWLAxiom> res = new ArrayList<>();
+        int properties = Math.max(1, classes / 10);
+        for (int i = 0; i < classes; i++) {
+            OWLClass c = getClass(df, i);
+            res.add(df.getOWLDeclarationAxiom(c));
+            res.add(df.getOWLAnnotationAssertionAxiom(c.getIRI(), df.getRDFSLabel("Class #" + i)));
+            if (i > 0) {
+                res.add(df.getOWLSubClassOfAxiom(c, getClass(df, (i - 1) / 2)));
+            }
+        }
+        for (int i = 0; i < properties; i++) {
+            OWLObjectProperty op = getObjectProperty(df, i);
+            OWLDataProperty dp = getDataProperty(df, i);
+            res.add(df.getOWLDeclarationAxiom(op));
+            res.add(df.getOWLDeclarationAxiom(dp));
+            res.add(df.getOWLObjectPropertyDomainAxiom(op, getClass(df, i)));
+            res.add(df.getOWLObjectPropertyRangeAxiom(op, getClass(df, classes - 1 - i)));
+            res.add(df.getOWLDataPropertyDomainAxiom(dp, getClass(df, i)));
+            res.add(df.getOWLDataPropertyRangeAxiom(dp, df.getIntegerOWLDatatype()));
+        }
+        for (int i = 0; i < classes; i++) {
+            OWLNamedIndividual ind = getIndividual(df, i);
+            res.add(df.getOWLDeclarationAxiom(ind));
+            res.add(df.getOWLClassAssertionAxiom(getClass(df, i), ind));
+            res.add(df.getOWLObjectPropertyAssertionAxiom(getObjectProperty(df, i % properties),
+                    ind, getIndividual(df, (i + 1) % classes)));
+            res.add(df.getOWLDataPropertyAssertionAxiom(getDataProperty(df, i % properties), ind, i));
+        }
+        return res;
+    }
+
+    /**
+     * Generates EL axioms: each class is a subclass of an intersection of its parent
+     * and an existential restriction, the restrictions are taken from a small pool,
+     * so the same sub-expressions occur in many axioms, as it is usual for large medical ontologies.
+     *
+     * @param df      {@link OWLDataFactory}
+     * @param classes int, the number of classes
+     * @return List of {@link OWLAxiom}s
+     */
+    public static List<OWLAxiom> elAxioms(OWLDataFactory df, int classes) {
+        List<OWLAxiom> res = new ArrayList<>();
+        int properties = Math.max(1, classes / 100);
+        int fillers = Math.max(1, classes / 50);
+        for (int i = 0; i < classes; i++) {
+            OWLClass c = getClass(df, i);
+            res.add(df.getOWLDeclarationAxiom(c));
+            if (i == 0) continue;
+            OWLClassExpression some = df.getOWLObjectSomeValuesFrom(getObjectProperty(df, i % properties),
+                    getClass(df, i % fillers));
+            res.add(df.getOWLSubClassOfAxiom(c, df.getOWLObjectIntersectionOf(getClass(df, (i - 1) / 2), some)));
+            res.add(df.getOWLSubClassOfAxiom(c, some));
+        }
+        for (int i = 0; i < properties; i++) {
+            res.add(df.getOWLDeclarationAxiom(getObjectProperty(df, i)));
+        }
+        return res;
+    }
+}
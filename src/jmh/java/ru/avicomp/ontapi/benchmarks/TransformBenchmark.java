@@ -0,0 +1,65 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.apache.jena.graph.Factory;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.openjdk.jmh.annotations.*;
+import ru.avicomp.ontapi.transforms.GraphTransformers;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link GraphTransformers graph transformations}, which are performed while loading.
+ * This is ONT-API only: the OWL-API-impl has no such stage, it is included into the parsing there
+ * (see {@link LoadBenchmark}).
+ * The source graph is copied before each invocation, since the transformations modify the graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TransformBenchmark {
+
+    @Param({"PIZZA", "FAMILY", "GOODRELATIONS", "SYNTHETIC"})
+    public Source source;
+
+    private Graph original;
+    private Graph graph;
+
+    @Setup
+    public void setup() {
+        original = Factory.createGraphMem();
+        Lang lang = source.getFormat().getLang();
+        RDFDataMgr.read(original, new ByteArrayInputStream(source.getBytes()), lang);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        graph = Factory.createGraphMem();
+        GraphUtil.addInto(graph, original);
+    }
+
+    @Benchmark
+    public long transform() {
+        return GraphTransformers.getTransformers().transform(graph).triples(GraphTransformers.Stats.Type.ADDED).count();
+    }
+}
@@ -46,6 +46,8 @@ import static ru.avicomp.ontapi.owlapi.InternalizedEntities.*;
  * if needed, not in this DataFactory.
  * The cache is present in ONT-API model implementation (see {@link ru.avicomp.ontapi.internal.InternalModel}),
  * the original global caches from the OWL-API-impl seems to be superfluous here.
+ * For memory-bound cases with a lot of repeated sub-expressions
+ * there is also the hash-consing subclass {@link InterningDataFactoryImpl}.
  * <p>
  *
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
@@ -0,0 +1,341 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package ru.avicomp.ontapi;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.apache.jena.graph.impl.LiteralLabel;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.vocab.OWLFacet;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DataFactory} that performs hash-consing of the objects it creates.
+ * Entities, class expressions, data ranges, facet restrictions, literals and annotations
+ * are canonicalised through a concurrent weak-reference interner,
+ * so that structurally equal objects produced by this factory are represented by the same instance.
+ * This allows to share duplicated sub-expressions (which are typical for large EL ontologies, e.g. existential restrictions)
+ * and makes {@code equals} checks short-circuit on identity.
+ * Canonical instances are weakly referenced and disappear as soon as there are no strong references to them.
+ * <p>
+ * Axioms, SWRL objects and anonymous individuals are not interned:
+ * axioms are cached inside each ontology (see {@link ru.avicomp.ontapi.internal.InternalModel}),
+ * and anonymous individuals are unique by their nature.
+ * Note that interning is not free: each call performs an extra hash-lookup,
+ * so this factory is intended for memory-bound scenarios with a lot of repeated expressions.
+ * To use it with ONT-API, pass it to {@link OntManagers.ONTAPIProfile#createManager(DataFactory, java.util.concurrent.locks.ReadWriteLock)}.
+ *
+ * @see DataFactoryImpl
+ * @since 1.4.0
+ */
+@SuppressWarnings("NullableProblems")
+public class InterningDataFactoryImpl extends DataFactoryImpl {
+
+    private volatile Interner<OWLObject> interner = Interners.newWeakInterner();
+
+    /**
+     * Returns the canonical instance for the given object.
+     *
+     * @param object {@link OWLObject}, not {@code null}
+     * @param <X>    subtype of {@link OWLObject}
+     * @return {@link X}, which is equal to the given object
+     */
+    @SuppressWarnings("unchecked")
+    protected <X extends OWLObject> X intern(X object) {
+        return (X) interner.intern(object);
+    }
+
+    /**
+     * Forgets all canonical instances.
+     * Already created objects remain valid, but they will not be identical to the objects that are produced later.
+     */
+    @Override
+    public void purge() {
+        interner = Interners.newWeakInterner();
+    }
+
+    // Entities
+
+    @Override
+    public OWLClass getOWLClass(IRI iri) {
+        return intern(super.getOWLClass(iri));
+    }
+
+    @Override
+    public OWLObjectProperty getOWLObjectProperty(IRI iri) {
+        return intern(super.getOWLObjectProperty(iri));
+    }
+
+    @Override
+    public OWLDataProperty getOWLDataProperty(IRI iri) {
+        return intern(super.getOWLDataProperty(iri));
+    }
+
+    @Override
+    public OWLNamedIndividual getOWLNamedIndividual(IRI iri) {
+        return intern(super.getOWLNamedIndividual(iri));
+    }
+
+    @Override
+    public OWLDatatype getOWLDatatype(IRI iri) {
+        return intern(super.getOWLDatatype(iri));
+    }
+
+    @Override
+    public OWLAnnotationProperty getOWLAnnotationProperty(IRI iri) {
+        return intern(super.getOWLAnnotationProperty(iri));
+    }
+
+    @Override
+    public OWLObjectInverseOf getOWLObjectInverseOf(OWLObjectProperty property) {
+        return intern(super.getOWLObjectInverseOf(property));
+    }
+
+    // Data Ranges
+
+    @Override
+    public OWLDataOneOf getOWLDataOneOf(Stream<? extends OWLLiteral> values) {
+        return intern(super.getOWLDataOneOf(values));
+    }
+
+    @Override
+    public OWLDataComplementOf getOWLDataComplementOf(OWLDataRange dataRange) {
+        return intern(super.getOWLDataComplementOf(dataRange));
+    }
+
+    @Override
+    public OWLDataIntersectionOf getOWLDataIntersectionOf(Stream<? extends OWLDataRange> dataRanges) {
+        return intern(super.getOWLDataIntersectionOf(dataRanges));
+    }
+
+    @Override
+    public OWLDataUnionOf getOWLDataUnionOf(Stream<? extends OWLDataRange> dataRanges) {
+        return intern(super.getOWLDataUnionOf(dataRanges));
+    }
+
+    @Override
+    public OWLDatatypeRestriction getOWLDatatypeRestriction(OWLDatatype dataType,
+                                                            Collection<OWLFacetRestriction> facetRestrictions) {
+        return intern(super.getOWLDatatypeRestriction(dataType, facetRestrictions));
+    }
+
+    @Override
+    public OWLDatatypeRestriction getOWLDatatypeRestriction(OWLDatatype dataType,
+                                                            OWLFacet facet,
+                                                            OWLLiteral typedLiteral) {
+        return intern(super.getOWLDatatypeRestriction(dataType, facet, typedLiteral));
+    }
+
+    @Override
+    public OWLFacetRestriction getOWLFacetRestriction(OWLFacet facet, OWLLiteral facetValue) {
+        return intern(super.getOWLFacetRestriction(facet, facetValue));
+    }
+
+    // Class Expressions
+
+    @Override
+    public OWLObjectIntersectionOf getOWLObjectIntersectionOf(Stream<? extends OWLClassExpression> operands) {
+        return intern(super.getOWLObjectIntersectionOf(operands));
+    }
+
+    @Override
+    public OWLObjectIntersectionOf getOWLObjectIntersectionOf(Collection<? extends OWLClassExpression> operands) {
+        return intern(super.getOWLObjectIntersectionOf(operands));
+    }
+
+    @Override
+    public OWLObjectUnionOf getOWLObjectUnionOf(Stream<? extends OWLClassExpression> operands) {
+        return intern(super.getOWLObjectUnionOf(operands));
+    }
+
+    @Override
+    public OWLObjectUnionOf getOWLObjectUnionOf(Collection<? extends OWLClassExpression> operands) {
+        return intern(super.getOWLObjectUnionOf(operands));
+    }
+
+    @Override
+    public OWLObjectComplementOf getOWLObjectComplementOf(OWLClassExpression operand) {
+        return intern(super.getOWLObjectComplementOf(operand));
+    }
+
+    @Override
+    public OWLObjectOneOf getOWLObjectOneOf(Stream<? extends OWLIndividual> values) {
+        return intern(super.getOWLObjectOneOf(values));
+    }
+
+    @Override
+    public OWLObjectSomeValuesFrom getOWLObjectSomeValuesFrom(OWLObjectPropertyExpression property,
+                                                              OWLClassExpression classExpression) {
+        return intern(super.getOWLObjectSomeValuesFrom(property, classExpression));
+    }
+
+    @Override
+    public OWLObjectAllValuesFrom getOWLObjectAllValuesFrom(OWLObjectPropertyExpression property,
+                                                            OWLClassExpression classExpression) {
+        return intern(super.getOWLObjectAllValuesFrom(property, classExpression));
+    }
+
+    @Override
+    public OWLObjectHasValue getOWLObjectHasValue(OWLObjectPropertyExpression property, OWLIndividual individual) {
+        return intern(super.getOWLObjectHasValue(property, individual));
+    }
+
+    @Override
+    public OWLObjectHasSelf getOWLObjectHasSelf(OWLObjectPropertyExpression property) {
+        return intern(super.getOWLObjectHasSelf(property));
+    }
+
+    @Override
+    public OWLObjectExactCardinality getOWLObjectExactCardinality(int cardinality,
+                                                                  OWLObjectPropertyExpression property) {
+        return intern(super.getOWLObjectExactCardinality(cardinality, property));
+    }
+
+    @Override
+    public OWLObjectExactCardinality getOWLObjectExactCardinality(int cardinality,
+                                                                  OWLObjectPropertyExpression property,
+                                                                  OWLClassExpression classExpression) {
+        return intern(super.getOWLObjectExactCardinality(cardinality, property, classExpression));
+    }
+
+    @Override
+    public OWLObjectMinCardinality getOWLObjectMinCardinality(int cardinality, OWLObjectPropertyExpression property) {
+        return intern(super.getOWLObjectMinCardinality(cardinality, property));
+    }
+
+    @Override
+    public OWLObjectMinCardinality getOWLObjectMinCardinality(int cardinality,
+                                                              OWLObjectPropertyExpression property,
+                                                              OWLClassExpression classExpression) {
+        return intern(super.getOWLObjectMinCardinality(cardinality, property, classExpression));
+    }
+
+    @Override
+    public OWLObjectMaxCardinality getOWLObjectMaxCardinality(int cardinality, OWLObjectPropertyExpression property) {
+        return intern(super.getOWLObjectMaxCardinality(cardinality, property));
+    }
+
+    @Override
+    public OWLObjectMaxCardinality getOWLObjectMaxCardinality(int cardinality,
+                                                              OWLObjectPropertyExpression property,
+                                                              OWLClassExpression classExpression) {
+        return intern(super.getOWLObjectMaxCardinality(cardinality, property, classExpression));
+    }
+
+    @Override
+    public OWLDataSomeValuesFrom getOWLDataSomeValuesFrom(OWLDataPropertyExpression property, OWLDataRange dataRange) {
+        return intern(super.getOWLDataSomeValuesFrom(property, dataRange));
+    }
+
+    @Override
+    public OWLDataAllValuesFrom getOWLDataAllValuesFrom(OWLDataPropertyExpression property, OWLDataRange dataRange) {
+        return intern(super.getOWLDataAllValuesFrom(property, dataRange));
+    }
+
+    @Override
+    public OWLDataHasValue getOWLDataHasValue(OWLDataPropertyExpression property, OWLLiteral value) {
+        return intern(super.getOWLDataHasValue(property, value));
+    }
+
+    @Override
+    public OWLDataExactCardinality getOWLDataExactCardinality(int cardinality, OWLDataPropertyExpression property) {
+        return intern(super.getOWLDataExactCardinality(cardinality, property));
+    }
+
+    @Override
+    public OWLDataExactCardinality getOWLDataExactCardinality(int cardinality,
+                                                              OWLDataPropertyExpression property,
+                                                              OWLDataRange dataRange) {
+        return intern(super.getOWLDataExactCardinality(cardinality, property, dataRange));
+    }
+
+    @Override
+    public OWLDataMinCardinality getOWLDataMinCardinality(int cardinality, OWLDataPropertyExpression property) {
+        return intern(super.getOWLDataMinCardinality(cardinality, property));
+    }
+
+    @Override
+    public OWLDataMinCardinality getOWLDataMinCardinality(int cardinality,
+                                                          OWLDataPropertyExpression property,
+                                                          OWLDataRange dataRange) {
+        return intern(super.getOWLDataMinCardinality(cardinality, property, dataRange));
+    }
+
+    @Override
+    public OWLDataMaxCardinality getOWLDataMaxCardinality(int cardinality, OWLDataPropertyExpression property) {
+        return intern(super.getOWLDataMaxCardinality(cardinality, property));
+    }
+
+    @Override
+    public OWLDataMaxCardinality getOWLDataMaxCardinality(int cardinality,
+                                                          OWLDataPropertyExpression property,
+                                                          OWLDataRange dataRange) {
+        return intern(super.getOWLDataMaxCardinality(cardinality, property, dataRange));
+    }
+
+    // Literals
+
+    @Override
+    public OWLLiteral getOWLLiteral(int i) {
+        return intern(super.getOWLLiteral(i));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(double d) {
+        return intern(super.getOWLLiteral(d));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(float f) {
+        return intern(super.getOWLLiteral(f));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(String txt) {
+        return intern(super.getOWLLiteral(txt));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(String txt, String lang) {
+        return intern(super.getOWLLiteral(txt, lang));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(String txt, OWLDatatype dt) {
+        return intern(super.getOWLLiteral(txt, dt));
+    }
+
+    @Override
+    public OWLLiteral getOWLLiteral(LiteralLabel label) {
+        return intern(super.getOWLLiteral(label));
+    }
+
+    // Annotations
+
+    @Override
+    public OWLAnnotation getOWLAnnotation(OWLAnnotationProperty property, OWLAnnotationValue value) {
+        return intern(super.getOWLAnnotation(property, value));
+    }
+
+    @Override
+    public OWLAnnotation getOWLAnnotation(OWLAnnotationProperty property,
+                                          OWLAnnotationValue value,
+                                          Stream<OWLAnnotation> annotations) {
+        return intern(super.getOWLAnnotation(property, value, annotations));
+    }
+}
@@ -21,6 +21,7 @@ import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.config.OntWriterConfiguration;
 import ru.avicomp.ontapi.internal.*;
 import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
+import ru.avicomp.ontapi.jena.utils.Graphs;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -42,6 +43,8 @@ public class ModelConfig implements InternalConfig, Serializable {
     protected OntLoaderConfiguration readConf;
     protected OntWriterConfiguration writerConf;
     protected OntologyManagerImpl manager;
+    protected transient String name;
+    protected transient volatile OntMetrics metrics;
 
     public ModelConfig(OntologyManagerImpl m) {
         this.manager = Objects.requireNonNull(m);
@@ -54,6 +57,9 @@ public class ModelConfig implements InternalConfig, Serializable {
      * @return {@link InternalModel}
      */
     public InternalModel createInternalModel(Graph graph) {
+        if (manager.getMetrics().isEnabled()) {
+            this.name = Graphs.getName(graph);
+        }
         return InternalModelHolder.createInternalModel(graph, getPersonality(), this::createObjectFactory, this);
     }
 
@@ -75,9 +81,35 @@ public class ModelConfig implements InternalConfig, Serializable {
     public OntologyManagerImpl setManager(OntologyManagerImpl other) {
         OntologyManagerImpl res = this.manager;
         this.manager = other;
+        releaseMetrics();
         return res;
     }
 
+    /**
+     * Returns the ontology metrics, which is a child of the {@link OntologyManagerImpl#getMetrics() manager's metrics}.
+     * The instance is created on demand and is released when the ontology is detached from the manager.
+     *
+     * @return {@link OntMetrics}, not {@code null}
+     */
+    @Override
+    public OntMetrics getMetrics() {
+        OntMetrics res = this.metrics;
+        if (res != null) return res;
+        if (manager == null) return OntMetrics.NO_OP;
+        synchronized (this) {
+            if (this.metrics == null) {
+                this.metrics = manager.getMetrics().forModel(name == null ? Graphs.NULL_ONTOLOGY_IDENTIFIER : name);
+            }
+            return this.metrics;
+        }
+    }
+
+    protected synchronized void releaseMetrics() {
+        if (metrics == null) return;
+        metrics.release();
+        metrics = null;
+    }
+
     public void setLoaderConf(OntLoaderConfiguration conf) {
         if (Objects.equals(getLoaderConfig(), conf)) return;
         this.readConf = conf;
@@ -124,11 +156,13 @@ public class ModelConfig implements InternalConfig, Serializable {
         if (!useLoadObjectsCache()) {
             return new NoCacheObjectFactory(manager.dataFactory);
         }
-        return new CacheObjectFactory(manager.dataFactory, this::createCache, manager.iris);
+        return new CacheObjectFactory(manager.dataFactory, this::createCache,
+                InternalCache.counted(manager.iris, getMetrics(), OntMetrics.CACHE_IRIS));
     }
 
     protected <K, V> InternalCache<K, V> createCache() {
-        return InternalCache.createBounded(manager.isConcurrent(), CacheObjectFactory.CACHE_SIZE);
+        return InternalCache.counted(InternalCache.createBounded(manager.isConcurrent(), getLoadObjectsCacheSize()),
+                getMetrics(), OntMetrics.CACHE_OBJECTS);
     }
 
     public OntPersonality getPersonality() {
@@ -180,6 +214,28 @@ public class ModelConfig implements InternalConfig, Serializable {
         return getLoaderConfig().isContentCacheEnabled();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return boolean
+     * @since 1.4.0
+     */
+    @Override
+    public boolean isContentSnapshotEnabled() {
+        return getLoaderConfig().isContentSnapshotEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return boolean
+     * @since 1.4.0
+     */
+    @Override
+    public boolean isContentTriplesPreloadEnabled() {
+        return getLoaderConfig().isContentTriplesPreloadEnabled();
+    }
+
     @Override
     public boolean parallel() {
         return manager.isConcurrent();
@@ -217,6 +273,8 @@ public class ModelConfig implements InternalConfig, Serializable {
                 , OntLoaderConfiguration::getLoadNodesCacheSize
                 , OntLoaderConfiguration::getLoadObjectsCacheSize
                 , OntLoaderConfiguration::isContentCacheEnabled
+                , OntLoaderConfiguration::isContentSnapshotEnabled
+                , OntLoaderConfiguration::isContentTriplesPreloadEnabled
         );
         return fields.anyMatch(c -> c.apply(left) != c.apply(right));
     }
@@ -238,7 +238,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
 
     @Override
     public boolean containsEntityInSignature(OWLEntity entity) {
-        return signature().anyMatch(o -> Objects.equals(o, entity));
+        return entity != null && base.containsOWLEntity(entity);
     }
 
     @Override
@@ -262,12 +262,12 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
 
     @Override
     public boolean containsReference(@Nonnull OWLEntity entity) {
-        return signature().anyMatch(entity::equals);
+        return base.containsOWLEntity(entity);
     }
 
     @Override
     public boolean containsClassInSignature(@Nonnull IRI iri) {
-        return classesInSignature().map(HasIRI::getIRI).anyMatch(iri::equals);
+        return base.containsOWLEntity(base.getObjectFactory().getOWLDataFactory().getOWLClass(iri));
     }
 
     @Override
@@ -277,7 +277,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
 
     @Override
     public boolean containsObjectPropertyInSignature(@Nonnull IRI iri) {
-        return objectPropertiesInSignature().map(HasIRI::getIRI).anyMatch(iri::equals);
+        return base.containsOWLEntity(base.getObjectFactory().getOWLDataFactory().getOWLObjectProperty(iri));
     }
 
     @Override
@@ -287,7 +287,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
 
     @Override
     public boolean containsDataPropertyInSignature(@Nonnull IRI iri) {
-        return dataPropertiesInSignature().map(HasIRI::getIRI).anyMatch(iri::equals);
+        return base.containsOWLEntity(base.getObjectFactory().getOWLDataFactory().getOWLDataProperty(iri));
     }
 
     @Override
@@ -297,7 +297,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
 
     @Override
     public boolean containsAnnotationPropertyInSignature(@Nonnull IRI iri) {
-        return annotationPropertiesInSignature().map(HasIRI::getIRI).anyMatch(iri::equals);
+        return base.containsOWLEntity(base.getObjectFactory().getOWLDataFactory().getOWLAnnotationProperty(iri));
     }
 
     @Override
@@ -307,7 +307,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
 
     @Override
     public boolean containsDatatypeInSignature(@Nonnull IRI iri) {
-        return datatypesInSignature().map(HasIRI::getIRI).anyMatch(iri::equals);
+        return base.containsOWLEntity(base.getObjectFactory().getOWLDataFactory().getOWLDatatype(iri));
     }
 
     @Override
@@ -317,7 +317,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
 
     @Override
     public boolean containsIndividualInSignature(@Nonnull IRI iri) {
-        return individualsInSignature().map(HasIRI::getIRI).anyMatch(iri::equals);
+        return base.containsOWLEntity(base.getObjectFactory().getOWLDataFactory().getOWLNamedIndividual(iri));
     }
 
     @Override
@@ -453,10 +453,8 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
     @Override
     public Stream<OWLClassAxiom> axioms(@Nonnull OWLClass clazz) {
         Stream<? extends OWLClassAxiom> subClassOf = base.listOWLSubClassOfAxioms(clazz);
-        Stream<? extends OWLClassAxiom> disjointUnion = base.listOWLAxioms(OWLDisjointUnionAxiom.class)
-                .filter(a -> Objects.equals(a.getOWLClass(), clazz));
-        Stream<? extends OWLClassAxiom> disjoint = base.listOWLAxioms(OWLDisjointClassesAxiom.class)
-                .filter(a -> a.operands().anyMatch(clazz::equals));
+        Stream<? extends OWLClassAxiom> disjointUnion = base.listOWLAxioms(OWLDisjointUnionAxiom.class, clazz);
+        Stream<? extends OWLClassAxiom> disjoint = base.listOWLAxioms(OWLDisjointClassesAxiom.class, clazz);
         Stream<? extends OWLClassAxiom> equivalent = base.listOWLEquivalentClassesAxioms(clazz);
         return Stream.of(subClassOf, disjointUnion, disjoint, equivalent).flatMap(Function.identity());
     }
@@ -481,17 +479,12 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
      */
     @Override
     public Stream<OWLObjectPropertyAxiom> axioms(@Nonnull OWLObjectPropertyExpression property) {
-        Stream<? extends OWLObjectPropertyAxiom> subPropertyOf = base.listOWLAxioms(OWLSubObjectPropertyOfAxiom.class)
-                .filter(a -> Objects.equals(a.getSubProperty(), property));
-        @SuppressWarnings("unchecked")
+        Stream<? extends OWLObjectPropertyAxiom> subPropertyOf = base.listOWLAxioms(OWLSubObjectPropertyOfAxiom.class, property);
         Stream<? extends OWLObjectPropertyAxiom> nary = Stream.of(
                 OWLEquivalentObjectPropertiesAxiom.class,
                 OWLDisjointObjectPropertiesAxiom.class,
                 OWLInverseObjectPropertiesAxiom.class
-        ).flatMap(c -> base.listOWLAxioms(c))
-                .map(OWLNaryPropertyAxiom.class::cast)
-                .filter(a -> a.operands().anyMatch(o -> Objects.equals(o, property)))
-                .map(OWLObjectPropertyAxiom.class::cast);
+        ).flatMap(c -> base.listOWLAxioms(c, property));
         Stream<? extends OWLObjectPropertyAxiom> unary = Stream.of(
                 OWLObjectPropertyDomainAxiom.class,
                 OWLObjectPropertyRangeAxiom.class,
@@ -502,10 +495,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
                 OWLFunctionalObjectPropertyAxiom.class,
                 OWLInverseFunctionalObjectPropertyAxiom.class,
                 OWLAsymmetricObjectPropertyAxiom.class
-        ).flatMap(c -> base.listOWLAxioms(c))
-                .map(OWLUnaryPropertyAxiom.class::cast)
-                .filter(a -> Objects.equals(a.getProperty(), property))
-                .map(OWLObjectPropertyAxiom.class::cast);
+        ).flatMap(c -> base.listOWLAxioms(c, property));
         return Stream.of(subPropertyOf, nary, unary).flatMap(Function.identity());
     }
 
@@ -526,25 +516,16 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
      */
     @Override
     public Stream<OWLDataPropertyAxiom> axioms(@Nonnull OWLDataProperty property) {
-        Stream<? extends OWLDataPropertyAxiom> subPropertyOf = base.listOWLAxioms(OWLSubDataPropertyOfAxiom.class)
-                .filter(a -> Objects.equals(a.getSubProperty(), property));
-        @SuppressWarnings("unchecked")
+        Stream<? extends OWLDataPropertyAxiom> subPropertyOf = base.listOWLAxioms(OWLSubDataPropertyOfAxiom.class, property);
         Stream<? extends OWLDataPropertyAxiom> nary = Stream.of(
                 OWLEquivalentDataPropertiesAxiom.class,
-                OWLDisjointDataPropertiesAxiom.class,
-                OWLInverseObjectPropertiesAxiom.class
-        ).flatMap(c -> base.listOWLAxioms(c))
-                .map(OWLNaryPropertyAxiom.class::cast)
-                .filter(a -> a.operands().anyMatch(o -> Objects.equals(o, property)))
-                .map(OWLDataPropertyAxiom.class::cast);
+                OWLDisjointDataPropertiesAxiom.class
+        ).flatMap(c -> base.listOWLAxioms(c, property));
         Stream<? extends OWLDataPropertyAxiom> unary = Stream.of(
                 OWLDataPropertyDomainAxiom.class,
                 OWLDataPropertyRangeAxiom.class,
                 OWLFunctionalDataPropertyAxiom.class
-        ).flatMap(c -> base.listOWLAxioms(c))
-                .map(OWLUnaryPropertyAxiom.class::cast)
-                .filter(a -> Objects.equals(a.getProperty(), property))
-                .map(OWLDataPropertyAxiom.class::cast);
+        ).flatMap(c -> base.listOWLAxioms(c, property));
         return Stream.of(subPropertyOf, nary, unary).flatMap(Function.identity());
     }
 
@@ -566,28 +547,23 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
      */
     @Override
     public Stream<OWLIndividualAxiom> axioms(@Nonnull OWLIndividual individual) {
-        Stream<? extends OWLIndividualAxiom> classAssertion = base.listOWLAxioms(OWLClassAssertionAxiom.class)
-                .filter(a -> Objects.equals(a.getIndividual(), individual));
+        Stream<? extends OWLIndividualAxiom> classAssertion = base.listOWLAxioms(OWLClassAssertionAxiom.class, individual);
         Stream<? extends OWLIndividualAxiom> nary = Stream.of(
                 OWLSameIndividualAxiom.class,
                 OWLDifferentIndividualsAxiom.class
-        ).flatMap(c -> base.listOWLAxioms(c))
-                .map(OWLNaryIndividualAxiom.class::cast)
-                .filter(a -> a.operands().anyMatch(o -> Objects.equals(o, individual)));
+        ).flatMap(c -> base.listOWLAxioms(c, individual));
         Stream<? extends OWLIndividualAxiom> propertyAssertion = Stream.of(
                 OWLObjectPropertyAssertionAxiom.class,
                 OWLDataPropertyAssertionAxiom.class,
                 OWLNegativeObjectPropertyAssertionAxiom.class,
                 OWLNegativeDataPropertyAssertionAxiom.class
-        ).flatMap(c -> base.listOWLAxioms(c))
-                .map(OWLPropertyAssertionAxiom.class::cast)
-                .filter(a -> Objects.equals(a.getSubject(), individual));
+        ).flatMap(c -> base.listOWLAxioms(c, individual));
         return Stream.of(classAssertion, nary, propertyAssertion).flatMap(Function.identity());
     }
 
     @Override
     public Stream<OWLDatatypeDefinitionAxiom> axioms(@Nonnull OWLDatatype datatype) {
-        return base.listOWLAxioms(OWLDatatypeDefinitionAxiom.class).filter(a -> datatype.equals(a.getDatatype()));
+        return base.listOWLAxioms(OWLDatatypeDefinitionAxiom.class, datatype);
     }
 
     @SuppressWarnings("unchecked")
@@ -627,17 +603,23 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
             return (Stream<A>) base.listOWLDeclarationAxioms((OWLEntity) object);
         }
         if (OWLSubObjectPropertyOfAxiom.class.equals(type) && object instanceof OWLObjectPropertyExpression) {
-            return (Stream<A>) base.listOWLAxioms(OWLSubObjectPropertyOfAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getSuperProperty() : a.getSubProperty()));
+            if (!Navigation.IN_SUPER_POSITION.equals(position)) {
+                return (Stream<A>) base.listOWLAxioms(OWLSubObjectPropertyOfAxiom.class, object);
+            }
+            return (Stream<A>) base.listOWLAxioms(OWLSubObjectPropertyOfAxiom.class).filter(a -> object.equals(a.getSuperProperty()));
         }
         if (OWLSubDataPropertyOfAxiom.class.equals(type) && object instanceof OWLDataPropertyExpression) {
-            return (Stream<A>) base.listOWLAxioms(OWLSubDataPropertyOfAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getSuperProperty() : a.getSubProperty()));
+            if (!Navigation.IN_SUPER_POSITION.equals(position)) {
+                return (Stream<A>) base.listOWLAxioms(OWLSubDataPropertyOfAxiom.class, object);
+            }
+            return (Stream<A>) base.listOWLAxioms(OWLSubDataPropertyOfAxiom.class).filter(a -> object.equals(a.getSuperProperty()));
         }
         if (OWLSubAnnotationPropertyOfAxiom.class.equals(type) && object instanceof OWLAnnotationProperty) {
             // the difference: this axiom type is ignored in the original OWL-API method:
-            return (Stream<A>) base.listOWLAxioms(OWLSubAnnotationPropertyOfAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getSuperProperty() : a.getSubProperty()));
+            if (!Navigation.IN_SUPER_POSITION.equals(position)) {
+                return (Stream<A>) base.listOWLAxioms(OWLSubAnnotationPropertyOfAxiom.class, object);
+            }
+            return (Stream<A>) base.listOWLAxioms(OWLSubAnnotationPropertyOfAxiom.class).filter(a -> object.equals(a.getSuperProperty()));
         }
         if (OWLSubClassOfAxiom.class.equals(type) && object instanceof OWLClassExpression) {
             OWLClassExpression c = (OWLClassExpression) object;
@@ -659,12 +641,16 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
                     .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getSecondProperty() : a.getFirstProperty()));
         }
         if (OWLObjectPropertyAssertionAxiom.class.equals(type) && object instanceof OWLIndividual) {
-            return (Stream<A>) base.listOWLAxioms(OWLObjectPropertyAssertionAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getObject() : a.getSubject()));
+            if (!Navigation.IN_SUPER_POSITION.equals(position)) {
+                return (Stream<A>) base.listOWLAxioms(OWLObjectPropertyAssertionAxiom.class, object);
+            }
+            return (Stream<A>) base.listOWLAxioms(OWLObjectPropertyAssertionAxiom.class).filter(a -> object.equals(a.getObject()));
         }
         if (OWLNegativeObjectPropertyAssertionAxiom.class.equals(type) && object instanceof OWLIndividual) {
-            return (Stream<A>) base.listOWLAxioms(OWLNegativeObjectPropertyAssertionAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getObject() : a.getSubject()));
+            if (!Navigation.IN_SUPER_POSITION.equals(position)) {
+                return (Stream<A>) base.listOWLAxioms(OWLNegativeObjectPropertyAssertionAxiom.class, object);
+            }
+            return (Stream<A>) base.listOWLAxioms(OWLNegativeObjectPropertyAssertionAxiom.class).filter(a -> object.equals(a.getObject()));
         }
         if (OWLAnnotationAssertionAxiom.class.equals(type)) {
             if (Navigation.IN_SUPER_POSITION.equals(position) && object instanceof OWLAnnotationObject) {
@@ -675,9 +661,11 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
             }
         }
         if (OWLDisjointUnionAxiom.class.equals(type) && object instanceof OWLClassExpression) {
+            if (!Navigation.IN_SUPER_POSITION.equals(position)) {
+                return (Stream<A>) base.listOWLAxioms(OWLDisjointUnionAxiom.class, object);
+            }
             return (Stream<A>) base.listOWLAxioms(OWLDisjointUnionAxiom.class)
-                    .filter(a -> Navigation.IN_SUPER_POSITION.equals(position) ?
-                            a.classExpressions().anyMatch(object::equals) : object.equals(a.getOWLClass()));
+                    .filter(a -> a.classExpressions().anyMatch(object::equals));
         }
         if (OWLSubPropertyChainOfAxiom.class.equals(type) && object instanceof OWLObjectPropertyExpression) {
             return (Stream<A>) base.listOWLAxioms(OWLSubPropertyChainOfAxiom.class)
@@ -697,7 +685,7 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
             return (Stream<A>) axioms((OWLIndividual) object);
         }
         if (OWLNaryAxiom.class.isAssignableFrom(type)) {
-            return base.listOWLAxioms(type).filter(a -> ((OWLNaryAxiom) a).operands().anyMatch(o -> Objects.equals(o, object)));
+            return base.listOWLAxioms(type, object);
         }
         // default:
         return base.listOWLAxioms(type).filter(a -> OwlObjects.objects(object.getClass(), a).anyMatch(object::equals));
@@ -745,13 +733,8 @@ public abstract class OntBaseModelImpl implements OWLOntology, InternalModelHold
 
     @Override
     public Stream<OWLAxiom> referencingAxioms(@Nonnull OWLPrimitive primitive) {
-        if (primitive instanceof IRI) {
-            return axioms().filter(a -> OwlObjects.iris(a).anyMatch(primitive::equals));
-        }
-        if (primitive instanceof OWLDatatype) { // as well as iri the datatype could be hidden inside other objects (literals):
-            return axioms().filter(a -> OwlObjects.objects(OWLDatatype.class, a).anyMatch(primitive::equals));
-        }
-        return axioms().filter(a -> OwlObjects.objects(OWLPrimitive.class, a).anyMatch(primitive::equals));
+        // note: as well as iri the datatype could be hidden inside other objects (literals)
+        return base.listOWLAxioms(primitive);
     }
 
     @Override
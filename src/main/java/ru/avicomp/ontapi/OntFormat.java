@@ -22,6 +22,7 @@ import org.semanticweb.owlapi.model.PrefixManager;
 import ru.avicomp.ontapi.OWLLangRegistry.LangKey;
 import ru.avicomp.ontapi.OWLLangRegistry.OWLLang;
 import ru.avicomp.ontapi.jena.OntModelFactory;
+import ru.avicomp.ontapi.jena.utils.SnapshotRDF;
 
 import javax.annotation.Nullable;
 import java.io.Writer;
@@ -30,8 +31,8 @@ import java.util.stream.Stream;
 
 /**
  * The map between jena languages ({@link Lang}) and OWL-API syntax formats ({@link OWLLang}).
- * There are 22 ONT formats (22(19 actual, i.e. without intersection) OWL document formats + 15(11 actual) jena languages),
- * but only 12 of them can be used without any hesitation (see {@link #isSupported()} for more details).
+ * There are 23 ONT formats (22(19 actual, i.e. without intersection) OWL document formats + 16(12 actual) jena languages),
+ * but only 13 of them can be used without any hesitation (see {@link #isSupported()} for more details).
  * For working with the OWL-API interfaces the {@link #createOwlFormat()} method can be used.
  * OWL-API formats are located inside <a href='https://github.com/owlcs/owlapi/tree/version5/api'>owlapi-api</a>,
  * <a href='https://github.com/owlcs/owlapi/tree/version5/rio'>owlapi-rio</a>,
@@ -58,6 +59,8 @@ public enum OntFormat {
     TRIX("TriX", "trix", Lang.TRIX, LangKey.TRIX),
     // jena only:
     RDF_THRIFT("RDF-THRIFT", "trdf", Lang.RDFTHRIFT, null),
+    // ONT-API binary graph snapshot, see SnapshotRDF:
+    ONT_SNAPSHOT("ONT-SNAPSHOT", "osnap", SnapshotRDF.LANG, null),
     CSV("CSV", "csv", Lang.CSV, null),
     TSV("TSV", "tsv", Lang.TSV, null),
     // owl-api formats only
@@ -0,0 +1,479 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi;
+
+import org.semanticweb.owlapi.model.AxiomType;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A pluggable sink for the runtime metrics: cache hit/miss counters and timers.
+ * <p>
+ * The metrics are collected per {@link OntologyManager manager} and per {@link OntologyModel ontology}:
+ * the manager's instance is set through {@link OntologyManagerImpl#setMetrics(OntMetrics)},
+ * and each ontology gets its own child instance via {@link #forModel(String)}.
+ * By default, the {@link #NO_OP no-op} instance is used, and then no metric is collected at all
+ * and all the caches are used as is, without any wrappers.
+ * To plug an external metrics library it is enough to implement the methods {@link #count(String, long)}
+ * and {@link #time(String, long)}.
+ * The build-in implementation is {@link Registry}, which keeps all numbers in memory
+ * and can be exposed through JMX.
+ * <p>
+ * The cache counters are named {@code <cache-name>.hit} and {@code <cache-name>.miss},
+ * see the constants {@link #CACHE_NODES}, {@link #CACHE_OBJECTS}, etc.
+ * The timers are named {@code translator.<AxiomType>} (the time spent to read axioms of the type from a graph)
+ * and {@code transform.<name>} (the time spent by a {@link ru.avicomp.ontapi.transforms.Transform graph transform}).
+ *
+ * @see ru.avicomp.ontapi.internal.InternalCache#counted(ru.avicomp.ontapi.internal.InternalCache, OntMetrics, String)
+ * @since 1.4.0
+ */
+public interface OntMetrics {
+
+    /**
+     * The nodes table of the {@link ru.avicomp.ontapi.internal.SearchModel},
+     * their size is controlled by {@link ru.avicomp.ontapi.config.OntSettings#ONT_API_LOAD_CONF_CACHE_NODES}.
+     */
+    String CACHE_NODES = "cache.nodes";
+    /**
+     * The OWL entities caches of the {@link ru.avicomp.ontapi.internal.CacheObjectFactory},
+     * their size is controlled by {@link ru.avicomp.ontapi.config.OntSettings#ONT_API_LOAD_CONF_CACHE_OBJECTS}.
+     */
+    String CACHE_OBJECTS = "cache.objects";
+    /**
+     * The manager's {@code IRI}s cache.
+     */
+    String CACHE_IRIS = "cache.iris";
+    /**
+     * The content caches of the {@link ru.avicomp.ontapi.internal.InternalModel}:
+     * OWL objects, axioms indexes and references.
+     */
+    String CACHE_MODEL_OBJECTS = "cache.model.objects";
+    String CACHE_MODEL_INDEX = "cache.model.index";
+    String CACHE_MODEL_REFERENCES = "cache.model.references";
+
+    String HIT = ".hit";
+    String MISS = ".miss";
+    String TRANSLATOR = "translator.";
+    String TRANSFORM = "transform.";
+
+    /**
+     * The metrics, that does nothing.
+     */
+    OntMetrics NO_OP = new OntMetrics() {
+        @Override
+        public void count(String name, long delta) {
+            // nothing
+        }
+
+        @Override
+        public void time(String name, long nanos) {
+            // nothing
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * Increments the counter with the given name.
+     *
+     * @param name  String, not {@code null}
+     * @param delta long
+     */
+    void count(String name, long delta);
+
+    /**
+     * Records the duration to the timer with the given name.
+     *
+     * @param name  String, not {@code null}
+     * @param nanos long, the time in nanoseconds
+     */
+    void time(String name, long nanos);
+
+    /**
+     * Answers {@code true} if this metrics collects something.
+     * If {@code false}, the system is free to skip the measurements.
+     *
+     * @return boolean
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Returns a metrics instance for the ontology with the given name.
+     * All the numbers recorded to the returned object are expected to be also reflected in this metrics.
+     * The returned instance must be {@link #release() released} when the ontology is removed from the manager.
+     *
+     * @param name String, the display name of the ontology, not {@code null}
+     * @return {@link OntMetrics}
+     */
+    default OntMetrics forModel(String name) {
+        return this;
+    }
+
+    /**
+     * Detaches this metrics from its parent, if any.
+     * The collected numbers are not reset: the parent retains its aggregated values.
+     */
+    default void release() {
+        // nothing
+    }
+
+    /**
+     * Returns the name of the timer for the given axiom type.
+     *
+     * @param type {@link AxiomType}, not {@code null}
+     * @return String
+     */
+    static String translator(AxiomType<?> type) {
+        return TRANSLATOR + type.getName();
+    }
+
+    /**
+     * Wraps the iterator so that the time spent in its {@code hasNext()} and {@code next()} methods is
+     * recorded to the specified timer, once the iterator is exhausted.
+     * The number of returned items is recorded to the counter with the same name.
+     *
+     * @param iterator {@link Iterator}, not {@code null}
+     * @param metrics  {@link OntMetrics}, not {@code null}
+     * @param name     String, the name of the timer
+     * @param <X>      anything
+     * @return {@link Iterator}
+     */
+    static <X> Iterator<X> timed(Iterator<X> iterator, OntMetrics metrics, String name) {
+        if (!metrics.isEnabled()) return iterator;
+        return new Iterator<X>() {
+            private long nanos;
+            private long count;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                long start = System.nanoTime();
+                boolean res = iterator.hasNext();
+                nanos += System.nanoTime() - start;
+                if (!res && !done) {
+                    done = true;
+                    metrics.time(name, nanos);
+                    metrics.count(name, count);
+                }
+                return res;
+            }
+
+            @Override
+            public X next() {
+                long start = System.nanoTime();
+                X res = iterator.next();
+                nanos += System.nanoTime() - start;
+                count++;
+                return res;
+            }
+        };
+    }
+
+    /**
+     * The JMX interface of the {@link Registry}.
+     */
+    interface RegistryMXBean {
+
+        /**
+         * Returns all counters.
+         *
+         * @return {@code Map} with counter names as keys
+         */
+        Map<String, Long> getCounters();
+
+        /**
+         * Returns the total times (in milliseconds) for all timers.
+         *
+         * @return {@code Map} with timer names as keys
+         */
+        Map<String, Double> getTimes();
+
+        /**
+         * Returns the numbers of measurements for all timers.
+         *
+         * @return {@code Map} with timer names as keys
+         */
+        Map<String, Long> getCalls();
+
+        /**
+         * Returns the hit ratios for all caches, which have at least one access.
+         *
+         * @return {@code Map} with cache names as keys and values in the range {@code [0, 1]}
+         */
+        Map<String, Double> getHitRatios();
+
+        /**
+         * Resets all the numbers to zero.
+         */
+        void reset();
+    }
+
+    /**
+     * The default in-memory {@link OntMetrics} implementation, based on {@link LongAdder}s.
+     * It forms a tree: a root is for a manager and children are for ontologies;
+     * each recorded number is propagated up to the root.
+     * The whole tree can be exposed through JMX by the method {@link #register()};
+     * the children created after the registration are registered automatically,
+     * and they are unregistered on {@link #release()}.
+     */
+    @SuppressWarnings("WeakerAccess")
+    class Registry implements OntMetrics, RegistryMXBean {
+        public static final String DOMAIN = "ru.avicomp.ontapi";
+
+        protected final Registry parent;
+        protected final String name;
+        protected final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+        protected final ConcurrentMap<String, LongAdder> times = new ConcurrentHashMap<>();
+        protected final ConcurrentMap<String, LongAdder> calls = new ConcurrentHashMap<>();
+        protected final ConcurrentMap<String, Registry> children = new ConcurrentHashMap<>();
+        protected volatile MBeanServer server;
+        protected volatile ObjectName objectName;
+
+        /**
+         * Creates a root registry.
+         *
+         * @param name String, a name to display, not {@code null}
+         */
+        public Registry(String name) {
+            this(null, name);
+        }
+
+        protected Registry(Registry parent, String name) {
+            this.parent = parent;
+            this.name = Objects.requireNonNull(name, "Null name");
+        }
+
+        private static void add(ConcurrentMap<String, LongAdder> map, String key, long delta) {
+            LongAdder res = map.get(key);
+            if (res == null) {
+                res = map.computeIfAbsent(key, x -> new LongAdder());
+            }
+            res.add(delta);
+        }
+
+        private static <X> Map<String, X> snapshot(Map<String, LongAdder> map, Function<LongAdder, X> value) {
+            Map<String, X> res = new TreeMap<>();
+            map.forEach((k, v) -> res.put(k, value.apply(v)));
+            return res;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void count(String name, long delta) {
+            add(counters, name, delta);
+            if (parent != null) parent.count(name, delta);
+        }
+
+        @Override
+        public void time(String name, long nanos) {
+            add(times, name, nanos);
+            add(calls, name, 1);
+            if (parent != null) parent.time(name, nanos);
+        }
+
+        /**
+         * Gets the counter value.
+         *
+         * @param name String
+         * @return long
+         */
+        public long getCounter(String name) {
+            LongAdder res = counters.get(name);
+            return res == null ? 0 : res.sum();
+        }
+
+        /**
+         * Gets the total time of the timer in nanoseconds.
+         *
+         * @param name String
+         * @return long
+         */
+        public long getTime(String name) {
+            LongAdder res = times.get(name);
+            return res == null ? 0 : res.sum();
+        }
+
+        @Override
+        public Map<String, Long> getCounters() {
+            return snapshot(counters, LongAdder::sum);
+        }
+
+        @Override
+        public Map<String, Double> getTimes() {
+            return snapshot(times, x -> x.sum() / 1_000_000d);
+        }
+
+        @Override
+        public Map<String, Long> getCalls() {
+            return snapshot(calls, LongAdder::sum);
+        }
+
+        @Override
+        public Map<String, Double> getHitRatios() {
+            Map<String, Double> res = new TreeMap<>();
+            counters.forEach((k, v) -> {
+                if (!k.endsWith(HIT)) return;
+                String cache = k.substring(0, k.length() - HIT.length());
+                long hits = v.sum();
+                long total = hits + getCounter(cache + MISS);
+                if (total != 0) {
+                    res.put(cache, hits / (double) total);
+                }
+            });
+            return res;
+        }
+
+        @Override
+        public void reset() {
+            counters.values().forEach(LongAdder::reset);
+            times.values().forEach(LongAdder::reset);
+            calls.values().forEach(LongAdder::reset);
+        }
+
+        /**
+         * Lists all the children.
+         *
+         * @return Collection of {@link Registry}s
+         */
+        public Collection<Registry> children() {
+            return Collections.unmodifiableCollection(children.values());
+        }
+
+        /**
+         * {@inheritDoc}
+         * If the name is already in use, a numeric suffix is added to make it unique.
+         *
+         * @param name String, the display name of the ontology, not {@code null}
+         * @return {@link Registry}
+         */
+        @Override
+        public Registry forModel(String name) {
+            Objects.requireNonNull(name, "Null name");
+            String key = name;
+            Registry res;
+            for (int i = 1; ; i++) {
+                Registry candidate = new Registry(this, key);
+                if ((res = children.putIfAbsent(key, candidate)) == null) {
+                    res = candidate;
+                    break;
+                }
+                key = name + "#" + i;
+            }
+            if (server != null) {
+                res.register(server, childName(key));
+            }
+            return res;
+        }
+
+        @Override
+        public void release() {
+            unregister();
+            if (parent != null) {
+                parent.children.remove(name, this);
+            }
+        }
+
+        protected ObjectName childName(String key) {
+            try {
+                return new ObjectName(objectName.getCanonicalName() + ",ontology=" + ObjectName.quote(key));
+            } catch (MalformedObjectNameException e) {
+                throw new OntApiException("Can't make JMX name for " + key, e);
+            }
+        }
+
+        /**
+         * Registers this registry and all its children in the platform {@code MBeanServer}
+         * under the name {@code ru.avicomp.ontapi:type=Metrics,name=<name>}.
+         *
+         * @return this instance
+         * @throws OntApiException if the registration fails
+         */
+        public Registry register() throws OntApiException {
+            try {
+                return register(ManagementFactory.getPlatformMBeanServer(),
+                        new ObjectName(DOMAIN + ":type=Metrics,name=" + ObjectName.quote(name)));
+            } catch (MalformedObjectNameException e) {
+                throw new OntApiException("Can't make JMX name for " + name, e);
+            }
+        }
+
+        /**
+         * Registers this registry and all its children in the given {@code MBeanServer}.
+         *
+         * @param server {@link MBeanServer}, not {@code null}
+         * @param name   {@link ObjectName}, not {@code null}
+         * @return this instance
+         * @throws OntApiException if the registration fails
+         */
+        public Registry register(MBeanServer server, ObjectName name) throws OntApiException {
+            try {
+                server.registerMBean(this, name);
+            } catch (JMException e) {
+                throw new OntApiException("Can't register " + name, e);
+            }
+            this.server = server;
+            this.objectName = name;
+            children.forEach((k, v) -> v.register(server, childName(k)));
+            return this;
+        }
+
+        /**
+         * Unregisters this registry and all its children from JMX, if they are registered.
+         */
+        public void unregister() {
+            MBeanServer server = this.server;
+            ObjectName name = this.objectName;
+            if (server == null) return;
+            children.values().forEach(Registry::unregister);
+            this.server = null;
+            this.objectName = null;
+            try {
+                server.unregisterMBean(name);
+            } catch (InstanceNotFoundException e) {
+                // already unregistered
+            } catch (MBeanRegistrationException e) {
+                throw new OntApiException("Can't unregister " + name, e);
+            }
+        }
+
+        /**
+         * Returns the JMX name of this registry.
+         *
+         * @return {@link ObjectName} or {@code null} if it is not registered
+         */
+        public ObjectName getObjectName() {
+            return objectName;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Metrics[%s]%s", name, getCounters());
+        }
+    }
+}
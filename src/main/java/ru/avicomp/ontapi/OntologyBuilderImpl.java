@@ -64,4 +64,18 @@ public class OntologyBuilderImpl implements OntologyFactory.Builder {
     public Graph createGraph() {
         return OntModelFactory.createDefaultGraph();
     }
+
+    /**
+     * A builder that creates ontologies backed by {@link ru.avicomp.ontapi.jena.OffHeapGraph off-heap graph}s.
+     * To use it, pass it to {@link OntManagers.ONTAPIProfile#createOntologyFactory(OntologyFactory.Builder)}.
+     *
+     * @since 1.4.0
+     */
+    public static class OffHeap extends OntologyBuilderImpl {
+
+        @Override
+        public Graph createGraph() {
+            return OntModelFactory.createOffHeapGraph();
+        }
+    }
 }
@@ -64,6 +64,26 @@ public interface OntologyFactory extends OWLOntologyFactory {
                                OWLOntologyDocumentSource source,
                                OntLoaderConfiguration config) throws OWLOntologyCreationException, OntApiException;
 
+    /**
+     * Prepares the given document source for the loading, e.g. reads the document into a graph in advance.
+     * Unlike {@link #loadOntology(OntologyManager, OWLOntologyDocumentSource, OntLoaderConfiguration)}
+     * this method must not change the state of the manager, so it can be called without the manager lock.
+     * The returned source is intended to be passed to the {@code loadOntology} method then.
+     * By default the given source is returned as is.
+     *
+     * @param manager {@link OntologyManager} the ontology manager, not null
+     * @param source  {@link OWLOntologyDocumentSource} the document source, not null
+     * @param config  {@link OntLoaderConfiguration} settings to manage loading process, not null
+     * @return {@link OWLOntologyDocumentSource} to load from
+     * @throws OWLOntologyCreationException if the source could not be read due to some I/O problem
+     * @see Loader#prepare(OWLOntologyDocumentSource, OntologyManager, OntLoaderConfiguration)
+     */
+    default OWLOntologyDocumentSource prepareSource(OntologyManager manager,
+                                                    OWLOntologyDocumentSource source,
+                                                    OntLoaderConfiguration config) throws OWLOntologyCreationException {
+        return source;
+    }
+
     /**
      * Determines if the factory can create an ontology for the specified ontology document IRI.
      * It's a filter method, by default it is allowed to create ontology for any document IRI.
@@ -211,5 +231,23 @@ public interface OntologyFactory extends OWLOntologyFactory {
                            OntologyManager manager,
                            OntLoaderConfiguration conf) throws OWLOntologyCreationException;
 
+        /**
+         * Prepares the document source to be loaded by the {@link #load} method later.
+         * The implementation must not change the state of the manager and its own state,
+         * since it is intended to be called without any lock.
+         * By default the given source is returned as is.
+         *
+         * @param source  {@link OWLOntologyDocumentSource} the source, not null
+         * @param manager {@link OntologyManager}, the manager, not null
+         * @param conf    {@link OntLoaderConfiguration}, the load settings, not null
+         * @return {@link OWLOntologyDocumentSource}
+         * @throws OWLOntologyCreationException if something wrong
+         */
+        default OWLOntologyDocumentSource prepare(OWLOntologyDocumentSource source,
+                                                  OntologyManager manager,
+                                                  OntLoaderConfiguration conf) throws OWLOntologyCreationException {
+            return source;
+        }
+
     }
 }
@@ -76,6 +76,13 @@ public class OntologyFactoryImpl implements OntologyFactory {
         return loader.load(source, manager, configuration);
     }
 
+    @Override
+    public OWLOntologyDocumentSource prepareSource(OntologyManager manager,
+                                                   OWLOntologyDocumentSource source,
+                                                   OntLoaderConfiguration configuration) throws OWLOntologyCreationException {
+        return loader.prepare(source, manager, configuration);
+    }
+
     public static class ConfigMismatchException extends OWLOntologyCreationException {
         public ConfigMismatchException(String s) {
             super(s);
@@ -35,6 +35,7 @@ import ru.avicomp.ontapi.transforms.TransformException;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
 /**
@@ -48,6 +49,12 @@ import java.util.stream.Collectors;
  * Notice that using that OWL-API Loader everywhere and always is dangerous:
  * 1) a graph may contain errors since OWL-API parsers are OWL-Axioms centric and may not contain very good code,
  * 2) they affect manager: in case of error the managers state may be broken.
+ * If {@link OntLoaderConfiguration#getLoadImportsParallelism()} is greater than one,
+ * the documents from the imports closure are fetched and parsed in parallel (see {@link #fetchImports(GraphInfo, OntologyManager, OntLoaderConfiguration)}),
+ * while all the bookkeeping (i.e. working with the manager, IRI mappers, and the internal state) is still performed
+ * in the calling thread, which holds the manager lock.
+ * The primary document can also be read in advance, without any lock,
+ * see {@link #prepare(OWLOntologyDocumentSource, OntologyManager, OntLoaderConfiguration)}.
  *
  * @see OWLLoaderImpl
  */
@@ -62,6 +69,8 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
     protected Map<String, GraphInfo> graphs = new LinkedHashMap<>();
     protected Map<IRI, Optional<IRI>> sourceMap = new HashMap<>();
     protected Map<IRI, GraphInfo> loaded = new HashMap<>();
+    // graphs that have been fetched in advance, see #fetchImports:
+    protected Map<String, GraphInfo> fetched = new HashMap<>();
 
     /**
      * Constructs a Loader instance based on the given Builder, and (as option) another Loader,
@@ -90,6 +99,9 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
             // null key in case of anonymous ontology.
             // But: only one anonymous is allowed (as root of imports tree), if there is no mapping in manager.
             graphs.put(primary.getURI(), primary);
+            if (config.getLoadImportsParallelism() > 1) {
+                fetchImports(primary, manager, config);
+            }
             // first expand graphs map by creating primary model:
             OntologyModel res = OntApiException.notNull(createModel(primary, manager, config), "Should never happen");
             // then process all the rest dependent models (we have already all graphs compiled, now need populate them as models):
@@ -105,10 +117,170 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         }
     }
 
+    /**
+     * Reads the graph from the given document source in advance, without touching the inner state.
+     * If the graph has no imports, it is also transformed here, since the transforms do not depend on anything else.
+     * Otherwise the transforms are performed on the whole imports closure while loading, as usual.
+     * The manager is only used to map the document IRI,
+     * so this method can be called without the manager lock and in parallel.
+     * If the source cannot be read by Jena, it is returned as is
+     * to be handled by the OWL-API parsers in the usual way while loading.
+     *
+     * @param source  {@link OWLOntologyDocumentSource} the source, not null
+     * @param manager {@link OntologyManager}, the manager, not null
+     * @param config  {@link OntLoaderConfiguration}, the load settings, not null
+     * @return {@link OWLOntologyDocumentSource}, either {@link PreparedSource} or the same source
+     * @throws OWLOntologyCreationException if some I/O problem occurs or the transforms fail
+     */
+    @Override
+    public OWLOntologyDocumentSource prepare(OWLOntologyDocumentSource source,
+                                             OntologyManager manager,
+                                             OntLoaderConfiguration config) throws OWLOntologyCreationException {
+        if (config.isUseOWLParsersToLoad() || source instanceof OntGraphDocumentSource) {
+            return source;
+        }
+        IRI doc = source.getDocumentIRI();
+        OWLOntologyDocumentSource src = OWLAdapter.get().asIMPL(manager).mapIRI(doc)
+                .map(IRIDocumentSource::new)
+                .map(OWLOntologyDocumentSource.class::cast)
+                .orElse(source);
+        GraphInfo info;
+        try {
+            info = readGraph(src, doc, config);
+        } catch (OntologyFactoryImpl.UnsupportedFormatException e) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Can't prepare <{}> using jena: {}", doc, e.getMessage());
+            }
+            return source;
+        }
+        GraphTransformers.Stats stats = null;
+        if (config.isPerformTransformation() && !info.noTransforms() && info.getImports().isEmpty()) {
+            if (LOGGER.isDebugEnabled())
+                LOGGER.debug("Perform graph transformations on <{}> in advance.", info.name());
+            try {
+                stats = config.getGraphTransformers().transform(info.getGraph());
+            } catch (TransformException t) {
+                throw new OntologyFactoryImpl.OWLTransformException(t);
+            }
+        }
+        return new PreparedSource(info.getGraph(), info.getFormat(), doc, stats, !info.noTransforms() && stats == null);
+    }
+
     public void clear() {
         graphs.clear();
         sourceMap.clear();
         loaded.clear();
+        fetched.clear();
+    }
+
+    /**
+     * Fetches and parses all graphs from the imports closure of the given graph in parallel,
+     * using a pool with {@link OntLoaderConfiguration#getLoadImportsParallelism()} threads.
+     * The imports of each graph are scheduled as soon as the graph is read.
+     * The results are stored in the {@link #fetched} map to be used later by the
+     * {@link #fetchGraph(String, OntologyManager, OntLoaderConfiguration)} method,
+     * so the imports hierarchy is assembled in the same order and in the same way as in the sequential mode.
+     * Only the reading through Jena is performed in the pool,
+     * everything else (e.g. a search in the manager or a IRI mapping) is done in the current thread.
+     * Any error is ignored here: a failed graph will be loaded again in the usual (sequential) way,
+     * so all the problems are handled (and reported) by the regular mechanism.
+     * Note: the IRI mappers can be called twice for the same document.
+     *
+     * @param root    {@link GraphInfo} the primary graph
+     * @param manager {@link OntologyManager}
+     * @param config  {@link OntLoaderConfiguration}
+     */
+    protected void fetchImports(GraphInfo root, OntologyManager manager, OntLoaderConfiguration config) {
+        if (root.getImports().isEmpty()) return;
+        Map<IRI, Optional<IRI>> mapping = new HashMap<>(sourceMap);
+        ExecutorService executor = createExecutor(config.getLoadImportsParallelism());
+        try {
+            CompletionService<GraphInfo> service = new ExecutorCompletionService<>(executor);
+            Map<Future<GraphInfo>, String> tasks = new HashMap<>();
+            Set<String> seen = new HashSet<>();
+            seen.add(root.getURI());
+            Deque<GraphInfo> queue = new ArrayDeque<>();
+            queue.add(root);
+            while (!queue.isEmpty() || !tasks.isEmpty()) {
+                GraphInfo info = queue.poll();
+                if (info != null) {
+                    for (String uri : info.getImports()) {
+                        if (!seen.add(uri) || config.isIgnoredImport(IRI.create(uri))) continue;
+                        OWLOntologyDocumentSource source = findDocumentSource(uri, manager);
+                        if (source == null) continue;
+                        IRI doc = source.getDocumentIRI();
+                        OWLOntologyDocumentSource src = documentIRI(manager, doc)
+                                .map(IRIDocumentSource::new)
+                                .map(OWLOntologyDocumentSource.class::cast)
+                                .orElse(source);
+                        tasks.put(service.submit(() -> readGraph(src, doc, config)), uri);
+                    }
+                    continue;
+                }
+                Future<GraphInfo> f = service.take();
+                String uri = tasks.remove(f);
+                try {
+                    GraphInfo res = f.get();
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Graph <{}> is fetched by jena. Source: {}. Format: {}",
+                                res.name(), res.getSource(), res.getFormat());
+                    }
+                    fetched.put(uri, res);
+                    queue.add(res);
+                } catch (ExecutionException e) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Can't fetch <{}>: '{}'", uri, e.getCause().getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OntApiException("Interrupted while loading imports of " + root.name(), e);
+        } finally {
+            executor.shutdownNow();
+            // restore the state to be sure that the IRI mappers are handled in the usual way
+            sourceMap.clear();
+            sourceMap.putAll(mapping);
+        }
+    }
+
+    /**
+     * Finds a document source to read in advance.
+     * Does the same things as {@link #fetchGraph(String, OntologyManager, OntLoaderConfiguration)},
+     * but without actual loading.
+     *
+     * @param uri     String the ontology uri
+     * @param manager {@link OntologyManager}
+     * @return {@link OWLOntologyDocumentSource} or {@code null} if there is nothing to read
+     */
+    protected OWLOntologyDocumentSource findDocumentSource(String uri, OntologyManager manager) {
+        IRI ontologyIRI = IRI.create(uri);
+        if (findModel(manager, ontologyIRI) != null) {
+            return null;
+        }
+        IRI documentIRI = documentIRI(manager, ontologyIRI).orElse(ontologyIRI);
+        if (findModel(manager, documentIRI) != null) {
+            return null;
+        }
+        OWLOntologyDocumentSource source = documentSource(manager, ontologyIRI, documentIRI);
+        if (source instanceof OntGraphDocumentSource || loaded.containsKey(source.getDocumentIRI())) {
+            return null;
+        }
+        return source;
+    }
+
+    /**
+     * Creates an executor service to load graphs in parallel.
+     *
+     * @param threads int, the maximum number of threads
+     * @return {@link ExecutorService}
+     */
+    protected ExecutorService createExecutor(int threads) {
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread res = new Thread(r, "ont-api-loader");
+            res.setDaemon(true);
+            return res;
+        });
     }
 
     /**
@@ -147,6 +319,7 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
             }
             // put ontology inside manager:
             OWLAdapter.get().asIMPL(manager).ontologyCreated(res);
+            recordMetrics(res, info);
             OntFormat format = OntApiException.notNull(info.getFormat(), "Null format while loading " + info.name());
             OWLDocumentFormat owl = format.newOWLFormat();
             if (owl.isPrefixOWLDocumentFormat()) {
@@ -164,6 +337,22 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         }
     }
 
+    /**
+     * Records the durations of the graph transformations into the ontology's {@link OntMetrics metrics}.
+     * Only the transforms performed on the base graph are taken into account:
+     * each imported ontology records its own numbers, when it is created.
+     *
+     * @param model {@link OntologyModel}, just created
+     * @param info  {@link GraphInfo} container with info about graph
+     */
+    protected void recordMetrics(OntologyModel model, GraphInfo info) {
+        GraphTransformers.Stats stats = info.getStats();
+        if (stats == null || !(model instanceof OntBaseModelImpl)) return;
+        OntMetrics metrics = ((OntBaseModelImpl) model).getConfig().getMetrics();
+        if (!metrics.isEnabled()) return;
+        stats.getTimes().forEach((name, nanos) -> metrics.time(OntMetrics.TRANSFORM + name, nanos));
+    }
+
     /**
      * Assembles the {@link UnionGraph}, performs transformations on it and populates {@link #graphs graphs collection}.
      *
@@ -193,10 +382,17 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
                 .collect(Collectors.toSet());
         if (LOGGER.isDebugEnabled())
             LOGGER.debug("Perform graph transformations on <{}>.", info.name());
+        int threads = config.getLoadImportsParallelism();
+        ExecutorService executor = threads > 1 && !graph.getUnderlying().isEmpty() ? createExecutor(threads) : null;
         try {
-            stats = config.getGraphTransformers().transform(graph, transformed);
+            GraphTransformers.Store store = config.getGraphTransformers();
+            stats = executor == null ? store.transform(graph, transformed) : store.transform(graph, transformed, executor);
         } catch (TransformException t) {
             throw new OntologyFactoryImpl.OWLTransformException(t);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
         }
         info.setStats(stats);
         stats.listStats(true)
@@ -315,13 +511,27 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         if (res != null) {
             return toGraphInfo(res, null);
         }
-        // Document Source Mappers:
-        OWLOntologyDocumentSource source = manager.getDocumentSourceMappers().stream()
+        GraphInfo info = fetched.remove(uri);
+        if (info != null) {
+            return info;
+        }
+        return loadGraph(documentSource(manager, ontologyIRI, documentIRI), manager, config);
+    }
+
+    /**
+     * Finds a document source for the given ontology IRI using Document Source Mappers.
+     *
+     * @param manager     {@link OntologyManager}
+     * @param ontologyIRI {@link IRI} the ontology IRI
+     * @param documentIRI {@link IRI} the document IRI to use if there is no mapping
+     * @return {@link OWLOntologyDocumentSource}
+     */
+    protected OWLOntologyDocumentSource documentSource(OntologyManager manager, IRI ontologyIRI, IRI documentIRI) {
+        return manager.getDocumentSourceMappers().stream()
                 .map(f -> f.map(ontologyIRI))
                 .filter(Objects::nonNull)
                 .findFirst()
                 .orElse(new IRIDocumentSource(documentIRI));
-        return loadGraph(source, manager, config);
     }
 
     /**
@@ -431,7 +641,11 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
             OntGraphDocumentSource src = (OntGraphDocumentSource) source;
             Graph graph = src.getGraph();
             OntFormat format = src.getOntFormat();
-            return createGraphInfo(graph, format, source.getDocumentIRI(), src.withTransforms());
+            GraphInfo res = createGraphInfo(graph, format, source.getDocumentIRI(), src.withTransforms());
+            if (src instanceof PreparedSource && ((PreparedSource) src).getStats() != null) {
+                res.setStats(((PreparedSource) src).getStats());
+            }
+            return res;
         }
         if (loaded.containsKey(source.getDocumentIRI())) {
             return loaded.get(source.getDocumentIRI());
@@ -443,9 +657,7 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
                 .orElse(source);
         try {
             // jena:
-            Graph graph = builder.createGraph();
-            OntFormat format = OntGraphUtils.readGraph(graph, src, config);
-            GraphInfo res = createGraphInfo(graph, format, doc, true);
+            GraphInfo res = readGraph(src, doc, config);
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Graph <{}> is loaded by jena. Source: {}[{}]. Format: {}",
                         res.name(), source.getClass().getSimpleName(), res.getSource(), res.getFormat());
@@ -491,6 +703,26 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
         }
     }
 
+    /**
+     * Reads the {@link Graph Jena Graph} from the given document source using Apache Jena API.
+     * Note: this method does not use the manager and the inner state, so it can be called in parallel.
+     * A graph in the {@link OntFormat#ONT_SNAPSHOT snapshot} format is considered as already transformed.
+     *
+     * @param source {@link OWLOntologyDocumentSource the document source}
+     * @param doc    {@link IRI} the document IRI to be associated with the result
+     * @param config {@link OntLoaderConfiguration the load configuration}
+     * @return {@link GraphInfo graph-info} a wrapper around jena {@link Graph}
+     * @throws OntologyFactoryImpl.UnsupportedFormatException if the format is not supported by Jena
+     * @throws OWLOntologyCreationException                   if some I/O problem occurs
+     */
+    protected GraphInfo readGraph(OWLOntologyDocumentSource source,
+                                  IRI doc,
+                                  OntLoaderConfiguration config) throws OWLOntologyCreationException {
+        Graph graph = builder.createGraph();
+        OntFormat format = OntGraphUtils.readGraph(graph, source, config);
+        return createGraphInfo(graph, format, doc, format != OntFormat.ONT_SNAPSHOT);
+    }
+
     /**
      * Creates a copy of specified manager special for loading operations through OWL-API mechanisms.
      * All loaded content would be stored inside a copy, not the original manager.
@@ -587,6 +819,62 @@ public class OntologyLoaderImpl implements OntologyFactory.Loader {
                 .orElseThrow(IllegalStateException::new);
     }
 
+    /**
+     * A document source with the graph, that has been read (and possibly transformed) in advance.
+     * Keeps the document IRI of the original source
+     * and the transform statistics to have the same ontology metadata as in the case of the usual loading.
+     *
+     * @see #prepare(OWLOntologyDocumentSource, OntologyManager, OntLoaderConfiguration)
+     */
+    public static class PreparedSource extends OntGraphDocumentSource {
+        protected final Graph graph;
+        protected final OntFormat format;
+        protected final IRI doc;
+        protected final GraphTransformers.Stats stats;
+        protected final boolean transforms;
+
+        protected PreparedSource(Graph graph,
+                                 OntFormat format,
+                                 IRI doc,
+                                 GraphTransformers.Stats stats,
+                                 boolean transforms) {
+            this.graph = Objects.requireNonNull(graph, "Null graph");
+            this.format = format;
+            this.doc = Objects.requireNonNull(doc, "Null document IRI");
+            this.stats = stats;
+            this.transforms = transforms;
+        }
+
+        @Override
+        public Graph getGraph() {
+            return graph;
+        }
+
+        @Override
+        public OntFormat getOntFormat() {
+            return format;
+        }
+
+        @Override
+        public IRI getDocumentIRI() {
+            return doc;
+        }
+
+        @Override
+        public boolean withTransforms() {
+            return transforms;
+        }
+
+        /**
+         * Returns the statistics of the transforms performed in advance.
+         *
+         * @return {@link GraphTransformers.Stats} or {@code null} if the graph has not been transformed
+         */
+        public GraphTransformers.Stats getStats() {
+            return stats;
+        }
+    }
+
     /**
      * A container for a {@link Graph graph} and some load parameters, such as source-iri and format.
      * Used for simplification as temporary storage by this factory only.
@@ -29,6 +29,10 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 
@@ -686,6 +690,46 @@ public interface OntologyManager extends OWLOntologyManager {
         return loadOntologyFromOntologyDocument(new StreamDocumentSource(input));
     }
 
+    /**
+     * Loads an ontology from the given document source asynchronously, using the specified executor.
+     * The result is the same as for the method {@link #loadOntologyFromOntologyDocument(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration)}.
+     * The returned future is completed exceptionally with {@link OWLOntologyCreationException} as a cause,
+     * if something is wrong in loading process.
+     * The progress can be tracked through the {@link OWLOntologyLoaderListener loader listeners} as usual.
+     * By default the whole loading is simply performed in the executor's thread,
+     * the implementation may hold the manager lock for a shorter time.
+     *
+     * @param source   {@link OWLOntologyDocumentSource}, not {@code null}
+     * @param conf     {@link OWLOntologyLoaderConfiguration}, not {@code null}
+     * @param executor {@link Executor} to run the loading, not {@code null}
+     * @return {@link CompletableFuture} with the {@link OntologyModel} newly loaded ONT-API ontology instance
+     * @since 1.4.0
+     */
+    default CompletableFuture<OntologyModel> loadOntologyFromOntologyDocumentAsync(@Nonnull OWLOntologyDocumentSource source,
+                                                                                   @Nonnull OWLOntologyLoaderConfiguration conf,
+                                                                                   @Nonnull Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return loadOntologyFromOntologyDocument(source, conf);
+            } catch (OWLOntologyCreationException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Loads an ontology from the given document source asynchronously using default {@link OntLoaderConfiguration Loader Settings}
+     * in the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param source {@link OWLOntologyDocumentSource}, not {@code null}
+     * @return {@link CompletableFuture} with the {@link OntologyModel} newly loaded ONT-API ontology instance
+     * @see #loadOntologyFromOntologyDocumentAsync(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration, Executor)
+     * @since 1.4.0
+     */
+    default CompletableFuture<OntologyModel> loadOntologyFromOntologyDocumentAsync(@Nonnull OWLOntologyDocumentSource source) {
+        return loadOntologyFromOntologyDocumentAsync(source, getOntologyLoaderConfiguration(), ForkJoinPool.commonPool());
+    }
+
     /**
      * Gets {@link OntGraphModel Ontology Graph Model} by the ontology and version IRIs passed as strings.
      *
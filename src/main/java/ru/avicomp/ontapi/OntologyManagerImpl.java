@@ -18,6 +18,7 @@ import org.apache.commons.io.output.WriterOutputStream;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.impl.WrappedGraph;
 import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
 import org.apache.jena.shared.JenaException;
 import org.apache.jena.shared.PrefixMapping;
 import org.semanticweb.owlapi.io.*;
@@ -37,6 +38,7 @@ import ru.avicomp.ontapi.internal.InternalModelHolder;
 import ru.avicomp.ontapi.jena.UnionGraph;
 import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
 import ru.avicomp.ontapi.jena.utils.Graphs;
+import ru.avicomp.ontapi.jena.utils.StreamingRDF;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -45,11 +47,15 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 
 /**
@@ -71,6 +77,8 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
     protected OntWriterConfiguration writerConfig;
     // Loading Cache for IRIs, that is shared between ontologies that belong to this manager.
     protected transient InternalCache.Loading<String, IRI> iris;
+    // Runtime metrics, shared between ontologies that belong to this manager:
+    protected transient volatile OntMetrics metrics = OntMetrics.NO_OP;
     // OntologyFactory collection:
     protected final RWLockedCollection<OWLOntologyFactory> ontologyFactories;
     // IRI mappers
@@ -149,6 +157,29 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         return InternalCache.createBounded(IRI::create, NoOpReadWriteLock.isConcurrent(lock), size);
     }
 
+    /**
+     * Returns the runtime metrics of this manager.
+     * Each ontology of the manager records its numbers into its own child metrics,
+     * which are also reflected in the manager's one.
+     *
+     * @return {@link OntMetrics}, not {@code null}, {@link OntMetrics#NO_OP} by default
+     */
+    public OntMetrics getMetrics() {
+        OntMetrics res = metrics;
+        return res == null ? OntMetrics.NO_OP : res;
+    }
+
+    /**
+     * Sets the runtime metrics to this manager.
+     * The metrics are taken into account for the ontologies that are created or loaded after this call.
+     * To expose the numbers through JMX use {@link OntMetrics.Registry#register()}.
+     *
+     * @param metrics {@link OntMetrics}, not {@code null}
+     */
+    public void setMetrics(OntMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "Null metrics");
+    }
+
     /**
      * Answers {@code true} if this manager must be thread-safe.
      *
@@ -1228,12 +1259,19 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
                                  AtomicBoolean rollbackRequested,
                                  AtomicBoolean allNoOps,
                                  List<OWLOntologyChange> appliedChanges) {
-        for (OWLOntologyChange change : changes) {
+        for (int i = 0; i < changes.size(); ) {
             // once rollback is requested by a failed change, do not carry
             // out any more changes
             if (rollbackRequested.get()) {
+                break;
+            }
+            int end = batchEnd(changes, i);
+            if (end - i > 1) {
+                applyBatch(changes.subList(i, end), allNoOps, appliedChanges);
+                i = end;
                 continue;
             }
+            OWLOntologyChange change = changes.get(i++);
             ChangeApplied enactChangeApplication = enactChangeApplication(change);
             if (enactChangeApplication == ChangeApplied.UNSUCCESSFULLY) {
                 rollbackRequested.set(true);
@@ -1246,6 +1284,58 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         }
     }
 
+    /**
+     * Finds the end of a run of changes that can be applied as a single batch, starting from the given position.
+     * A batch consists of consecutive {@link OWLAxiomChange axiom changes} for the same ONT-API ontology,
+     * each of which is {@link #isChangeApplicable(OWLOntologyChange) applicable}.
+     *
+     * @param changes List of {@link OWLOntologyChange}
+     * @param from    int, the start position
+     * @return int, the end position (exclusive), {@code from} if there is no batch
+     * @see OntologyModelImpl#applyDirectChanges(List)
+     */
+    protected int batchEnd(List<? extends OWLOntologyChange> changes, int from) {
+        OWLOntology ont = changes.get(from).getOntology();
+        if (!(ont instanceof OntologyModelImpl || ont instanceof OntologyModelImpl.Concurrent)) {
+            return from;
+        }
+        int res = from;
+        while (res < changes.size()) {
+            OWLOntologyChange c = changes.get(res);
+            if (!c.isAxiomChange() || c.getOntology() != ont || !isChangeApplicable(c)) {
+                break;
+            }
+            res++;
+        }
+        return res;
+    }
+
+    /**
+     * Applies the given axiom changes, which belong to the same ontology, as a single batch.
+     *
+     * @param changes        List of {@link OWLOntologyChange}s, all are {@link OWLAxiomChange}s
+     * @param allNoOps       boolean
+     * @param appliedChanges List of {@link OWLOntologyChange}
+     */
+    protected void applyBatch(List<? extends OWLOntologyChange> changes,
+                              AtomicBoolean allNoOps,
+                              List<OWLOntologyChange> appliedChanges) {
+        @SuppressWarnings("unchecked")
+        List<OWLAxiomChange> axiomChanges = (List<OWLAxiomChange>) changes;
+        OWLOntology ont = changes.get(0).getOntology();
+        List<ChangeApplied> res = ont instanceof OntologyModelImpl ?
+                ((OntologyModelImpl) ont).applyDirectChanges(axiomChanges) :
+                ((OntologyModelImpl.Concurrent) ont).applyDirectChanges(axiomChanges);
+        for (int i = 0; i < changes.size(); i++) {
+            OWLOntologyChange change = changes.get(i);
+            if (res.get(i) == ChangeApplied.SUCCESSFULLY) {
+                allNoOps.set(false);
+                appliedChanges.add(change);
+            }
+            listeners.fireChangeApplied(change);
+        }
+    }
+
     /**
      * @param appliedChanges List of {@link OWLOntologyChange}
      */
@@ -1463,6 +1553,120 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         }
     }
 
+    /**
+     * Loads an ontology asynchronously.
+     * The document is read (and transformed, if it has no imports) in the executor's thread without any lock,
+     * the write lock is held only while the imports are resolved and the ontology is registered in the manager.
+     * So, for a concurrent manager, several documents can be read simultaneously,
+     * while the other ontologies remain available for reading.
+     * A non-concurrent manager, as usual, must not be accessed from several threads at the same time.
+     *
+     * @param source   {@link OWLOntologyDocumentSource}, not {@code null}
+     * @param conf     {@link OWLOntologyLoaderConfiguration}, not {@code null}
+     * @param executor {@link Executor}, not {@code null}
+     * @return {@link CompletableFuture} with the {@link OntologyModel}
+     * @see #loadAsync(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration)
+     */
+    @Override
+    public CompletableFuture<OntologyModel> loadOntologyFromOntologyDocumentAsync(@Nonnull OWLOntologyDocumentSource source,
+                                                                                  @Nonnull OWLOntologyLoaderConfiguration conf,
+                                                                                  @Nonnull Executor executor) {
+        OntApiException.notNull(source, "Null source.");
+        OntApiException.notNull(conf, "Null conf.");
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return loadAsync(source, conf);
+            } catch (OWLOntologyCreationException e) {
+                throw new CompletionException(e);
+            }
+        }, OntApiException.notNull(executor, "Null executor."));
+    }
+
+    /**
+     * Loads an ontology in the current thread, holding the write lock only to register the result.
+     * The loader listeners are notified under the write lock, as in the synchronous loading:
+     * the started event is fired before the document is read,
+     * and the finished event is fired in any case, with the exception if the document cannot be read or loaded.
+     *
+     * @param source {@link OWLOntologyDocumentSource}
+     * @param conf   {@link OWLOntologyLoaderConfiguration}
+     * @return {@link OntologyModel}
+     * @throws OWLOntologyCreationException if smth wrong
+     * @see #prepareSource(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration)
+     */
+    protected OntologyModel loadAsync(OWLOntologyDocumentSource source,
+                                      OWLOntologyLoaderConfiguration conf) throws OWLOntologyCreationException {
+        IRI doc = source.getDocumentIRI();
+        getLock().writeLock().lock();
+        try {
+            listeners.fireStartedLoadingEvent(new OntologyID(), doc, false);
+        } finally {
+            getLock().writeLock().unlock();
+        }
+        Exception ex = null;
+        OWLOntologyID id = new OntologyID();
+        try {
+            OWLOntologyDocumentSource src = prepareSource(source, conf);
+            getLock().writeLock().lock();
+            try {
+                listeners.startLoading();
+                try {
+                    OntologyModel res = load(src, conf);
+                    id = res.getOntologyID();
+                    return res;
+                } finally {
+                    listeners.finishLoading();
+                }
+            } finally {
+                getLock().writeLock().unlock();
+            }
+        } catch (OWLOntologyCreationException e) {
+            ex = e;
+            throw e;
+        } catch (OWLRuntimeException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof OWLOntologyCreationException) {
+                ex = (OWLOntologyCreationException) cause;
+                throw (OWLOntologyCreationException) cause;
+            }
+            ex = e;
+            throw e;
+        } catch (RuntimeException e) {
+            ex = e;
+            throw e;
+        } finally {
+            getLock().writeLock().lock();
+            try {
+                listeners.fireFinishedLoadingEvent(id, doc, false, ex);
+            } finally {
+                getLock().writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Prepares the document source for loading using the first suitable {@link OntologyFactory ontology factory}.
+     * No lock: the factory must not change the manager state.
+     *
+     * @param source {@link OWLOntologyDocumentSource}
+     * @param conf   {@link OWLOntologyLoaderConfiguration}
+     * @return {@link OWLOntologyDocumentSource}, either the prepared source or the same
+     * @throws OWLOntologyCreationException if the source cannot be read
+     * @see OntologyFactory#prepareSource(OntologyManager, OWLOntologyDocumentSource, OntLoaderConfiguration)
+     */
+    protected OWLOntologyDocumentSource prepareSource(OWLOntologyDocumentSource source,
+                                                     OWLOntologyLoaderConfiguration conf) throws OWLOntologyCreationException {
+        for (OWLOntologyFactory factory : getOntologyFactories()) {
+            if (!factory.canAttemptLoading(source))
+                continue;
+            if (factory instanceof OntologyFactory) {
+                return ((OntologyFactory) factory).prepareSource(this, source, OWLAdapter.get().asONT(conf));
+            }
+            break;
+        }
+        return source;
+    }
+
     /**
      * Inner method. no lock.
      *
@@ -1716,6 +1920,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
             }
         }
         OutputStream os = null;
+        boolean opened = false;
         if (target.getOutputStream().isPresent()) {
             os = target.getOutputStream().get();
         } else if (target.getDocumentIRI().isPresent()) {
@@ -1728,6 +1933,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
             } catch (IOException e) {
                 throw new OWLOntologyStorageIOException(e);
             }
+            opened = true;
         } else if (target.getWriter().isPresent()) {
             os = new WriterOutputStream(target.getWriter().get(), StandardCharsets.UTF_8);
         }
@@ -1745,23 +1951,59 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
                 }
             };
         }
+        OntWriterConfiguration conf = getOntologyWriterConfiguration();
+        RDFFormat stream = conf.isUseStreamWriters() ? StreamingRDF.getFormat(format.getLang()) : null;
+        boolean closed = !opened;
         try {
-            RDFDataMgr.write(os, graph, format.getLang());
+            if (stream == null) {
+                RDFDataMgr.write(os, graph, format.getLang());
+            } else {
+                StreamingRDF.write(graph, os, stream, conf.getWriteParallelism());
+            }
+            if (opened) {
+                // the last buffer and the gzip trailer are written only on close
+                os.close();
+                closed = true;
+            }
         } catch (JenaException e) {
             throw new OWLOntologyStorageException("Can't save " + ont.getOntologyID() + ". Format=" + format, e);
+        } catch (IOException e) {
+            throw new OWLOntologyStorageIOException(e);
+        } finally {
+            if (!closed) {
+                // an exception is already being thrown, so just release the resource
+                try {
+                    os.close();
+                } catch (IOException e) {
+                    LOGGER.debug("Can't close the output stream for {}: '{}'", ont.getOntologyID(), e.getMessage());
+                }
+            }
         }
     }
 
+    /**
+     * Opens an output stream for the given document IRI.
+     * If the IRI ends with {@code .gz}, the stream is compressed with GZIP, otherwise it is buffered.
+     * The stream is closed by the caller, and a failure on close means the save has failed.
+     *
+     * @param iri {@link IRI}
+     * @return {@link OutputStream}
+     * @throws IOException if the stream can not be opened
+     */
     @SuppressWarnings("ResultOfMethodCallIgnored")
-    private static OutputStream openStream(IRI iri) throws IOException {
+    protected OutputStream openStream(IRI iri) throws IOException {
+        OutputStream res;
         if (OntConfig.DefaultScheme.FILE.same(iri)) {
             File file = new File(iri.toURI());
             file.getParentFile().mkdirs();
-            return new FileOutputStream(file);
+            res = new FileOutputStream(file);
+        } else {
+            URL url = iri.toURI().toURL();
+            URLConnection conn = url.openConnection();
+            res = conn.getOutputStream();
         }
-        URL url = iri.toURI().toURL();
-        URLConnection conn = url.openConnection();
-        return conn.getOutputStream();
+        return iri.getIRIString().endsWith(".gz") ?
+                new GZIPOutputStream(res, 1 << 16) : new BufferedOutputStream(res, 1 << 16);
     }
 
     /**
@@ -1923,10 +2165,28 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
                         "makeImportLoadRequest method.", doc, id);
             }
             fireStartedLoadingEvent(id, doc, loadCount.get() > 0);
+            startLoading();
+        }
+
+        /**
+         * Marks the beginning of a loading process without firing any event.
+         * While something is being loaded, the changes are not broadcast.
+         */
+        protected void startLoading() {
             loadCount.incrementAndGet();
             broadcastChanges.set(false);
         }
 
+        /**
+         * Marks the end of a loading process without firing any event.
+         */
+        protected void finishLoading() {
+            if (loadCount.decrementAndGet() == 0) {
+                broadcastChanges.set(true);
+                // Completed loading ontology and imports
+            }
+        }
+
         /**
          * @param id       {@link OWLOntologyID}
          * @param doc      {@link IRI}
@@ -1940,10 +2200,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         }
 
         protected void fireFinishedLoadingEvent(OWLOntologyID id, IRI doc, @Nullable Exception ex) {
-            if (loadCount.decrementAndGet() == 0) {
-                broadcastChanges.set(true);
-                // Completed loading ontology and imports
-            }
+            finishLoading();
             fireFinishedLoadingEvent(id, doc, loadCount.get() > 0, ex);
         }
 
@@ -27,6 +27,7 @@ import org.semanticweb.owlapi.io.OWLOntologyLoaderMetaData;
 import org.semanticweb.owlapi.io.RDFOntologyHeaderStatus;
 import org.semanticweb.owlapi.io.RDFTriple;
 import org.semanticweb.owlapi.model.*;
+import ru.avicomp.ontapi.jena.OffHeapGraph;
 import ru.avicomp.ontapi.jena.utils.Graphs;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
@@ -169,7 +170,8 @@ public class OntologyMetaData implements OWLOntologyLoaderMetaData {
     }
 
     /**
-     * Loads triple count in lazy manner if the associated graph is {@link org.apache.jena.mem.GraphMem Memory Graph}.
+     * Loads triple count in lazy manner if the associated graph is {@link org.apache.jena.mem.GraphMem Memory Graph}
+     * or {@link OffHeapGraph}.
      * Otherwise returns -1.
      * Lazy loading is in order to relieve performance on loading.
      * Anyway nobody uses this stupid interface.
@@ -182,7 +184,7 @@ public class OntologyMetaData implements OWLOntologyLoaderMetaData {
     }
 
     protected int calcTripleCount() {
-        return graph instanceof GraphMem ? graph.size() : -1;
+        return graph instanceof GraphMem || graph instanceof OffHeapGraph ? graph.size() : -1;
     }
 
     @Override
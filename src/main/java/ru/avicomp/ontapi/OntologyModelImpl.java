@@ -17,6 +17,7 @@ package ru.avicomp.ontapi;
 import org.apache.jena.graph.Graph;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import ru.avicomp.ontapi.internal.AxiomKey;
 import ru.avicomp.ontapi.internal.InternalModel;
 import ru.avicomp.ontapi.internal.InternalModelHolder;
 import ru.avicomp.ontapi.jena.UnionGraph;
@@ -26,10 +27,7 @@ import ru.avicomp.ontapi.jena.model.OntGraphModel;
 import ru.avicomp.ontapi.jena.utils.Graphs;
 
 import javax.annotation.Nonnull;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -69,6 +67,20 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
         return change.accept(getChangeProcessor());
     }
 
+    /**
+     * Applies the given list of axiom changes as a single batch.
+     * The result is the same as if the changes were applied one by one
+     * through the method {@link #applyDirectChange(OWLOntologyChange)},
+     * but the preparation of the model and the invalidation of its caches is performed only once,
+     * see {@link InternalModel#openBatch()}.
+     *
+     * @param changes List of {@link OWLAxiomChange}s ({@link AddAxiom} or {@link RemoveAxiom})
+     * @return List of {@link ChangeApplied}s in the same order as the changes
+     */
+    public List<ChangeApplied> applyDirectChanges(List<? extends OWLAxiomChange> changes) {
+        return getChangeProcessor().visit(changes);
+    }
+
     @Override
     public OntologyManagerImpl getOWLOntologyManager() {
         return (OntologyManagerImpl) super.getOWLOntologyManager();
@@ -100,6 +112,34 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
 
     protected class ChangeProcessor implements OWLOntologyChangeVisitorEx<ChangeApplied> {
 
+        /**
+         * Applies the axiom changes in bulk.
+         * The changes are grouped by {@link AxiomKey axiom type} to process each bucket at once;
+         * the relative order of the changes within a group is preserved,
+         * and the changes from different groups do not interfere with each other.
+         *
+         * @param changes List of {@link OWLAxiomChange}s
+         * @return List of {@link ChangeApplied}s in the same order as the changes
+         */
+        public List<ChangeApplied> visit(List<? extends OWLAxiomChange> changes) {
+            Integer[] order = new Integer[changes.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            // stable sort:
+            Arrays.sort(order, Comparator.comparing(i -> AxiomKey.get(changes.get(i).getAxiom().getAxiomType())));
+            ChangeApplied[] res = new ChangeApplied[order.length];
+            try (InternalModel.Batch batch = getBase().openBatch()) {
+                for (int i : order) {
+                    OWLAxiomChange change = changes.get(i);
+                    boolean changed = change.isAddAxiom() ?
+                            batch.add(change.getAxiom()) : batch.remove(change.getAxiom());
+                    res[i] = changed ? SUCCESSFULLY : NO_OPERATION;
+                }
+            }
+            return Arrays.asList(res);
+        }
+
         @Override
         public ChangeApplied visit(@Nonnull AddAxiom change) {
             OWLAxiom axiom = change.getAxiom();
@@ -203,6 +243,14 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
 
         private static final long serialVersionUID = 5823394836022970162L;
 
+        /**
+         * The immutable snapshot of the axiomatic content,
+         * which is used for lock-free reading if the corresponding option is enabled.
+         *
+         * @see ModelConfig#isContentSnapshotEnabled()
+         */
+        protected transient volatile ContentSnapshot content;
+
         protected Concurrent(OntologyModelImpl delegate, ReadWriteLock lock) {
             super(delegate, lock);
         }
@@ -211,6 +259,108 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
             return (OntologyModelImpl) delegate;
         }
 
+        /**
+         * Applies the given list of axiom changes as a single batch under the write lock.
+         *
+         * @param changes List of {@link OWLAxiomChange}s
+         * @return List of {@link ChangeApplied}s in the same order as the changes
+         * @see OntologyModelImpl#applyDirectChanges(List)
+         */
+        public List<ChangeApplied> applyDirectChanges(List<? extends OWLAxiomChange> changes) {
+            lock.writeLock().lock();
+            try {
+                return delegate().applyDirectChanges(changes);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Returns the actual content snapshot to read from without locking,
+         * or {@code null} if the snapshot reading is disabled by the config.
+         * The snapshot is bound to the {@link InternalModel#getVersion() content version}:
+         * if it is outdated, a new one is assembled under the read lock and then published.
+         * A reader, which has received a snapshot, continues working with it
+         * even if the ontology is modified meanwhile.
+         *
+         * @return {@link ContentSnapshot} or {@code null}
+         */
+        protected ContentSnapshot getContentSnapshot() {
+            InternalModel base = getBase();
+            if (!base.getConfig().isContentSnapshotEnabled()) {
+                return null;
+            }
+            ContentSnapshot res = content;
+            if (res != null && res.isActual(base)) {
+                return res;
+            }
+            lock.readLock().lock();
+            try {
+                base = getBase();
+                res = content;
+                if (res != null && res.isActual(base)) {
+                    return res;
+                }
+                return content = new ContentSnapshot(base);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public Stream<OWLAxiom> axioms() {
+            ContentSnapshot res = getContentSnapshot();
+            return res == null ? super.axioms() : res.axioms();
+        }
+
+        @Override
+        public <T extends OWLAxiom> Stream<T> axioms(AxiomType<T> type) {
+            ContentSnapshot res = getContentSnapshot();
+            return res == null ? super.axioms(type) : res.axioms(type);
+        }
+
+        @Override
+        public Stream<OWLLogicalAxiom> logicalAxioms() {
+            ContentSnapshot res = getContentSnapshot();
+            return res == null ? super.logicalAxioms() : res.logicalAxioms();
+        }
+
+        @Override
+        public int getAxiomCount() {
+            ContentSnapshot res = getContentSnapshot();
+            return res == null ? super.getAxiomCount() : res.count;
+        }
+
+        @Override
+        public <T extends OWLAxiom> int getAxiomCount(AxiomType<T> type) {
+            ContentSnapshot res = getContentSnapshot();
+            return res == null ? super.getAxiomCount(type) : res.axioms.get(type).size();
+        }
+
+        @Override
+        public int getLogicalAxiomCount() {
+            ContentSnapshot res = getContentSnapshot();
+            return res == null ? super.getLogicalAxiomCount() : res.logicalCount;
+        }
+
+        @Override
+        public boolean containsAxiom(OWLAxiom axiom) {
+            ContentSnapshot res = getContentSnapshot();
+            return res == null ? super.containsAxiom(axiom) : res.axioms.get(axiom.getAxiomType()).contains(axiom);
+        }
+
+        @Override
+        public Stream<OWLAnnotation> annotations() {
+            ContentSnapshot res = getContentSnapshot();
+            return res == null ? super.annotations() : res.annotations.stream();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            ContentSnapshot res = getContentSnapshot();
+            return res == null ? super.isEmpty() : res.count == 0 && res.annotations.isEmpty();
+        }
+
         /**
          * Creates a concurrent version of Ontology Graph Model with R/W Lock inside, backed by the given model.
          * The internal Jena model, which is provided by the method {@link #getBase()}, does not contain any lock.
@@ -332,6 +482,68 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
             };
         }
 
+        /**
+         * An immutable snapshot of the axiomatic content of an {@link InternalModel},
+         * that is bound to the particular model instance and to its {@link InternalModel#getVersion() version}.
+         * It contains axioms grouped by their types, ontology header annotations and precalculated counts.
+         * Must be assembled under the read lock.
+         */
+        protected static class ContentSnapshot {
+            protected final InternalModel base;
+            protected final long version;
+            protected final Map<AxiomType<?>, Set<OWLAxiom>> axioms;
+            protected final List<OWLAnnotation> annotations;
+            protected final int count;
+            protected final int logicalCount;
+
+            protected ContentSnapshot(InternalModel base) {
+                this.base = Objects.requireNonNull(base);
+                // the version must be taken before reading, so that any concurrent change makes the snapshot outdated
+                this.version = base.getVersion();
+                Map<AxiomType<?>, Set<OWLAxiom>> axioms = new LinkedHashMap<>();
+                int count = 0;
+                int logicalCount = 0;
+                for (AxiomType<?> type : AxiomType.AXIOM_TYPES) {
+                    Set<OWLAxiom> set = base.listOWLAxioms(type).collect(Collectors.toCollection(LinkedHashSet::new));
+                    axioms.put(type, set.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(set));
+                    count += set.size();
+                    if (type.isLogical()) {
+                        logicalCount += set.size();
+                    }
+                }
+                this.axioms = Collections.unmodifiableMap(axioms);
+                this.annotations = Collections.unmodifiableList(base.listOWLAnnotations().collect(Collectors.toList()));
+                this.count = count;
+                this.logicalCount = logicalCount;
+            }
+
+            /**
+             * Answers {@code true} if this snapshot reflects the current state of the given model.
+             *
+             * @param base {@link InternalModel}
+             * @return boolean
+             */
+            protected boolean isActual(InternalModel base) {
+                return this.base == base && version == base.getVersion();
+            }
+
+            protected Stream<OWLAxiom> axioms() {
+                return axioms.values().stream().flatMap(Collection::stream);
+            }
+
+            @SuppressWarnings("unchecked")
+            protected <T extends OWLAxiom> Stream<T> axioms(AxiomType<T> type) {
+                return (Stream<T>) axioms.get(type).stream();
+            }
+
+            protected Stream<OWLLogicalAxiom> logicalAxioms() {
+                return axioms.entrySet().stream()
+                        .filter(e -> e.getKey().isLogical())
+                        .flatMap(e -> e.getValue().stream())
+                        .map(OWLLogicalAxiom.class::cast);
+            }
+        }
+
         /**
          * Makes a new {@link UnionGraph} with a the specified {@code base} graph
          * and with the inherited hierarchy structure from the given {@code from} graph.
@@ -17,7 +17,7 @@ package ru.avicomp.ontapi;
 import org.semanticweb.owlapi.model.*;
 
 import java.util.Collection;
-import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -30,15 +30,31 @@ import java.util.stream.Stream;
 public class OwlObjects {
 
     public static <O extends OWLObject> Stream<O> parseComponents(Class<O> view, HasComponents structure) {
-        return structure.componentsWithoutAnnotations().map(o -> toStream(view, o)).flatMap(Function.identity());
+        return parseComponents((Predicate<Object>) view::isInstance, structure).map(view::cast);
     }
 
     public static <O extends OWLObject> Stream<O> parseAnnotations(Class<O> view, HasAnnotations structure) {
-        return structure.annotations().map(o -> toStream(view, o)).flatMap(Function.identity());
+        return parseAnnotations((Predicate<Object>) view::isInstance, structure).map(view::cast);
     }
 
     public static <O extends OWLObject, A extends HasAnnotations & HasComponents> Stream<O> objects(Class<O> view, A container) {
-        return Stream.concat(parseComponents(view, container), parseAnnotations(view, container));
+        return objects((Predicate<Object>) view::isInstance, container).map(view::cast);
+    }
+
+    /**
+     * Lists all objects of any of the given types in a single pass over the container's tree.
+     * For each type the result is the same as {@link #objects(Class, HasAnnotations)} would return,
+     * provided that the objects of the given types do not contain each other.
+     *
+     * @param views     Collection of {@code Class}-types
+     * @param container {@link OWLObject} with annotations and components
+     * @param <A>       type of container
+     * @return Stream of {@link OWLObject}s, possible with duplicates
+     */
+    public static <A extends HasAnnotations & HasComponents> Stream<OWLObject> objects(Collection<Class<? extends OWLObject>> views,
+                                                                                       A container) {
+        return objects((Predicate<Object>) o -> views.stream().anyMatch(v -> v.isInstance(o)), container)
+                .map(OWLObject.class::cast);
     }
 
     public static <A extends HasAnnotations & HasComponents> Stream<IRI> iris(A container) {
@@ -46,18 +62,30 @@ public class OwlObjects {
                 objects(OWLObject.class, container).filter(HasIRI.class::isInstance).map(HasIRI.class::cast).map(HasIRI::getIRI));
     }
 
-    private static <O extends OWLObject> Stream<O> toStream(Class<O> view, Object o) {
-        if (view.isInstance(o)) {
-            return Stream.of(view.cast(o));
+    private static Stream<Object> parseComponents(Predicate<Object> test, HasComponents structure) {
+        return structure.componentsWithoutAnnotations().flatMap(o -> toStream(test, o));
+    }
+
+    private static Stream<Object> parseAnnotations(Predicate<Object> test, HasAnnotations structure) {
+        return structure.annotations().flatMap(o -> toStream(test, o));
+    }
+
+    private static <A extends HasAnnotations & HasComponents> Stream<Object> objects(Predicate<Object> test, A container) {
+        return Stream.concat(parseComponents(test, container), parseAnnotations(test, container));
+    }
+
+    private static Stream<Object> toStream(Predicate<Object> test, Object o) {
+        if (test.test(o)) {
+            return Stream.of(o);
         }
         if (o instanceof HasComponents) {
             if (o instanceof HasAnnotations) {
-                return objects(view, (HasComponents & HasAnnotations) o);
+                return objects(test, (HasComponents & HasAnnotations) o);
             }
-            return parseComponents(view, (HasComponents) o);
+            return parseComponents(test, (HasComponents) o);
         }
         if (o instanceof HasAnnotations) {
-            return parseAnnotations(view, (HasAnnotations) o);
+            return parseAnnotations(test, (HasAnnotations) o);
         }
         Stream<?> stream = null;
         if (o instanceof Stream) {
@@ -66,7 +94,7 @@ public class OwlObjects {
             stream = ((Collection<?>) o).stream();
         }
         if (stream != null) {
-            return stream.map(x -> toStream(view, x)).flatMap(Function.identity());
+            return stream.flatMap(x -> toStream(test, x));
         }
         return Stream.empty();
     }
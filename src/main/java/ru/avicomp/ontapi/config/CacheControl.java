@@ -56,4 +56,26 @@ interface CacheControl<R> extends CacheSettings {
      */
     R setUseContentCache(boolean b);
 
+    /**
+     * Sets the content triples preload parameter to the desired state.
+     *
+     * @param b boolean
+     * @return {@link R}
+     * @see #isContentTriplesPreloadEnabled()
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_TRIPLES_PRELOAD
+     * @since 1.4.0
+     */
+    R setUseContentTriplesPreload(boolean b);
+
+    /**
+     * Sets the content snapshot parameter to the desired state.
+     *
+     * @param b boolean
+     * @return {@link R}
+     * @see #isContentSnapshotEnabled()
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_SNAPSHOT
+     * @since 1.4.0
+     */
+    R setUseContentSnapshot(boolean b);
+
 }
@@ -29,10 +29,12 @@ public interface CacheSettings {
      * (see {@link ru.avicomp.ontapi.internal.SearchModel}).
      * The system default size is {@code 50_000}.
      * <p>
-     * Each {@link ru.avicomp.ontapi.jena.impl.conf.ObjectFactory object factory}
-     * has its own nodes cache with the same size, but, as a rule, only a few factories have many nodes in their cache.
+     * All {@link ru.avicomp.ontapi.jena.impl.conf.ObjectFactory object factories} share the same nodes table,
+     * where each node holds a small bitset of the known answers for all the object types,
+     * so the limit is the total number of cached nodes.
      * Average {@link org.apache.jena.graph.Node Node} (uri and blank) size is about 160 bytes (internal string ~ 150byte),
-     * Experiments show that for the limit = 100_000, the total number of cached nodes is not more than 190_000
+     * Experiments with the former per-factory caches showed that for the limit = 100_000,
+     * the total number of cached nodes is not more than 190_000
      * (it is for teleost and galen, significantly less for the rest tested ontologies),
      * The number 190_000 uri or blank nodes means about 30 MB.
      * Here the list of tested ontologies:
@@ -86,6 +88,41 @@ public interface CacheSettings {
      */
     boolean isContentCacheEnabled();
 
+    /**
+     * Answers whether the triples index of an internal model content cache must be filled while loading the content.
+     * The triples index maps each {@link org.apache.jena.graph.Triple Triple} to the components (axioms or annotations)
+     * which contain it. It is needed to remove components and to handle direct graph modifications.
+     * If this option is {@code false} (the default), the index is built lazily in a separate pass
+     * on the first demand (e.g. on the first removing of an axiom), which may take a noticeable time for a large ontology.
+     * If it is {@code true}, the index is filled in the same pass while the axioms are being read,
+     * so the first removal does not stall, but more memory is required from the very beginning.
+     * The option makes sense only if the content cache is enabled (see {@link #isContentCacheEnabled()}).
+     *
+     * @return boolean
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_TRIPLES_PRELOAD
+     * @see CacheControl#setUseContentTriplesPreload(boolean)
+     * @since 1.4.0
+     */
+    boolean isContentTriplesPreloadEnabled();
+
+    /**
+     * Answers whether a concurrent ontology must serve its axiomatic content from an immutable snapshot.
+     * If this option is {@code true}, the read operations of a concurrent ontology
+     * (such as {@code axioms()}, {@code axioms(AxiomType)}, {@code getAxiomCount()}, {@code containsAxiom(OWLAxiom)}
+     * and {@code annotations()}) are served without locking from a snapshot of the content cache,
+     * which is bound to the content version and is rebuilt lazily on the first read after any modification.
+     * The returned streams are lazy, no intermediate copying is performed.
+     * This is useful for read-heavy multithreaded environments, but requires additional memory for the snapshot.
+     * If it is {@code false} (the default), each read operation holds the read lock and collects the result into a list.
+     * The option makes sense only for concurrent managers and has no effect for a non-concurrent ontology.
+     *
+     * @return boolean
+     * @see OntSettings#ONT_API_LOAD_CONF_CACHE_SNAPSHOT
+     * @see CacheControl#setUseContentSnapshot(boolean)
+     * @since 1.4.0
+     */
+    boolean isContentSnapshotEnabled();
+
     /**
      * Answers {@code true} if nodes cache is enabled.
      *
@@ -42,6 +42,8 @@ import java.util.stream.Stream;
  * <li>{@link #getLoadNodesCacheSize()} and {@link #setLoadNodesCacheSize(int)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #getLoadObjectsCacheSize()} and {@link #setLoadObjectsCacheSize(int)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #isContentCacheEnabled()} and {@link #setUseContentCache(boolean)} (<b>since 1.4.0</b>)</li>
+ * <li>{@link #isContentSnapshotEnabled()} and {@link #setUseContentSnapshot(boolean)} (<b>since 1.4.0</b>)</li>
+ * <li>{@link #isContentTriplesPreloadEnabled()} and {@link #setUseContentTriplesPreload(boolean)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #getPersonality()} and {@link #setPersonality(OntPersonality)}</li>
  * <li>{@link #getGraphTransformers()} amd {@link #setGraphTransformers(GraphTransformers.Store)}</li>
  * <li>{@link #isPerformTransformation()} and {@link #setPerformTransformation(boolean)}</li>
@@ -51,7 +53,10 @@ import java.util.stream.Stream;
  * <li>{@link #isAllowBulkAnnotationAssertions()} and {@link #setAllowBulkAnnotationAssertions(boolean)}</li>
  * <li>{@link #isIgnoreAnnotationAxiomOverlaps()} and {@link #setIgnoreAnnotationAxiomOverlaps(boolean)}</li>
  * <li>{@link #isUseOWLParsersToLoad()} and {@link #setUseOWLParsersToLoad(boolean)}</li>
+ * <li>{@link #getLoadImportsParallelism()} and {@link #setLoadImportsParallelism(int)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #isControlImports()} and {@link #setControlImports(boolean)} </li>
+ * <li>{@link #isUseStreamWriters()} and {@link #setUseStreamWriters(boolean)} (<b>since 1.4.0</b>)</li>
+ * <li>{@link #getWriteParallelism()} and {@link #setWriteParallelism(int)} (<b>since 1.4.0</b>)</li>
  * <li>{@link #isIgnoreAxiomsReadErrors()} and {@link #setIgnoreAxiomsReadErrors(boolean)} (<b>since 1.1.0</b>)</li>
  * <li>{@link #isSplitAxiomAnnotations()} and {@link #setSplitAxiomAnnotations(boolean)} (<b>since 1.3.0</b>)</li>
  * </ul>
@@ -349,6 +354,52 @@ public class OntConfig extends OntologyConfigurator implements CacheControl<OntC
         return get(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param b boolean
+     * @return this instance
+     * @since 1.4.0
+     */
+    @Override
+    public OntConfig setUseContentSnapshot(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_CACHE_SNAPSHOT, b);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return boolean
+     * @since 1.4.0
+     */
+    @Override
+    public boolean isContentSnapshotEnabled() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_SNAPSHOT);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param b boolean
+     * @return this instance
+     * @since 1.4.0
+     */
+    @Override
+    public OntConfig setUseContentTriplesPreload(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_CACHE_TRIPLES_PRELOAD, b);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return boolean
+     * @since 1.4.0
+     */
+    @Override
+    public boolean isContentTriplesPreloadEnabled() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_TRIPLES_PRELOAD);
+    }
+
     /**
      * ONT-API manager load config getter.
      *
@@ -508,6 +559,36 @@ public class OntConfig extends OntologyConfigurator implements CacheControl<OntC
         return put(OntSettings.ONT_API_LOAD_CONF_USE_OWL_PARSERS_TO_LOAD, b);
     }
 
+    /**
+     * ONT-API manager load config getter.
+     *
+     * @return int, the maximum number of threads to load an imports closure, {@code 1} by default
+     * @see OntLoaderConfiguration#getLoadImportsParallelism()
+     * @since 1.4.0
+     */
+    public int getLoadImportsParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_IMPORTS_PARALLELISM);
+    }
+
+    /**
+     * Sets an {@link #getLoadImportsParallelism()} parameter.
+     * It is an ONT-API manager load config setter.
+     * Used in {@link ru.avicomp.ontapi.OntologyLoaderImpl Default Ontology Loader Implementation}.
+     * If the parameter is greater than {@code 1}, then the documents from the imports closure
+     * are fetched and parsed in parallel, using a pool with the specified number of threads,
+     * and the independent branches of the imports tree are transformed in parallel as well.
+     * The result (i.e. the imports hierarchy) is the same as in case of the sequential loading (the default).
+     * Note: this makes sense only for the ontologies with many imports, that are loaded through Jena.
+     *
+     * @param n int, positive
+     * @return this instance
+     * @see OntLoaderConfiguration#setLoadImportsParallelism(int)
+     * @since 1.4.0
+     */
+    public OntConfig setLoadImportsParallelism(int n) {
+        return putPositive(OntSettings.ONT_API_LOAD_CONF_IMPORTS_PARALLELISM, n);
+    }
+
     /**
      * ONT-API manager load config getter.
      * {@inheritDoc}
@@ -583,6 +664,69 @@ public class OntConfig extends OntologyConfigurator implements CacheControl<OntC
         return put(OntSettings.ONT_API_WRITE_CONF_CONTROL_IMPORTS, b);
     }
 
+    /**
+     * ONT-API manager write config getter.
+     * By default 'ont.api.write.conf.use.stream.writers' is disabled.
+     *
+     * @return {@code true} if 'ont.api.write.conf.use.stream.writers' is enabled
+     * @see OntWriterConfiguration#isUseStreamWriters()
+     * @since 1.4.0
+     */
+    public boolean isUseStreamWriters() {
+        return get(OntSettings.ONT_API_WRITE_CONF_USE_STREAM_WRITERS);
+    }
+
+    /**
+     * Sets an {@link #isUseStreamWriters()} parameter.
+     * It is an ONT-API manager write config setter.
+     * If it is {@code true}, then the ontologies in
+     * {@link ru.avicomp.ontapi.OntFormat#NTRIPLES N-Triples}, {@link ru.avicomp.ontapi.OntFormat#NQUADS N-Quads},
+     * {@link ru.avicomp.ontapi.OntFormat#TURTLE Turtle}, {@link ru.avicomp.ontapi.OntFormat#TRIG TriG}
+     * and {@link ru.avicomp.ontapi.OntFormat#RDF_THRIFT RDF-Thrift} formats
+     * are saved through the Jena streaming writers, which output the graph block by block,
+     * without analysing the whole graph before (as the pretty writers do).
+     * It is faster and does not require additional memory, but the output is less compact
+     * (e.g. Turtle is written in blocks, without nested blank nodes and list abbreviations).
+     *
+     * @param b boolean to enable/disable this config parameter
+     * @return this instance
+     * @see OntWriterConfiguration#setUseStreamWriters(boolean)
+     * @see ru.avicomp.ontapi.jena.utils.StreamingRDF
+     * @since 1.4.0
+     */
+    public OntConfig setUseStreamWriters(boolean b) {
+        return put(OntSettings.ONT_API_WRITE_CONF_USE_STREAM_WRITERS, b);
+    }
+
+    /**
+     * ONT-API manager write config getter.
+     *
+     * @return int, the number of threads to serialise an ontology graph, {@code 1} by default
+     * @see OntWriterConfiguration#getWriteParallelism()
+     * @since 1.4.0
+     */
+    public int getWriteParallelism() {
+        return get(OntSettings.ONT_API_WRITE_CONF_PARALLELISM);
+    }
+
+    /**
+     * Sets an {@link #getWriteParallelism()} parameter.
+     * It is an ONT-API manager write config setter.
+     * Makes sense only if {@link #isUseStreamWriters() stream writers} are enabled and
+     * only for the formats that allow independent serialisation of graph partitions
+     * ({@link ru.avicomp.ontapi.OntFormat#NTRIPLES N-Triples}, {@link ru.avicomp.ontapi.OntFormat#NQUADS N-Quads}
+     * and {@link ru.avicomp.ontapi.OntFormat#RDF_THRIFT RDF-Thrift}):
+     * if it is greater than {@code 1}, the partitions are serialised in parallel and written in the original order.
+     *
+     * @param n int, positive
+     * @return this instance
+     * @see OntWriterConfiguration#setWriteParallelism(int)
+     * @since 1.4.0
+     */
+    public OntConfig setWriteParallelism(int n) {
+        return putPositive(OntSettings.ONT_API_WRITE_CONF_PARALLELISM, n);
+    }
+
     /**
      * The same as {@link #isLoadAnnotationAxioms()}
      *
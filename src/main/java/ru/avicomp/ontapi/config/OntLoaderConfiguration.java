@@ -244,6 +244,52 @@ public class OntLoaderConfiguration extends OWLOntologyLoaderConfiguration
         return get(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param b boolean
+     * @return this or copied instance
+     * @since 1.4.0
+     */
+    @Override
+    public OntLoaderConfiguration setUseContentSnapshot(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_CACHE_SNAPSHOT, b);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return boolean
+     * @since 1.4.0
+     */
+    @Override
+    public boolean isContentSnapshotEnabled() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_SNAPSHOT);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param b boolean
+     * @return this or copied instance
+     * @since 1.4.0
+     */
+    @Override
+    public OntLoaderConfiguration setUseContentTriplesPreload(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_CACHE_TRIPLES_PRELOAD, b);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return boolean
+     * @since 1.4.0
+     */
+    @Override
+    public boolean isContentTriplesPreloadEnabled() {
+        return get(OntSettings.ONT_API_LOAD_CONF_CACHE_TRIPLES_PRELOAD);
+    }
+
     /**
      * ONT-API config method.
      *
@@ -376,6 +422,32 @@ public class OntLoaderConfiguration extends OWLOntologyLoaderConfiguration
         return set(OntSettings.ONT_API_LOAD_CONF_USE_OWL_PARSERS_TO_LOAD, b);
     }
 
+    /**
+     * ONT-API config method.
+     * Returns {@code 1} by default.
+     *
+     * @return int, the maximum number of threads to fetch, parse and transform the graphs from the imports closure,
+     * {@code 1} means the sequential loading
+     * @since 1.4.0
+     */
+    public int getLoadImportsParallelism() {
+        return get(OntSettings.ONT_API_LOAD_CONF_IMPORTS_PARALLELISM);
+    }
+
+    /**
+     * ONT-API config setter.
+     * Changes the number of threads to load the imports closure.
+     * For more information see description for the {@link OntConfig}'s method with the same name.
+     *
+     * @param n int, positive
+     * @return this or new config
+     * @see OntConfig#setLoadImportsParallelism(int)
+     * @since 1.4.0
+     */
+    public OntLoaderConfiguration setLoadImportsParallelism(int n) {
+        return setPositive(OntSettings.ONT_API_LOAD_CONF_IMPORTS_PARALLELISM, n);
+    }
+
     /**
      * ONT-API config getter.
      * {@inheritDoc}
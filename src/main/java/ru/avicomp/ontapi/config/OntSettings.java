@@ -54,12 +54,17 @@ public enum OntSettings {
     ONT_API_LOAD_CONF_USE_OWL_PARSERS_TO_LOAD(false),
     ONT_API_LOAD_CONF_IGNORE_AXIOMS_READ_ERRORS(false),
     ONT_API_LOAD_CONF_SPLIT_AXIOM_ANNOTATIONS(false),
+    ONT_API_LOAD_CONF_IMPORTS_PARALLELISM(1), // since 1.4.0
 
     // cache options since 1.4.0
     ONT_API_LOAD_CONF_CACHE_CONTENT(true),
     ONT_API_LOAD_CONF_CACHE_OBJECTS(2048),
     ONT_API_LOAD_CONF_CACHE_NODES(50_000),
+    ONT_API_LOAD_CONF_CACHE_TRIPLES_PRELOAD(false),
+    ONT_API_LOAD_CONF_CACHE_SNAPSHOT(false),
     ONT_API_MANAGER_CACHE_IRIS(2048),
+    // JVM-wide option, it is read only once, from the properties file:
+    ONT_API_DATA_FACTORY_CACHE_SIGNATURES(2048),
 
     OWL_API_LOAD_CONF_ACCEPT_HTTP_COMPRESSION(true),
     OWL_API_LOAD_CONF_CONNECTION_TIMEOUT(20_000),
@@ -77,6 +82,8 @@ public enum OntSettings {
     OWL_API_AUTHORIZATION_VALUE(""),
 
     ONT_API_WRITE_CONF_CONTROL_IMPORTS(true),
+    ONT_API_WRITE_CONF_USE_STREAM_WRITERS(false),
+    ONT_API_WRITE_CONF_PARALLELISM(1),
 
     OWL_API_WRITE_CONF_SAVE_IDS(false),
     OWL_API_WRITE_CONF_REMAP_IDS(true),
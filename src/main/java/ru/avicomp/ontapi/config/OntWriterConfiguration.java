@@ -22,7 +22,7 @@ import java.util.Objects;
 
 /**
  * Extended {@link OWLOntologyWriterConfiguration}.
- * Currently there is only one ONT-API (new) options,
+ * Currently there are only a few ONT-API (new) options,
  * all other content is mostly modified copy-paste from the original OWL-API class.
  * Note: this config is immutable.
  *
@@ -109,6 +109,57 @@ public class OntWriterConfiguration extends OWLOntologyWriterConfiguration {
         return set(OntSettings.ONT_API_WRITE_CONF_CONTROL_IMPORTS, b);
     }
 
+    /**
+     * ONT-API getter.
+     * By default it is {@code false}.
+     *
+     * @return true if the Jena streaming writers are used to save ontologies, where it is possible
+     * @see #setUseStreamWriters(boolean)
+     * @since 1.4.0
+     */
+    public boolean isUseStreamWriters() {
+        return get(OntSettings.ONT_API_WRITE_CONF_USE_STREAM_WRITERS);
+    }
+
+    /**
+     * ONT-API config setter to enable or disable the streaming save mode.
+     * For more information see description for the {@link OntConfig}'s method with the same name.
+     *
+     * @param b boolean
+     * @return this or new {@link OntWriterConfiguration} instance
+     * @see OntConfig#setUseStreamWriters(boolean)
+     * @since 1.4.0
+     */
+    public OntWriterConfiguration setUseStreamWriters(boolean b) {
+        return set(OntSettings.ONT_API_WRITE_CONF_USE_STREAM_WRITERS, b);
+    }
+
+    /**
+     * ONT-API getter.
+     * By default it is {@code 1}.
+     *
+     * @return int, the number of threads to serialise a graph in the streaming mode
+     * @see #setWriteParallelism(int)
+     * @since 1.4.0
+     */
+    public int getWriteParallelism() {
+        return get(OntSettings.ONT_API_WRITE_CONF_PARALLELISM);
+    }
+
+    /**
+     * ONT-API config setter.
+     * Changes the number of threads to serialise a graph in the streaming mode.
+     * For more information see description for the {@link OntConfig}'s method with the same name.
+     *
+     * @param n int, positive
+     * @return this or new {@link OntWriterConfiguration} instance
+     * @see OntConfig#setWriteParallelism(int)
+     * @since 1.4.0
+     */
+    public OntWriterConfiguration setWriteParallelism(int n) {
+        return setPositive(OntSettings.ONT_API_WRITE_CONF_PARALLELISM, n);
+    }
+
     /**
      * @see OWLOntologyWriterConfiguration#shouldUseBanners()
      */
@@ -18,11 +18,13 @@ import org.apache.jena.shared.JenaException;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
 import ru.avicomp.ontapi.jena.model.OntStatement;
 import ru.avicomp.ontapi.jena.utils.Iter;
 import ru.avicomp.ontapi.jena.utils.Models;
 
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -73,7 +75,25 @@ public abstract class AxiomTranslator<Axiom extends OWLAxiom> {
     public ExtendedIterator<ONTObject<Axiom>> listAxioms(OntGraphModel model,
                                                          InternalObjectFactory factory,
                                                          InternalConfig config) throws JenaException {
-        return translate(listStatements(model, config), factory, config);
+        return listAxioms(listStatements(model, config), factory, config);
+    }
+
+    /**
+     * Returns an {@link ExtendedIterator Extended Iterator} of {@link Axiom}s,
+     * that are read from the given statements.
+     * The statements must be selected either by the method {@link #listStatements(OntGraphModel, InternalConfig)}
+     * or by the filter from the method {@link #statementFilter(OntGraphModel, InternalConfig)}.
+     *
+     * @param statements {@link ExtendedIterator} of {@link OntStatement}s
+     * @param factory    {@link InternalObjectFactory} to produce OWL-API Objects
+     * @param config     {@link InternalConfig} to control process
+     * @return {@link ExtendedIterator} of {@link ONTObject}s that wrap {@link Axiom}s
+     * @throws JenaException unable to read axioms of this type
+     */
+    public ExtendedIterator<ONTObject<Axiom>> listAxioms(ExtendedIterator<OntStatement> statements,
+                                                         InternalObjectFactory factory,
+                                                         InternalConfig config) throws JenaException {
+        return translate(statements, factory, config);
     }
 
     /**
@@ -135,6 +155,41 @@ public abstract class AxiomTranslator<Axiom extends OWLAxiom> {
      */
     public abstract ExtendedIterator<OntStatement> listStatements(OntGraphModel model, InternalConfig config);
 
+    /**
+     * Returns a {@code Predicate} to select the statements that define axioms of this type
+     * among all statements from the base graph of the given model.
+     * It is intended for those translators that have to look through the whole graph or its large part
+     * (e.g. all {@code rdf:type} statements), i.e. which cannot use a selective triple pattern,
+     * and allows to collect statements for several such axiom types within a single pass over the graph.
+     * If the returned filter is not {@code null},
+     * the expression {@code Models.listStatements(model, null, null, null).filterKeep(filter)}
+     * must be equivalent to the method {@link #listStatements(OntGraphModel, InternalConfig)}.
+     * The default implementation returns {@code null},
+     * which means the statements must be listed by the translator itself.
+     *
+     * @param model  {@link OntGraphModel Ontology Jena Model}
+     * @param config {@link InternalConfig} control settings
+     * @return {@link Predicate} to test {@link OntStatement}s or {@code null}
+     */
+    public Predicate<OntStatement> statementFilter(OntGraphModel model, InternalConfig config) {
+        return null;
+    }
+
+    /**
+     * Lists the key components of the given axiom,
+     * i.e. those objects (usually entities or anonymous individuals) the axiom is about:
+     * the subject of an assertion, the property of a domain axiom, the operands of a n-ary axiom, etc.
+     * These components are used by the {@link InternalModel} to index axioms,
+     * so that the axioms, which describe some particular object, can be found without looking through the whole cache.
+     * The default implementation returns {@code null}, which means that the axioms of this type are not indexed.
+     *
+     * @param axiom {@link Axiom}, not {@code null}
+     * @return Stream of {@link OWLObject}s or {@code null}
+     */
+    public Stream<? extends OWLObject> keys(Axiom axiom) {
+        return null;
+    }
+
     /**
      * Tests if the specified statement answers the axiom definition.
      *
@@ -40,6 +40,8 @@ import java.util.stream.Stream;
  */
 @SuppressWarnings("WeakerAccess")
 public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTriplesMap<X> {
+    // the number of the last elements of the objects list to look through on deletion
+    private static final int LIST_SCAN_LIMIT = 16;
 
     // objects provider:
     private final Supplier<Iterator<ONTObject<X>>> loader;
@@ -54,6 +56,9 @@ public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTri
     // both are synchronized, but Caffeine works faster in multi-thread, and LHM in single-thread environment.
     private final boolean parallel;
 
+    // if true the triples index is filled in the same pass with the objects map
+    private final boolean withTriples;
+
     /**
      * Constructs a bucket instance.
      *
@@ -61,19 +66,36 @@ public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTri
      * @param parallel if {@code true} use caffeine cache, otherwise LHM based cache
      */
     public CacheObjectTriplesMapImpl(Supplier<Iterator<ONTObject<X>>> loader, boolean parallel) {
+        this(loader, parallel, false);
+    }
+
+    /**
+     * Constructs a bucket instance.
+     *
+     * @param loader      a {@code Supplier} to load object-triples pairs, not {@code null}
+     * @param parallel    if {@code true} use caffeine cache, otherwise LHM based cache
+     * @param withTriples if {@code true} the triples index is filled while loading objects,
+     *                    otherwise it is built lazily on the first demand
+     */
+    public CacheObjectTriplesMapImpl(Supplier<Iterator<ONTObject<X>>> loader, boolean parallel, boolean withTriples) {
         this.loader = Objects.requireNonNull(loader);
         this.map = InternalCache.createSoft(CacheObjectTriplesMapImpl::loadMap, this.parallel = parallel);
+        this.withTriples = withTriples;
     }
 
     protected CachedMap loadMap() {
         this.hasNew = false;
         Iterator<ONTObject<X>> it = loader.get();
         Map<X, ONTObject<X>> res = createMap();
+        Map<Triple, Object> triples = withTriples ? createMap() : null;
         while (it.hasNext()) {
             ONTObject<X> v = it.next();
             res.merge(v.getObject(), v, ONTObject::append);
+            if (triples != null) {
+                putTriples(triples, v);
+            }
         }
-        return new CachedMap(res);
+        return new CachedMap(res, triples);
     }
 
     /**
@@ -122,6 +144,15 @@ public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTri
         return getMap().getTriplesMap().keySet().stream();
     }
 
+    /**
+     * Answers {@code true} if the triples index is ready to use.
+     *
+     * @return boolean
+     */
+    public boolean hasTriplesIndex() {
+        return isLoaded() && getMap().hasTriplesMap();
+    }
+
     @Override
     public Stream<Triple> triples(X o) throws JenaException {
         return getMap().getObjectsMap().get(o).triples();
@@ -136,8 +167,7 @@ public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTri
     public boolean contains(X o, Triple t) {
         CachedMap m;
         if (isLoaded() && (m = getMap()).hasTriplesMap()) {
-            Set<X> res = m.getTriplesMap().get(t);
-            return res != null && res.contains(o);
+            return containsInIndex(m.getTriplesMap(), t, o);
         }
         return triples(o).anyMatch(t::equals);
     }
@@ -147,6 +177,17 @@ public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTri
         return getMap().getTriplesMap().containsKey(triple);
     }
 
+    @Override
+    public Stream<X> objects(Triple triple) {
+        CachedMap m;
+        if (isLoaded() && (m = getMap()).hasTriplesMap()) {
+            return listFromIndex(m.getTriplesMap(), triple);
+        }
+        // the triples map is not ready, and the triple may be already deleted from the graph,
+        // so the index built now can be incomplete:
+        return ObjectTriplesMap.super.objects(triple);
+    }
+
     @Override
     public GraphListener addListener(X key) {
         return new Listener<>(this, key);
@@ -173,7 +214,7 @@ public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTri
         // operation 'Add' must be as quick as possible
         // since it is used while reading documents in native OWL-API formats
         if (map.hasTriplesMap()) {
-            map.getTriplesMap().computeIfAbsent(triple, t -> new HashSet<>()).add(key);
+            putToIndex(map.getTriplesMap(), triple, key);
         }
         if (map.hasObjectsList()) {
             // for a given object operations 'add' are sequential and isolated by R/W lock upwards
@@ -216,13 +257,7 @@ public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTri
             }
         });
         if (map.hasTriplesMap()) {
-            Map<Triple, Set<X>> triplesCache = map.getTriplesMap();
-            Optional.ofNullable(triplesCache.get(triple)).ifPresent(set -> {
-                set.remove(key);
-                if (set.isEmpty()) {
-                    triplesCache.remove(triple);
-                }
-            });
+            removeFromIndex(map.getTriplesMap(), triple, key);
         }
         if (map.hasObjectsList()) {
             List<X> list = map.getObjectsList();
@@ -244,23 +279,21 @@ public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTri
         CachedMap map = getMap();
         ONTObject<X> res = map.getObjectsMap().remove(key);
         if (map.hasTriplesMap()) {
-            Map<Triple, Set<X>> triplesCache = map.getTriplesMap();
-            res.triples().forEach(t -> Optional.ofNullable(triplesCache.get(t)).ifPresent(set -> {
-                set.remove(res.getObject());
-                if (set.isEmpty()) {
-                    triplesCache.remove(t);
-                }
-            }));
+            Map<Triple, Object> triplesCache = map.getTriplesMap();
+            res.triples().forEach(t -> removeFromIndex(triplesCache, t, res.getObject()));
         }
         if (map.hasObjectsList()) {
             List<X> list = map.getObjectsList();
-            // must be in the end of list:
-            for (int i = list.size() - 1; i >= 0; i--) {
+            // usually it is in the end of list (an undo of the last addition):
+            for (int i = list.size() - 1, j = 0; i >= 0 && j < LIST_SCAN_LIMIT; i--, j++) {
                 if (key.equals(list.get(i))) {
                     list.remove(i);
-                    break;
+                    return;
                 }
             }
+            // otherwise drop the list, it will be restored from the objects map on demand;
+            // a linear search with shifting would make a bulk deletion quadratic
+            map.objectsListCache.asCache().clear();
         }
     }
 
@@ -269,21 +302,143 @@ public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTri
         map.asCache().clear();
     }
 
+    /**
+     * Puts all triples of the given {@link ONTObject} into the triples index.
+     *
+     * @param index {@code Map} with {@link Triple}s as keys
+     * @param value {@link ONTObject}
+     * @param <X>   subtype of {@link OWLObject}
+     */
+    protected static <X extends OWLObject> void putTriples(Map<Triple, Object> index, ONTObject<X> value) {
+        try {
+            value.triples().forEach(t -> putToIndex(index, t, value.getObject()));
+        } catch (JenaException ex) {
+            // object has wrong state: it is being registered or unregistered
+            // ignore exception
+        }
+    }
+
+    /**
+     * Associates the object with the triple in the given index.
+     * To save memory the value of the index is either a single object, that is the most common case,
+     * or an array of objects, if the triple is shared between several objects.
+     *
+     * @param index  {@code Map} with {@link Triple}s as keys
+     * @param triple {@link Triple}
+     * @param object {@link OWLObject}
+     */
+    protected static void putToIndex(Map<Triple, Object> index, Triple triple, OWLObject object) {
+        index.merge(triple, object, (prev, o) -> {
+            if (!(prev instanceof Object[])) {
+                return prev.equals(o) ? prev : new Object[]{prev, o};
+            }
+            Object[] array = (Object[]) prev;
+            if (indexOf(array, o) >= 0) {
+                return prev;
+            }
+            Object[] res = Arrays.copyOf(array, array.length + 1);
+            res[array.length] = o;
+            return res;
+        });
+    }
+
+    /**
+     * Deletes the triple-object association from the given index.
+     *
+     * @param index  {@code Map} with {@link Triple}s as keys
+     * @param triple {@link Triple}
+     * @param object {@link OWLObject}
+     */
+    protected static void removeFromIndex(Map<Triple, Object> index, Triple triple, OWLObject object) {
+        index.computeIfPresent(triple, (t, prev) -> {
+            if (!(prev instanceof Object[])) {
+                return prev.equals(object) ? null : prev;
+            }
+            Object[] array = (Object[]) prev;
+            int i = indexOf(array, object);
+            if (i < 0) {
+                return prev;
+            }
+            if (array.length == 2) {
+                return array[1 - i];
+            }
+            Object[] res = new Object[array.length - 1];
+            System.arraycopy(array, 0, res, 0, i);
+            System.arraycopy(array, i + 1, res, i, res.length - i);
+            return res;
+        });
+    }
+
+    /**
+     * Lists all objects associated with the triple in the given index.
+     *
+     * @param index  {@code Map} with {@link Triple}s as keys
+     * @param triple {@link Triple}
+     * @param <X>    subtype of {@link OWLObject}
+     * @return {@code Stream} of {@link X}s
+     */
+    @SuppressWarnings("unchecked")
+    protected static <X extends OWLObject> Stream<X> listFromIndex(Map<Triple, Object> index, Triple triple) {
+        Object res = index.get(triple);
+        if (res == null) {
+            return Stream.empty();
+        }
+        if (res instanceof Object[]) {
+            return Arrays.stream((Object[]) res).map(x -> (X) x);
+        }
+        return Stream.of((X) res);
+    }
+
+    /**
+     * Answers {@code true} if the object is associated with the triple in the given index.
+     *
+     * @param index  {@code Map} with {@link Triple}s as keys
+     * @param triple {@link Triple}
+     * @param object {@link OWLObject}
+     * @return boolean
+     */
+    protected static boolean containsInIndex(Map<Triple, Object> index, Triple triple, OWLObject object) {
+        Object res = index.get(triple);
+        if (res == null) {
+            return false;
+        }
+        if (res instanceof Object[]) {
+            return indexOf((Object[]) res, object) >= 0;
+        }
+        return res.equals(object);
+    }
+
+    private static int indexOf(Object[] array, Object o) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i].equals(o)) return i;
+        }
+        return -1;
+    }
+
     /**
      * An internal object-collection
      * that holds {@code Map} with {@link X OWLObject}-keys, a {@code Map} with {@link Triple}-keys
      * and a {@code List} with {@link X OWLObject}s to conduct fast iterating;
      * the last two implemented as {@link java.lang.ref.SoftReference} based caches.
+     * The triples index value is either a single {@link X} or an array of {@link X}s,
+     * see {@link #putToIndex(Map, Triple, OWLObject)}.
      */
     protected class CachedMap {
         protected final Map<X, ONTObject<X>> objectsMap;
         protected final InternalCache.Loading<CachedMap, List<X>> objectsListCache;
-        protected final InternalCache.Loading<CachedMap, Map<Triple, Set<X>>> triplesCache;
+        protected final InternalCache.Loading<CachedMap, Map<Triple, Object>> triplesCache;
 
         protected CachedMap(Map<X, ONTObject<X>> objects) {
+            this(objects, null);
+        }
+
+        protected CachedMap(Map<X, ONTObject<X>> objects, Map<Triple, Object> triples) {
             this.objectsMap = Objects.requireNonNull(objects);
             this.objectsListCache = InternalCache.createSoft(CachedMap::loadObjects, parallel);
             this.triplesCache = InternalCache.createSoft(CachedMap::loadTriples, parallel);
+            if (triples != null) {
+                this.triplesCache.asCache().put(this, triples);
+            }
         }
 
         protected long size() {
@@ -302,7 +457,7 @@ public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTri
             return !triplesCache.asCache().isEmpty();
         }
 
-        protected Map<Triple, Set<X>> getTriplesMap() {
+        protected Map<Triple, Object> getTriplesMap() {
             return triplesCache.get(this);
         }
 
@@ -310,15 +465,10 @@ public class CacheObjectTriplesMapImpl<X extends OWLObject> implements ObjectTri
             return objectsListCache.get(this);
         }
 
-        protected Map<Triple, Set<X>> loadTriples() {
-            Map<Triple, Set<X>> res = createMap();
+        protected Map<Triple, Object> loadTriples() {
+            Map<Triple, Object> res = createMap();
             for (ONTObject<X> v : objectsMap.values()) {
-                try {
-                    v.triples().forEach(t -> res.computeIfAbsent(t, x -> new HashSet<>()).add(v.getObject()));
-                } catch (JenaException ex) {
-                    // object has wrong state: it is being registered or unregistered
-                    // ignore exception
-                }
+                putTriples(res, v);
             }
             return res;
         }
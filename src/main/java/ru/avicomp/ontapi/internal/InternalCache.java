@@ -17,6 +17,7 @@ package ru.avicomp.ontapi.internal;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import ru.avicomp.ontapi.OntMetrics;
 
 import java.lang.ref.SoftReference;
 import java.util.LinkedHashMap;
@@ -263,6 +264,54 @@ public interface InternalCache<K, V> {
         return res.asLoading(loader);
     }
 
+    /**
+     * Wraps the given cache so that all its read accesses are counted as hits or misses
+     * in the specified {@link OntMetrics metrics} under the given name.
+     * If the metrics is disabled, the cache is returned as is.
+     *
+     * @param cache   {@link InternalCache} to wrap, not {@code null}
+     * @param metrics {@link OntMetrics}, not {@code null}
+     * @param name    String, the name of cache, e.g. {@link OntMetrics#CACHE_NODES}
+     * @param <K>     the type of keys maintained by the return cache
+     * @param <V>     the type of mapped values
+     * @return {@link InternalCache}
+     */
+    static <K, V> InternalCache<K, V> counted(InternalCache<K, V> cache, OntMetrics metrics, String name) {
+        if (!metrics.isEnabled()) return cache;
+        return new CountingWrapper<>(cache, metrics, name);
+    }
+
+    /**
+     * Wraps the given loading cache so that all its accesses are counted as hits or misses
+     * in the specified {@link OntMetrics metrics} under the given name.
+     * If the metrics is disabled, the cache is returned as is.
+     *
+     * @param cache   {@link Loading} to wrap, not {@code null}
+     * @param metrics {@link OntMetrics}, not {@code null}
+     * @param name    String, the name of cache, e.g. {@link OntMetrics#CACHE_IRIS}
+     * @param <K>     the type of keys maintained by the return cache
+     * @param <V>     the type of mapped values
+     * @return {@link Loading}
+     */
+    static <K, V> Loading<K, V> counted(Loading<K, V> cache, OntMetrics metrics, String name) {
+        if (!metrics.isEnabled()) return cache;
+        InternalCache<K, V> view = counted(cache.asCache(), metrics, name);
+        return new Loading<K, V>() {
+            @Override
+            public V get(K key) {
+                V res = view.get(key);
+                if (res != null) return res;
+                // the miss is already counted by the view
+                return cache.get(key);
+            }
+
+            @Override
+            public InternalCache<K, V> asCache() {
+                return view;
+            }
+        };
+    }
+
     /**
      * Loading cache.
      * Values are automatically loaded by the cache,
@@ -512,4 +561,63 @@ public interface InternalCache<K, V> {
             };
         }
     }
+
+    /**
+     * A {@code InternalCache} decorator that counts hits and misses of the read operations.
+     * A miss is an access that does not find a value in the cache,
+     * either because it has never been there, or because it has been evicted.
+     *
+     * @param <K> the type of keys maintained by this cache
+     * @param <V> the type of mapped values
+     * @see OntMetrics
+     */
+    @SuppressWarnings("WeakerAccess")
+    class CountingWrapper<K, V> implements InternalCache<K, V> {
+        protected final InternalCache<K, V> cache;
+        protected final OntMetrics metrics;
+        protected final String hit;
+        protected final String miss;
+
+        protected CountingWrapper(InternalCache<K, V> cache, OntMetrics metrics, String name) {
+            this.cache = Objects.requireNonNull(cache);
+            this.metrics = Objects.requireNonNull(metrics);
+            this.hit = name + OntMetrics.HIT;
+            this.miss = name + OntMetrics.MISS;
+        }
+
+        @Override
+        public void put(K key, V value) {
+            cache.put(key, value);
+        }
+
+        @Override
+        public V get(K key) {
+            V res = cache.get(key);
+            metrics.count(res == null ? miss : hit, 1);
+            return res;
+        }
+
+        @Override
+        public void remove(K key) {
+            cache.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            cache.clear();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return cache.isEmpty();
+        }
+
+        @Override
+        public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+            V res = get(key);
+            if (res != null) return res;
+            // double lookup is the price for not allocating anything on the hit path
+            return cache.get(key, mappingFunction);
+        }
+    }
 }
@@ -14,6 +14,7 @@
 
 package ru.avicomp.ontapi.internal;
 
+import ru.avicomp.ontapi.OntMetrics;
 import ru.avicomp.ontapi.config.AxiomSettings;
 import ru.avicomp.ontapi.config.CacheSettings;
 import ru.avicomp.ontapi.config.OntConfig;
@@ -41,6 +42,16 @@ public interface InternalConfig extends CacheSettings, AxiomSettings {
         return false;
     }
 
+    /**
+     * Returns the metrics to record cache hits and loading timings.
+     * It is not a setting, and it is not taken into account when comparing snapshots.
+     *
+     * @return {@link OntMetrics}, not {@code null}
+     */
+    default OntMetrics getMetrics() {
+        return OntMetrics.NO_OP;
+    }
+
     /**
      * Gets a fixed state of this config as immutable instance.
      *
@@ -55,9 +66,12 @@ public interface InternalConfig extends CacheSettings, AxiomSettings {
      */
     class Snapshot implements InternalConfig {
         private final EnumMap<Key, Object> map = new EnumMap<>(Key.class);
+        private final OntMetrics metrics;
 
         Snapshot(InternalConfig delegate) {
             Objects.requireNonNull(delegate, "Null config");
+            this.metrics = delegate.getMetrics();
+            map.put(Key.PARALLEL, delegate.parallel());
             map.put(Key.LOAD_ANNOTATIONS, delegate.isLoadAnnotationAxioms());
             map.put(Key.ALLOW_DECLARATION_BULK_ANNOTATIONS, delegate.isAllowBulkAnnotationAssertions());
             map.put(Key.IGNORE_ANNOTATION_OVERLAPS, delegate.isIgnoreAnnotationAxiomOverlaps());
@@ -67,6 +81,8 @@ public interface InternalConfig extends CacheSettings, AxiomSettings {
             map.put(Key.CACHE_NODES_SIZE, delegate.getLoadNodesCacheSize());
             map.put(Key.CACHE_OBJECTS_SIZE, delegate.getLoadObjectsCacheSize());
             map.put(Key.CONTENT_CACHE, delegate.isContentCacheEnabled());
+            map.put(Key.CONTENT_SNAPSHOT, delegate.isContentSnapshotEnabled());
+            map.put(Key.CONTENT_TRIPLES_PRELOAD, delegate.isContentTriplesPreloadEnabled());
         }
 
         @SuppressWarnings("unchecked")
@@ -74,6 +90,11 @@ public interface InternalConfig extends CacheSettings, AxiomSettings {
             return (X) map.get(k);
         }
 
+        @Override
+        public boolean parallel() {
+            return get(Key.PARALLEL);
+        }
+
         @Override
         public boolean isLoadAnnotationAxioms() {
             return get(Key.LOAD_ANNOTATIONS);
@@ -119,6 +140,21 @@ public interface InternalConfig extends CacheSettings, AxiomSettings {
             return get(Key.CONTENT_CACHE);
         }
 
+        @Override
+        public boolean isContentSnapshotEnabled() {
+            return get(Key.CONTENT_SNAPSHOT);
+        }
+
+        @Override
+        public boolean isContentTriplesPreloadEnabled() {
+            return get(Key.CONTENT_TRIPLES_PRELOAD);
+        }
+
+        @Override
+        public OntMetrics getMetrics() {
+            return metrics;
+        }
+
         @Override
         public Snapshot snapshot() {
             return this;
@@ -137,6 +173,7 @@ public interface InternalConfig extends CacheSettings, AxiomSettings {
         }
 
         private enum Key {
+            PARALLEL,
             LOAD_ANNOTATIONS,
             ALLOW_DECLARATION_BULK_ANNOTATIONS,
             IGNORE_ANNOTATION_OVERLAPS,
@@ -146,6 +183,8 @@ public interface InternalConfig extends CacheSettings, AxiomSettings {
             CACHE_NODES_SIZE,
             CACHE_OBJECTS_SIZE,
             CONTENT_CACHE,
+            CONTENT_SNAPSHOT,
+            CONTENT_TRIPLES_PRELOAD,
         }
     }
 
@@ -202,6 +241,16 @@ public interface InternalConfig extends CacheSettings, AxiomSettings {
                 return conf.isContentCacheEnabled();
             }
 
+            @Override
+            public boolean isContentSnapshotEnabled() {
+                return conf.isContentSnapshotEnabled();
+            }
+
+            @Override
+            public boolean isContentTriplesPreloadEnabled() {
+                return conf.isContentTriplesPreloadEnabled();
+            }
+
         };
     }
 }
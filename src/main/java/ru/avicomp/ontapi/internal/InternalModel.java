@@ -22,7 +22,6 @@ import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
-import org.apache.jena.shared.JenaException;
 import org.apache.jena.shared.Lock;
 import org.apache.jena.sparql.util.graph.GraphListenerBase;
 import org.apache.jena.util.iterator.ExtendedIterator;
@@ -31,6 +30,7 @@ import org.semanticweb.owlapi.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.OntApiException;
+import ru.avicomp.ontapi.OntMetrics;
 import ru.avicomp.ontapi.OntologyID;
 import ru.avicomp.ontapi.OwlObjects;
 import ru.avicomp.ontapi.internal.axioms.AbstractNaryTranslator;
@@ -40,17 +40,23 @@ import ru.avicomp.ontapi.internal.axioms.SubClassOfTranslator;
 import ru.avicomp.ontapi.jena.OntJenaException;
 import ru.avicomp.ontapi.jena.RWLockedGraph;
 import ru.avicomp.ontapi.jena.UnionGraph;
+import ru.avicomp.ontapi.jena.impl.Entities;
 import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
 import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
 import ru.avicomp.ontapi.jena.model.*;
 import ru.avicomp.ontapi.jena.utils.Iter;
+import ru.avicomp.ontapi.jena.utils.Models;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -87,6 +93,17 @@ import java.util.stream.Stream;
 @SuppressWarnings({"WeakerAccess"})
 public class InternalModel extends OntGraphModelImpl implements OntGraphModel, HasOntologyID {
     private static final Logger LOGGER = LoggerFactory.getLogger(InternalModel.class);
+    /**
+     * The types of {@link OWLObject}s, which are cached in the {@link #objects} store.
+     */
+    protected static final List<Class<? extends OWLObject>> OBJECT_TYPES = Collections.unmodifiableList(
+            Arrays.asList(OWLClass.class,
+                    OWLDatatype.class,
+                    OWLAnnotationProperty.class,
+                    OWLDataProperty.class,
+                    OWLObjectProperty.class,
+                    OWLNamedIndividual.class,
+                    OWLAnonymousIndividual.class));
     /**
      * A factory to produce fresh instances of {@link InternalObjectFactory object factory},
      * that is responsible for mapping ONT Jena Objects to OWL-API objects.
@@ -110,9 +127,47 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
     protected final InternalCache.Loading<InternalModel, SearchModel> searchModelCache;
     /**
      * OWL objects cache (to work with OWL-API 'signature' methods).
-     * Any change in the graph must also reset this cache.
+     * Each value is a {@code Map} with {@link OWLObject}s of some type (see {@link #OBJECT_TYPES}) as keys
+     * and the numbers of components (axioms and header annotations) that refer to these objects as values.
+     * Adding or removing a component through the OWL-API interface changes only the counters of its own objects.
+     * Any direct change in the graph must reset (fully or partially) this cache.
+     */
+    protected final InternalCache.Loading<Class<? extends OWLObject>, Map<OWLObject, Integer>> objects;
+    /**
+     * The axioms index (to speed up searching axioms by their key components, e.g. by subject individual).
+     * Each value is a {@code Map} with the key {@link OWLObject}s,
+     * provided by the {@link AxiomTranslator#keys(OWLAxiom) translator}, as keys
+     * and the {@code Set}s of axioms of the corresponding type, that have these objects as components, as values.
+     * The index of some type is built lazily from the loaded axioms cache,
+     * adding or removing an axiom through the OWL-API interface changes only the own entries of that axiom.
+     * Any invalidation of the axioms cache must also reset (fully or partially) this index.
+     */
+    protected final InternalCache.Loading<AxiomKey, Map<OWLObject, Set<OWLAxiom>>> index;
+    /**
+     * The reverse index of references (to speed up the OWL-API 'referencingAxioms' method).
+     * It has the same structure as the {@link #index axioms index},
+     * but the keys are all {@link OWLPrimitive}s (entities, anonymous individuals, literals and IRIs),
+     * that are referred by the axioms, not only the key components.
+     * It is maintained in the same way as the axioms index.
+     */
+    protected final InternalCache.Loading<AxiomKey, Map<OWLObject, Set<OWLAxiom>>> references;
+    /**
+     * A temporary storage for the statements, that are collected in a single pass over the graph,
+     * to be used while loading axioms of the corresponding types.
+     * Each value is removed on reading, and the whole map is cleared after loading.
+     *
+     * @see #loadAxioms()
+     */
+    protected final Map<AxiomKey, List<OntStatement>> collectedStatements = new ConcurrentHashMap<>();
+    /**
+     * A temporary storage for the signature maps, that are collected in a single pass over the components
+     * together with the map of some other type, which was actually requested.
+     * Each value is moved into the {@link #objects} cache on reading,
+     * the whole map is cleared on any change of the components and on any cache invalidation.
+     *
+     * @see #readOWLObjects(Class)
      */
-    protected final InternalCache.Loading<Class<? extends OWLObject>, Set<? extends OWLObject>> objects;
+    protected final Map<Class<? extends OWLObject>, Map<OWLObject, Integer>> collectedObjects = new ConcurrentHashMap<>();
     /**
      * Configuration settings to control behaviour.
      * This object can be modified externally.
@@ -137,6 +192,17 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
      * Ontology header {@link OWLAnnotation}s cache.
      */
     protected volatile ObjectTriplesMap<OWLAnnotation> header;
+    /**
+     * The content version, a counter that is incremented on every change of the axiomatic content
+     * and on every invalidation of the caches.
+     */
+    protected final AtomicLong version = new AtomicLong();
+    /**
+     * The currently open batch of changes or {@code null}.
+     *
+     * @see #openBatch()
+     */
+    protected volatile Batch batch;
 
     /**
      * Constructs an instance.
@@ -157,7 +223,13 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
         this.objectFactoryCache = InternalCache.createSoft(x -> factory.get(), config.parallel());
         this.searchModelCache = InternalCache.createSoft(x -> createSearchModel(), config.parallel());
         // for caches use parallel mode to ensure thread-safety fon read operations even for non-concurrent model
-        this.objects = InternalCache.createSoft(config.parallel()).asLoading(this::readOWLObjects);
+        OntMetrics metrics = config.getMetrics();
+        this.objects = InternalCache.counted(InternalCache.createSoft(config.parallel()),
+                metrics, OntMetrics.CACHE_MODEL_OBJECTS).asLoading(this::readOWLObjects);
+        this.index = InternalCache.counted(InternalCache.createSoft(config.parallel()),
+                metrics, OntMetrics.CACHE_MODEL_INDEX).asLoading(this::readAxiomsIndex);
+        this.references = InternalCache.counted(InternalCache.createSoft(config.parallel()),
+                metrics, OntMetrics.CACHE_MODEL_REFERENCES).asLoading(this::readReferencesIndex);
         getGraph().getEventManager().register(new DirectListener());
     }
 
@@ -200,6 +272,20 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
         if (id instanceof OntologyID) {
             this.cachedID = (OntologyID) id;
         }
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns the current version of the model content.
+     * Any change of axioms or header annotations, made either through the OWL-API interface or directly
+     * through the graph, and any cache invalidation lead to a new version number.
+     * Two equal numbers, obtained from the same model, mean that the content has not been changed in between.
+     * The method does not require any locking, so it can be used to validate external snapshots.
+     *
+     * @return long
+     */
+    public long getVersion() {
+        return version.get();
     }
 
     /**
@@ -443,21 +529,134 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
      */
     @SuppressWarnings("unchecked")
     protected <O extends OWLObject> Stream<O> listOWLObjects(Class<O> type) {
-        return (Stream<O>) Objects.requireNonNull(objects.get(type), "Nothing found. Type: " + type).stream();
+        return (Stream<O>) Objects.requireNonNull(objects.get(type), "Nothing found. Type: " + type).keySet().stream();
+    }
+
+    /**
+     * Extracts the OWL-objects of the specified class-type from the ontology header and axioms cache-collections.
+     * Each object is mapped to the number of components (axioms and annotations), in which it is present.
+     * The returned {@code Map} is mutable and thread-safe.
+     *
+     * @param type Class type, one of {@link #OBJECT_TYPES}
+     * @return {@code Map} with {@link OWLObject}s as keys and reference counters as values
+     */
+    protected Map<OWLObject, Integer> readOWLObjects(Class<? extends OWLObject> type) {
+        Map<OWLObject, Integer> res = collectedObjects.remove(type);
+        if (res != null) {
+            return res;
+        }
+        // walk each component only once, collecting the objects of all types which are not cached yet:
+        InternalCache<Class<? extends OWLObject>, Map<OWLObject, Integer>> cache = objects.asCache();
+        List<Class<? extends OWLObject>> types = OBJECT_TYPES.stream()
+                .filter(t -> t == type || cache.get(t) == null).collect(Collectors.toList());
+        Map<Class<? extends OWLObject>, Map<OWLObject, Integer>> maps = new HashMap<>();
+        types.forEach(t -> maps.put(t, new ConcurrentHashMap<>()));
+        Consumer<OWLObject> counter = x -> maps.get(OBJECT_TYPES.stream().filter(t -> t.isInstance(x))
+                .findFirst().orElseThrow(IllegalStateException::new)).merge(x, 1, Integer::sum);
+        listOWLAnnotations().forEach(a -> OwlObjects.objects(types, a).distinct().forEach(counter));
+        listOWLAxioms().forEach(a -> OwlObjects.objects(types, a).distinct().forEach(counter));
+        res = maps.remove(type);
+        collectedObjects.putAll(maps);
+        return res;
     }
 
     /**
-     * Extracts the Set of OWL-objects of the specified class-type from the ontology header and axioms cache-collections.
+     * Answers {@code true} if the given entity is present in the signature of this model,
+     * i.e. if it is referred by some axiom or header annotation.
+     * It is equivalent to the expression {@code this.listOWLObjects(type).anyMatch(entity::equals)},
+     * but it does not require the {@link #objects signature cache} to be loaded in the common cases:
+     * an entity, which has a declaration in the base graph, is in the signature,
+     * while an entity, that cannot be viewed as {@link OntEntity} of the corresponding type, is not.
+     * Only if these graph checks are not enough to answer
+     * (or if the axioms cache contains manually added axioms), the cache is used.
      *
-     * @param type Class type
-     * @param <O>  subtype of {@link OWLObject}
-     * @return Set of object
+     * @param entity {@link OWLEntity}, not {@code null}
+     * @return boolean
      */
-    protected <O extends OWLObject> Set<O> readOWLObjects(Class<O> type) {
-        return Stream.concat(
-                listOWLAnnotations().flatMap(a -> OwlObjects.objects(type, a)),
-                listOWLAxioms().flatMap(a -> OwlObjects.objects(type, a)))
-                .collect(Collectors.toSet());
+    public boolean containsOWLEntity(OWLEntity entity) {
+        Class<? extends OWLObject> type = OBJECT_TYPES.stream().filter(t -> t.isInstance(entity))
+                .findFirst().orElseThrow(() -> new OntApiException.IllegalArgument("Wrong entity " + entity));
+        Map<OWLObject, Integer> res = objects.asCache().get(type);
+        if (res == null) {
+            Boolean found = findOWLEntity(entity);
+            if (found != null) return found;
+            res = objects.get(type);
+        }
+        return res.containsKey(entity);
+    }
+
+    /**
+     * Tries to find the given entity using only the graph.
+     *
+     * @param entity {@link OWLEntity}, not {@code null}
+     * @return {@code Boolean} or {@code null} if the answer cannot be obtained without reading the axioms
+     * @see #containsOWLEntity(OWLEntity)
+     */
+    private Boolean findOWLEntity(OWLEntity entity) {
+        // the manually added (or removed) axioms may refer the entities in a way which differs from the graph,
+        // e.g. the declaration triple may be shared or the import with the declaration may be removed since:
+        if (hasManuallyAddedAxioms()) return null;
+        Node node = WriteHelper.toResource(entity).asNode();
+        Class<? extends OntEntity> view = WriteHelper.getEntityView(entity);
+        OntEntity res = getSearchModel().findNodeAs(node, view);
+        // an axiom can refer a non-builtin entity only if it is declared (in the base graph or in some import)
+        // and is not prohibited by the personality:
+        if (res == null) return Boolean.FALSE;
+        // a builtin entity may be referred implicitly, e.g. owl:Thing in an unqualified cardinality restriction
+        if (res.isBuiltIn() || !getSnapshotConfig().isAllowReadDeclarations()) return null;
+        // only a declaration from the base graph gives a declaration axiom;
+        // an entity declared only in some import is in the signature if it is referred by some local axiom:
+        Node type = Entities.find(view).orElseThrow(() -> new OntApiException.IllegalState("Can't find " + view))
+                .getResourceType().asNode();
+        return getBaseGraph().contains(node, RDF.Nodes.type, type) ? Boolean.TRUE : null;
+    }
+
+    /**
+     * Updates the {@link #objects} cache after the given component has been added or removed.
+     * Only the counters of those OWL objects which are referred by the component are affected,
+     * the rest of cache remains unchanged.
+     *
+     * @param component either {@link OWLAxiom} or {@link OWLAnnotation}
+     * @param add       {@code true} if the component has been added, {@code false} if it has been removed
+     */
+    protected void updateObjectsCache(OWLObject component, boolean add) {
+        collectedObjects.clear();
+        InternalCache<Class<? extends OWLObject>, Map<OWLObject, Integer>> cache = objects.asCache();
+        for (Class<? extends OWLObject> type : OBJECT_TYPES) {
+            Map<OWLObject, Integer> map = cache.get(type);
+            if (map == null) continue;
+            listComponents(type, component).distinct().forEach(x -> {
+                if (add) {
+                    map.merge(x, 1, Integer::sum);
+                } else {
+                    map.computeIfPresent(x, (k, v) -> v > 1 ? v - 1 : null);
+                }
+            });
+        }
+    }
+
+    /**
+     * Answers {@code true} if the {@link #objects} cache contains something.
+     *
+     * @return boolean
+     */
+    protected boolean hasObjectsCache() {
+        return !objects.asCache().isEmpty();
+    }
+
+    /**
+     * Lists all OWL-objects of the specified type from the given component.
+     *
+     * @param type      Class type
+     * @param component either {@link OWLAxiom} or {@link OWLAnnotation}
+     * @param <O>       subtype of {@link OWLObject}
+     * @return Stream of {@link O}s, possible with duplicates
+     */
+    private static <O extends OWLObject> Stream<O> listComponents(Class<O> type, OWLObject component) {
+        if (component instanceof OWLAxiom) {
+            return OwlObjects.objects(type, (OWLAxiom) component);
+        }
+        return OwlObjects.objects(type, (OWLAnnotation) component);
     }
 
     /**
@@ -487,7 +686,7 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
         // This differs from OWL-API expectations, so need to perform traversing over whole cache
         // to get an axiom in the same form as it has been specified manually:
         if (hasManuallyAddedAxioms()) {
-            return listOWLAxioms(OWLDeclarationAxiom.class).filter(a -> e.equals(a.getEntity()));
+            return listOWLAxioms(OWLDeclarationAxiom.class, e);
         }
         OntGraphModelImpl m = getSearchModel();
         // in the case of a large ontology, the direct traverse over the graph works significantly faster:
@@ -510,7 +709,7 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
     public Stream<OWLAnnotationAssertionAxiom> listOWLAnnotationAssertionAxioms(OWLAnnotationSubject s) {
         if (!getSnapshotConfig().isLoadAnnotationAxioms()) return Stream.empty();
         if (hasManuallyAddedAxioms()) {
-            return listOWLAxioms(OWLAnnotationAssertionAxiom.class).filter(a -> s.equals(a.getSubject()));
+            return listOWLAxioms(OWLAnnotationAssertionAxiom.class, s);
         }
         OntGraphModelImpl m = getSearchModel();
         InternalObjectFactory df = getObjectFactory();
@@ -529,7 +728,7 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
      */
     public Stream<OWLSubClassOfAxiom> listOWLSubClassOfAxioms(OWLClass sub) {
         if (hasManuallyAddedAxioms()) {
-            return listOWLAxioms(OWLSubClassOfAxiom.class).filter(a -> Objects.equals(a.getSubClass(), sub));
+            return listOWLAxioms(OWLSubClassOfAxiom.class, sub);
         }
         OntGraphModelImpl m = getSearchModel();
         InternalObjectFactory df = getObjectFactory();
@@ -549,7 +748,7 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
      */
     public Stream<OWLEquivalentClassesAxiom> listOWLEquivalentClassesAxioms(OWLClass c) {
         if (hasManuallyAddedAxioms()) {
-            return listOWLAxioms(OWLEquivalentClassesAxiom.class).filter(a -> a.operands().anyMatch(c::equals));
+            return listOWLAxioms(OWLEquivalentClassesAxiom.class, c);
         }
         InternalObjectFactory df = getObjectFactory();
         OntGraphModelImpl m = getSearchModel();
@@ -568,6 +767,7 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
      * @see #listOWLAnnotations()
      */
     public Stream<OWLAxiom> listOWLAxioms() {
+        loadAxioms();
         return getAxioms().values().stream().flatMap(ObjectTriplesMap::objects);
     }
 
@@ -579,6 +779,9 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
      */
     public Stream<OWLAxiom> listOWLAxioms(Collection<AxiomKey> types) {
         Map<AxiomKey, ObjectTriplesMap<OWLAxiom>> axioms = getAxioms();
+        if (getSnapshotConfig().parallel()) {
+            loadAxioms(types.stream().map(axioms::get).collect(Collectors.toList()));
+        }
         return types.stream().flatMap(t -> axioms.get(t).objects());
     }
 
@@ -590,6 +793,9 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
      */
     public Stream<OWLAxiom> listOWLAxioms(Iterable<AxiomType<?>> filter) {
         Map<AxiomKey, ObjectTriplesMap<OWLAxiom>> axioms = getAxioms();
+        if (getSnapshotConfig().parallel()) {
+            loadAxioms(AxiomKey.list(filter).map(axioms::get).collect(Collectors.toList()));
+        }
         return AxiomKey.list(filter).flatMap(x -> axioms.get(x).objects());
     }
 
@@ -617,6 +823,190 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
         return (Stream<A>) getAxioms().get(AxiomKey.get(type)).objects();
     }
 
+    /**
+     * Lists axioms of the given class-type, which have the specified object as a key component.
+     * The key components of an axiom are determined by its {@link AxiomTranslator#keys(OWLAxiom) translator},
+     * e.g. for a {@link OWLClassAssertionAxiom Class Assertion} it is the individual,
+     * and for a {@link OWLObjectPropertyDomainAxiom Object Property Domain} it is the property.
+     * If the content cache is enabled, the search is performed through the {@link #index axioms index},
+     * and therefore it costs about as much as the size of the result,
+     * otherwise it is a filtering of all axioms of the given type.
+     *
+     * @param type {@code Class}-type of {@link OWLAxiom}, its translator must support indexing
+     * @param key  {@link OWLObject}, not {@code null}
+     * @param <A>  type of axiom
+     * @return Stream of {@link OWLAxiom}s
+     * @throws OntApiException.Unsupported if the axioms of the given type are not indexed
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends OWLAxiom> Stream<A> listOWLAxioms(Class<A> type, OWLObject key) {
+        Objects.requireNonNull(key, "Null key");
+        AxiomKey k = AxiomKey.get(type);
+        if (!getSnapshotConfig().isContentCacheEnabled()) {
+            AxiomTranslator<A> t = AxiomParserProvider.get(type);
+            return listOWLAxioms(type).filter(a -> listKeys(t, a).anyMatch(key::equals));
+        }
+        return (Stream<A>) listIndexed(index, k, key).stream();
+    }
+
+    /**
+     * Lists all axioms, which refer the given {@link OWLPrimitive primitive}
+     * (i.e. {@link OWLEntity}, {@link OWLAnonymousIndividual}, {@link OWLLiteral} or {@link IRI}),
+     * either directly or through their components, including annotations.
+     * For a {@link OWLDatatype} the result also includes axioms with literals of that datatype.
+     * If the content cache is enabled, the search is performed through the {@link #references references index},
+     * and therefore it costs about as much as the size of the result,
+     * otherwise it is a filtering of all axioms.
+     *
+     * @param primitive {@link OWLPrimitive}, not {@code null}
+     * @return Stream of {@link OWLAxiom}s
+     */
+    public Stream<OWLAxiom> listOWLAxioms(OWLPrimitive primitive) {
+        Objects.requireNonNull(primitive, "Null primitive");
+        if (!getSnapshotConfig().isContentCacheEnabled()) {
+            return listOWLAxioms().filter(a -> listReferences(a).anyMatch(primitive::equals));
+        }
+        // load all buckets at once, since the index of each type is built from the whole bucket:
+        loadAxioms();
+        List<OWLAxiom> res = new ArrayList<>();
+        for (AxiomKey k : AxiomKey.values()) {
+            res.addAll(listIndexed(references, k, primitive));
+        }
+        return res.stream();
+    }
+
+    /**
+     * Finds the axioms of the given type in the specified index.
+     * If the corresponding axioms bucket has been released (or invalidated), the index for it is rebuilt.
+     *
+     * @param cache {@link InternalCache.Loading} - either {@link #index} or {@link #references}
+     * @param type  {@link AxiomKey}
+     * @param key   {@link OWLObject}
+     * @return a fresh {@code Collection} of {@link OWLAxiom}s,
+     * which is safe to use while the model is being modified
+     */
+    protected Collection<OWLAxiom> listIndexed(InternalCache.Loading<AxiomKey, Map<OWLObject, Set<OWLAxiom>>> cache,
+                                               AxiomKey type,
+                                               OWLObject key) {
+        if (!getAxioms().get(type).isLoaded()) {
+            // the axioms cache has been released, the index must be rebuilt
+            cache.asCache().remove(type);
+        }
+        Set<OWLAxiom> res = cache.get(type).get(key);
+        return res == null ? Collections.emptyList() : new ArrayList<>(res);
+    }
+
+    /**
+     * Builds the axioms index for the given type from the axioms cache.
+     * The returned {@code Map} is mutable and thread-safe.
+     *
+     * @param key {@link AxiomKey}
+     * @return {@code Map} with {@link OWLObject}s as keys and {@code Set}s of {@link OWLAxiom}s as values
+     * @throws OntApiException.Unsupported if the axioms of the given type are not indexed
+     */
+    protected Map<OWLObject, Set<OWLAxiom>> readAxiomsIndex(AxiomKey key) {
+        AxiomTranslator<OWLAxiom> t = AxiomParserProvider.getByType(key.getAxiomType());
+        return readIndex(key, a -> listKeys(t, a));
+    }
+
+    /**
+     * Builds the references index for the given type from the axioms cache.
+     * The returned {@code Map} is mutable and thread-safe.
+     *
+     * @param key {@link AxiomKey}
+     * @return {@code Map} with {@link OWLPrimitive}s as keys and {@code Set}s of {@link OWLAxiom}s as values
+     */
+    protected Map<OWLObject, Set<OWLAxiom>> readReferencesIndex(AxiomKey key) {
+        return readIndex(key, InternalModel::listReferences);
+    }
+
+    /**
+     * Builds an index for the given type from the axioms cache.
+     *
+     * @param key    {@link AxiomKey}
+     * @param mapper {@link Function} to get index keys from an axiom
+     * @return {@code Map} with {@link OWLObject}s as keys and {@code Set}s of {@link OWLAxiom}s as values
+     */
+    private Map<OWLObject, Set<OWLAxiom>> readIndex(AxiomKey key,
+                                                    Function<OWLAxiom, Stream<? extends OWLObject>> mapper) {
+        Map<OWLObject, Set<OWLAxiom>> res = new ConcurrentHashMap<>();
+        listOWLAxioms(key.getAxiomType()).forEach(a -> mapper.apply(a)
+                .forEach(x -> res.computeIfAbsent(x, o -> new LinkedHashSet<>()).add(a)));
+        return res;
+    }
+
+    /**
+     * Updates the {@link #index axioms index} and the {@link #references references index}
+     * after the given axiom has been added or removed.
+     * Only the entries of the axiom's own components are affected,
+     * nothing happens if there is no index for the axiom type yet.
+     *
+     * @param axiom {@link OWLAxiom}
+     * @param add   {@code true} if the axiom has been added, {@code false} if it has been removed
+     */
+    protected void updateAxiomsIndex(OWLAxiom axiom, boolean add) {
+        AxiomKey k = AxiomKey.get(axiom.getAxiomType());
+        Map<OWLObject, Set<OWLAxiom>> map = index.asCache().get(k);
+        if (map != null) {
+            updateIndex(map, listKeys(AxiomParserProvider.getByType(axiom.getAxiomType()), axiom), axiom, add);
+        }
+        map = references.asCache().get(k);
+        if (map != null) {
+            updateIndex(map, listReferences(axiom), axiom, add);
+        }
+    }
+
+    /**
+     * Puts the axiom into the index or removes it from there.
+     *
+     * @param map   {@code Map}, the index
+     * @param keys  Stream of {@link OWLObject}s - the keys of the axiom
+     * @param axiom {@link OWLAxiom}
+     * @param add   boolean
+     */
+    private static void updateIndex(Map<OWLObject, Set<OWLAxiom>> map,
+                                    Stream<? extends OWLObject> keys,
+                                    OWLAxiom axiom,
+                                    boolean add) {
+        keys.distinct().forEach(x -> {
+            if (add) {
+                map.computeIfAbsent(x, o -> new LinkedHashSet<>()).add(axiom);
+            } else {
+                map.computeIfPresent(x, (o, v) -> v.remove(axiom) && v.isEmpty() ? null : v);
+            }
+        });
+    }
+
+    /**
+     * Lists all {@link OWLPrimitive}s referred by the given axiom, without duplicates.
+     * Note: the {@link OWLDatatype}s of literals are also included.
+     *
+     * @param axiom {@link OWLAxiom}
+     * @return Stream of {@link OWLObject}s
+     */
+    private static Stream<OWLObject> listReferences(OWLAxiom axiom) {
+        return Stream.<Stream<? extends OWLObject>>of(OwlObjects.objects(OWLPrimitive.class, axiom),
+                OwlObjects.objects(OWLDatatype.class, axiom),
+                OwlObjects.iris(axiom)).<OWLObject>flatMap(Function.identity()).distinct();
+    }
+
+    /**
+     * Lists the key components of the given axiom using the translator.
+     *
+     * @param translator {@link AxiomTranslator}
+     * @param axiom      {@link OWLAxiom}
+     * @param <A>        type of axiom
+     * @return Stream of {@link OWLObject}s
+     * @throws OntApiException.Unsupported if the axioms of the given type are not indexed
+     */
+    private static <A extends OWLAxiom> Stream<? extends OWLObject> listKeys(AxiomTranslator<A> translator, A axiom) {
+        Stream<? extends OWLObject> res = translator.keys(axiom);
+        if (res == null) {
+            throw new OntApiException.Unsupported("The axioms of type " + axiom.getAxiomType() + " are not indexed");
+        }
+        return res;
+    }
+
     /**
      * Answers {@code true} if the given axiom is present within this buffer-model.
      * It is equivalent to the expression {@code this.listOWLAxioms().anyMatch(a::equals)}.
@@ -632,11 +1022,93 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
         // otherwise #contains(OWLAxiom) will force collecting axioms including declarations and,
         // for example, after adding SubClassOf there would be also class declarations, which may confuse.
         if (!map.isLoaded()) {
-            axioms.forEach((t, v) -> v.load());
+            loadAxioms();
         }
         return map.contains(a);
     }
 
+    /**
+     * Loads all axiom buckets into memory.
+     * The axiom types whose translators have to look through the whole graph
+     * (see {@link AxiomTranslator#statementFilter(OntGraphModel, InternalConfig)})
+     * share a single pass over the base graph, if there are several such buckets to load:
+     * the collected statements are dispatched to the corresponding buckets,
+     * instead of scanning the graph again for each of them.
+     * The rest of buckets are loaded in the usual way.
+     *
+     * @see #loadAxioms(Collection)
+     */
+    protected void loadAxioms() {
+        Map<AxiomKey, ObjectTriplesMap<OWLAxiom>> axioms = getAxioms();
+        List<AxiomKey> keys = axioms.entrySet().stream()
+                .filter(x -> !x.getValue().isLoaded())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        if (keys.isEmpty()) return;
+        try {
+            collectedStatements.putAll(collectStatements(keys));
+            loadAxioms(keys.stream().map(axioms::get).collect(Collectors.toList()));
+        } finally {
+            collectedStatements.clear();
+        }
+    }
+
+    /**
+     * Collects the local statements for the given axiom types within a single pass over the base graph.
+     * Only those types are taken into account
+     * whose translators provide {@link AxiomTranslator#statementFilter(OntGraphModel, InternalConfig) a filter};
+     * if there are less than two such types, nothing is collected.
+     *
+     * @param keys {@code Collection} of {@link AxiomKey}s
+     * @return {@code Map} with {@link AxiomKey}s as keys and {@code List}s of {@link OntStatement}s as values
+     */
+    protected Map<AxiomKey, List<OntStatement>> collectStatements(Collection<AxiomKey> keys) {
+        OntGraphModelImpl m = getSearchModel();
+        InternalConfig conf = getSnapshotConfig();
+        Map<AxiomKey, Predicate<OntStatement>> filters = new EnumMap<>(AxiomKey.class);
+        keys.forEach(k -> {
+            Predicate<OntStatement> f = AxiomParserProvider.get(k.getAxiomClass()).statementFilter(m, conf);
+            if (f != null) {
+                filters.put(k, f);
+            }
+        });
+        if (filters.size() < 2) {
+            return Collections.emptyMap();
+        }
+        Map<AxiomKey, List<OntStatement>> res = new EnumMap<>(AxiomKey.class);
+        filters.keySet().forEach(k -> res.put(k, new ArrayList<>()));
+        Models.listStatements(m, null, null, null).forEachRemaining(s -> filters.forEach((k, f) -> {
+            if (f.test(s)) {
+                res.get(k).add(s);
+            }
+        }));
+        return res;
+    }
+
+    /**
+     * Loads all the given axiom buckets into memory, if they are not loaded yet.
+     * In {@link InternalConfig#parallel() parallel} mode the buckets are filled simultaneously,
+     * using the common {@link java.util.concurrent.ForkJoinPool fork-join pool}:
+     * each of them reads the graph through its own {@link AxiomTranslator},
+     * while the {@link SearchModel} (with its nodes cache) and the {@link InternalObjectFactory} are shared.
+     * Otherwise the buckets are loaded one by one in the current thread.
+     * Note: a caller must ensure that the graph is not modified during this operation.
+     *
+     * @param maps {@code Collection} of {@link ObjectTriplesMap}s
+     */
+    protected void loadAxioms(Collection<ObjectTriplesMap<OWLAxiom>> maps) {
+        List<ObjectTriplesMap<OWLAxiom>> res = maps.stream().filter(x -> !x.isLoaded()).collect(Collectors.toList());
+        if (res.isEmpty()) return;
+        InternalConfig conf = getSnapshotConfig();
+        if (res.size() == 1 || !conf.parallel() || !conf.isContentCacheEnabled()) {
+            res.forEach(ObjectTriplesMap::load);
+            return;
+        }
+        // initialize the shared search model before forking
+        getSearchModel();
+        res.parallelStream().forEach(ObjectTriplesMap::load);
+    }
+
     /**
      * Adds the given annotation to the ontology header of the model.
      *
@@ -656,6 +1128,7 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
     public void add(OWLAxiom axiom) {
         add(axiom, getAxioms().get(AxiomKey.get(axiom.getAxiomType())),
                 a -> AxiomParserProvider.getByType(a.getAxiomType()).write(a, InternalModel.this));
+        updateAxiomsIndex(axiom, true);
     }
 
     /**
@@ -668,39 +1141,36 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
      */
     protected <O extends OWLObject> void add(O object, ObjectTriplesMap<O> map, Consumer<O> writer) {
         GraphListener listener = map.addListener(object);
-        // todo: there is no need to invalidate *whole* objects cache
-        clearObjectsCaches();
+        boolean isNew = hasObjectsCache() && !map.contains(object);
+        clearSearchCaches();
         UnionGraph.OntEventManager evm = getGraph().getEventManager();
         try {
             evm.register(listener);
             writer.accept(object);
+            if (isNew) {
+                updateObjectsCache(object, true);
+            }
         } catch (OntApiException e) {
             throw e;
         } catch (Exception e) {
             throw new OntApiException(String.format("OWLObject: %s, message: %s", object, e.getMessage()), e);
         } finally {
             evm.unregister(listener);
+            version.incrementAndGet();
         }
     }
 
     /**
      * Removes the given axiom from the model.
-     * Also, clears the cache for the entity type, if the entity has been belonged to the removed axiom.
+     * Also, updates the objects cache for those entities, which have been belonged to the removed axiom,
+     * and the axioms index.
      *
      * @param axiom {@link OWLAxiom}
      * @see #remove(OWLAnnotation)
      */
     public void remove(OWLAxiom axiom) {
         remove(axiom, getAxioms().get(AxiomKey.get(axiom.getAxiomType())));
-        Stream.of(OWLClass.class,
-                OWLDatatype.class,
-                OWLAnnotationProperty.class,
-                OWLDataProperty.class,
-                OWLObjectProperty.class,
-                OWLNamedIndividual.class,
-                OWLAnonymousIndividual.class)
-                .filter(type -> OwlObjects.objects(type, axiom).findAny().isPresent())
-                .forEach(type -> objects.asCache().remove(type));
+        updateAxiomsIndex(axiom, false);
     }
 
     /**
@@ -711,23 +1181,46 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
      */
     public void remove(OWLAnnotation annotation) {
         remove(annotation, getHeader());
-        // todo: there is no need to invalidate *whole* objects cache
-        clearObjectsCaches();
     }
 
     /**
      * Removes the {@code component} from the given {@link ObjectTriplesMap map} and the model.
-     * Note: need also remove associated objects from the {@link #objects} cache!
+     * Also, decrements the counters of the associated objects in the {@link #objects} cache.
      *
      * @param component either {@link OWLAxiom} or {@link OWLAnnotation}
      * @param map       {@link ObjectTriplesMap}
      * @param <O>       the type of OWLObject
-     * @see #clearObjectsCaches()
+     * @see #updateObjectsCache(OWLObject, boolean)
      */
     protected <O extends OWLObject> void remove(O component, ObjectTriplesMap<O> map) {
+        boolean isPresent = hasObjectsCache() && map.contains(component);
         Set<Triple> triples = map.getTripleSet(component);
         map.delete(component);
         triples.stream().filter(t -> !containsTriple(t)).forEach(this::delete);
+        if (isPresent) {
+            updateObjectsCache(component, false);
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * Opens a batch to add and remove many axioms at once.
+     * Unlike the methods {@link #add(OWLAxiom)} and {@link #remove(OWLAxiom)},
+     * which prepare and reset the model state for each axiom,
+     * a batch registers a single graph listener for all the additions,
+     * and invalidates the search caches and increments the {@link #getVersion() version} only once, on closing.
+     * While the batch is open, the model must not be read through the search model
+     * and must not be modified other than through the batch.
+     * Only one batch can be open at a time.
+     *
+     * @return {@link Batch}, must be closed after use
+     * @throws OntApiException if there is already an open batch
+     */
+    public Batch openBatch() throws OntApiException {
+        if (batch != null) {
+            throw new OntApiException("The batch is already open");
+        }
+        return batch = new Batch();
     }
 
     protected boolean containsTriple(Triple triple) {
@@ -761,28 +1254,33 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
     /**
      * Clears the cache for the specified triple.
      * This method is called if work directly through jena model interface.
+     * Only those buckets that contain the triple are invalidated,
+     * and only those types of the {@link #objects} cache, that are referred by the affected components;
+     * the {@link #index axioms index} and the {@link #references references index}
+     * are reset for the invalidated buckets.
      *
      * @param triple {@link Triple}
      */
     protected void clearCacheOnDelete(Triple triple) {
-        maps().filter(ObjectTriplesMap::isLoaded)
-                .filter(x -> findObjectsToInvalidate(x, triple).findFirst().isPresent())
-                .forEach(ObjectTriplesMap::clear);
-        // todo: there is no need to invalidate *whole* objects cache
-        clearObjectsCaches();
-    }
-
-    protected <O extends OWLObject> Stream<O> findObjectsToInvalidate(ObjectTriplesMap<O> map, Triple t) {
-        return map.objects().filter(o -> {
-            try {
-                return map.contains(o, t);
-            } catch (JenaException j) {
-                // may occur in case a previous operation
-                // (ObjectTriplesMap#unregister() or direct working through jena interface)
-                // breaks the object structure
-                return true;
-            }
+        Set<Class<? extends OWLObject>> types = new HashSet<>();
+        maps().filter(ObjectTriplesMap::isLoaded).forEach(map -> {
+            List<? extends OWLObject> found = map.objects(triple).collect(Collectors.toList());
+            if (found.isEmpty()) return;
+            found.forEach(o -> OBJECT_TYPES.stream()
+                    .filter(t -> !types.contains(t) && listComponents(t, o).findFirst().isPresent())
+                    .forEach(types::add));
+            map.clear();
         });
+        InternalCache<Class<? extends OWLObject>, Map<OWLObject, Integer>> cache = objects.asCache();
+        types.forEach(cache::remove);
+        collectedObjects.clear();
+        getAxioms().forEach((k, v) -> {
+            if (v.isLoaded()) return;
+            index.asCache().remove(k);
+            references.asCache().remove(k);
+        });
+        clearSearchCaches();
+        version.incrementAndGet();
     }
 
     /**
@@ -834,7 +1332,10 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
         axioms = null;
         header = null;
         snapshot = null;
+        index.asCache().clear();
+        references.asCache().clear();
         clearObjectsCaches();
+        version.incrementAndGet();
     }
 
     /**
@@ -843,6 +1344,16 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
      */
     protected void clearObjectsCaches() {
         objects.asCache().clear();
+        collectedObjects.clear();
+        clearSearchCaches();
+    }
+
+    /**
+     * Invalidates {@link #objectFactoryCache} and {@link #searchModelCache} caches,
+     * which depend on the graph state, but not on the set of components.
+     * Auxiliary method.
+     */
+    protected void clearSearchCaches() {
         objectFactoryCache.asCache().clear();
         searchModelCache.asCache().clear();
     }
@@ -876,7 +1387,18 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
     protected <A extends OWLAxiom> ObjectTriplesMap<A> createAxiomTriplesMap(Class<A> type) {
         InternalObjectFactory df = getObjectFactory();
         AxiomTranslator<A> t = AxiomParserProvider.get(type);
-        return createObjectTriplesMap(type, () -> t.listAxioms(InternalModel.this.getSearchModel(), df, getSnapshotConfig()));
+        AxiomKey key = AxiomKey.get(type);
+        return createObjectTriplesMap(type, () -> {
+            InternalConfig conf = getSnapshotConfig();
+            // the statements may have already been collected, see #loadAxioms()
+            List<OntStatement> res = collectedStatements.remove(key);
+            if (res != null) {
+                return OntMetrics.timed(t.listAxioms(Iter.create(res), df, conf),
+                        conf.getMetrics(), OntMetrics.translator(key.getAxiomType()));
+            }
+            return OntMetrics.timed(t.listAxioms(InternalModel.this.getSearchModel(), df, conf),
+                    conf.getMetrics(), OntMetrics.translator(key.getAxiomType()));
+        });
     }
 
     /**
@@ -902,11 +1424,12 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
         InternalConfig conf = getSnapshotConfig();
         if (!conf.isContentCacheEnabled())
             return new DirectObjectTripleMapImpl<>(loader);
+        boolean withTriples = conf.isContentTriplesPreloadEnabled();
         if (!LOGGER.isDebugEnabled()) {
-            return new CacheObjectTriplesMapImpl<>(loader, conf.parallel());
+            return new CacheObjectTriplesMapImpl<>(loader, conf.parallel(), withTriples);
         }
         OntID id = getID();
-        return new CacheObjectTriplesMapImpl<O>(loader, conf.parallel()) {
+        return new CacheObjectTriplesMapImpl<O>(loader, conf.parallel(), withTriples) {
             @Override
             protected CachedMap loadMap() {
                 Instant start = Instant.now();
@@ -923,6 +1446,144 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
         };
     }
 
+    /**
+     * A batch of axiom changes.
+     * The axioms buckets are loaded once, on the first {@link #contains(OWLAxiom)} check,
+     * and then the changes are applied to the cache and to the graph directly.
+     * Simple axioms are written as plain triples by the {@link TripleWriter},
+     * all others go through the {@link AxiomTranslator}s.
+     *
+     * @see #openBatch()
+     */
+    public class Batch implements AutoCloseable {
+        private final BatchListener listener = new BatchListener();
+        private final TripleWriter writer = new TripleWriter(InternalModel.this);
+        private final boolean withObjectsCache;
+
+        protected Batch() {
+            this.withObjectsCache = hasObjectsCache();
+            clearSearchCaches();
+            getGraph().getEventManager().register(listener);
+        }
+
+        /**
+         * Adds the axiom to the model if it is not present there.
+         *
+         * @param axiom {@link OWLAxiom}
+         * @return {@code true} if the model has been changed
+         */
+        public boolean add(OWLAxiom axiom) {
+            if (contains(axiom)) {
+                return false;
+            }
+            AxiomTranslator<OWLAxiom> translator = AxiomParserProvider.getByType(axiom.getAxiomType());
+            listener.target = getAxioms().get(AxiomKey.get(axiom.getAxiomType())).addListener(axiom);
+            try {
+                if (!writer.write(axiom)) {
+                    translator.write(axiom, InternalModel.this);
+                }
+            } catch (OntApiException e) {
+                writer.reset();
+                throw e;
+            } catch (Exception e) {
+                writer.reset();
+                throw new OntApiException(String.format("OWLObject: %s, message: %s", axiom, e.getMessage()), e);
+            } finally {
+                listener.target = null;
+            }
+            if (withObjectsCache) {
+                updateObjectsCache(axiom, true);
+            }
+            updateAxiomsIndex(axiom, true);
+            return true;
+        }
+
+        /**
+         * Removes the axiom from the model if it is present there.
+         *
+         * @param axiom {@link OWLAxiom}
+         * @return {@code true} if the model has been changed
+         */
+        public boolean remove(OWLAxiom axiom) {
+            if (!contains(axiom)) {
+                return false;
+            }
+            writer.reset();
+            InternalModel.this.remove(axiom);
+            return true;
+        }
+
+        @Override
+        public void close() {
+            getGraph().getEventManager().unregister(listener);
+            batch = null;
+            clearSearchCaches();
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * A graph listener that forwards the events to the listener of the axiom that is being added.
+     */
+    protected static class BatchListener implements GraphListener {
+        protected GraphListener target;
+
+        @Override
+        public void notifyAddTriple(Graph g, Triple t) {
+            if (target != null) target.notifyAddTriple(g, t);
+        }
+
+        @Override
+        public void notifyAddArray(Graph g, Triple[] triples) {
+            if (target != null) target.notifyAddArray(g, triples);
+        }
+
+        @Override
+        public void notifyAddList(Graph g, List<Triple> triples) {
+            if (target != null) target.notifyAddList(g, triples);
+        }
+
+        @Override
+        public void notifyAddIterator(Graph g, Iterator<Triple> it) {
+            if (target != null) target.notifyAddIterator(g, it);
+        }
+
+        @Override
+        public void notifyAddGraph(Graph g, Graph added) {
+            if (target != null) target.notifyAddGraph(g, added);
+        }
+
+        @Override
+        public void notifyDeleteTriple(Graph g, Triple t) {
+            if (target != null) target.notifyDeleteTriple(g, t);
+        }
+
+        @Override
+        public void notifyDeleteList(Graph g, List<Triple> triples) {
+            if (target != null) target.notifyDeleteList(g, triples);
+        }
+
+        @Override
+        public void notifyDeleteArray(Graph g, Triple[] triples) {
+            if (target != null) target.notifyDeleteArray(g, triples);
+        }
+
+        @Override
+        public void notifyDeleteIterator(Graph g, Iterator<Triple> it) {
+            if (target != null) target.notifyDeleteIterator(g, it);
+        }
+
+        @Override
+        public void notifyDeleteGraph(Graph g, Graph removed) {
+            if (target != null) target.notifyDeleteGraph(g, removed);
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object value) {
+            if (target != null) target.notifyEvent(source, value);
+        }
+    }
+
     /**
      * The direct listener to synchronize caches while working through OWL-API and jena at the same time.
      *
@@ -931,7 +1592,7 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, H
      */
     public class DirectListener extends GraphListenerBase {
         private boolean hasObjectListener() {
-            return getGraph().getEventManager().hasListeners(CacheObjectTriplesMapImpl.Listener.class);
+            return batch != null || getGraph().getEventManager().hasListeners(CacheObjectTriplesMapImpl.Listener.class);
         }
 
         private void invalidate() {
@@ -16,6 +16,7 @@ package ru.avicomp.ontapi.internal;
 
 import org.apache.jena.graph.GraphListener;
 import org.apache.jena.graph.Triple;
+import org.apache.jena.shared.JenaException;
 import org.semanticweb.owlapi.model.OWLObject;
 
 import java.util.Set;
@@ -124,6 +125,27 @@ public interface ObjectTriplesMap<O extends OWLObject> {
         return triples(key).anyMatch(triple::equals);
     }
 
+    /**
+     * Lists all {@code OWLObject}s that are associated with the given {@code Triple}.
+     * An object with broken triple-structure is also considered as associated,
+     * since it is impossible to say exactly whether it contains the triple or not.
+     *
+     * @param triple {@link Triple}, not {@code null}
+     * @return {@code Stream} of {@link O}s
+     */
+    default Stream<O> objects(Triple triple) {
+        return objects().filter(o -> {
+            try {
+                return contains(o, triple);
+            } catch (JenaException j) {
+                // may occur in case a previous operation
+                // (ObjectTriplesMap#unregister() or direct working through jena interface)
+                // breaks the object structure
+                return true;
+            }
+        });
+    }
+
     /**
      * Answers {@code true} if the given {@link Triple} is present into the map.
      *
@@ -18,6 +18,7 @@ import org.apache.jena.enhanced.EnhGraph;
 import org.apache.jena.enhanced.EnhNode;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
@@ -26,7 +27,9 @@ import org.apache.jena.util.iterator.NullIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.OntApiException;
+import ru.avicomp.ontapi.OntMetrics;
 import ru.avicomp.ontapi.jena.OntJenaException;
+import ru.avicomp.ontapi.jena.impl.Entities;
 import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
 import ru.avicomp.ontapi.jena.impl.OntObjectImpl;
 import ru.avicomp.ontapi.jena.impl.conf.BaseFactoryImpl;
@@ -36,15 +39,20 @@ import ru.avicomp.ontapi.jena.impl.conf.PersonalityBuilder;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
 import ru.avicomp.ontapi.jena.model.OntObject;
 import ru.avicomp.ontapi.jena.model.OntSWRL;
+import ru.avicomp.ontapi.jena.utils.Iter;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
 
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
 
 /**
  * Model with optimizations including nodes cache.
  * It is used in various operations of collecting axioms, each of them must be isolated by R/W lock,
  * which guarantees that underlying graph is not changed.
+ * In {@link InternalConfig#parallel() parallel} mode the same instance may be shared between several threads
+ * (e.g. while loading different axiom types simultaneously), so all its caches are thread-safe in that case.
  * <p>
  * Created by @ssz on 16.02.2019.
  *
@@ -59,9 +67,12 @@ public class SearchModel extends OntGraphModelImpl {
     // the original personality.
     protected final OntPersonality personality;
 
+    // the decoded []-lists: head node -> member nodes, null if there is no nodes cache
+    protected final InternalCache<Node, Node[]> lists;
+
     // optimization flags for annotations:
-    private Boolean hasAnnotations;
-    private Boolean hasSubAnnotations;
+    private volatile Boolean hasAnnotations;
+    private volatile Boolean hasSubAnnotations;
 
     public SearchModel(Graph graph, OntPersonality personality, InternalConfig conf) {
         this(graph, personality, conf, true);
@@ -74,6 +85,7 @@ public class SearchModel extends OntGraphModelImpl {
         super(graph, withCache ? cachedPersonality(personality, conf) : personality);
         this.conf = Objects.requireNonNull(conf);
         this.personality = personality;
+        this.lists = withCache ? InternalCache.createBounded(conf.parallel(), conf.getLoadNodesCacheSize()) : null;
     }
 
     static <X> X handleFetchNodeAsException(OntJenaException error,
@@ -91,6 +103,7 @@ public class SearchModel extends OntGraphModelImpl {
 
     /**
      * Creates a {@link OntPersonality} with nodes cache inside.
+     * All object factories share the same {@link NodeTypes} table.
      * Each cached {@link Node} can be either URI or blank,
      * and never literal, since size of literals is unpredictable.
      *
@@ -102,13 +115,14 @@ public class SearchModel extends OntGraphModelImpl {
         if (!conf.useLoadNodesCache()) {
             throw new IllegalArgumentException("Negative cache size is specified");
         }
-        int size = conf.getLoadNodesCacheSize();
         PersonalityBuilder res = PersonalityBuilder.from(from);
-        from.types(OntObject.class)
+        List<Class<? extends OntObject>> types = from.types(OntObject.class)
                 // do not cache SWRL.DArg (and, therefore, SWRL.Arg) since an instance of this type
                 // can be Literal with unpredictable length
                 .filter(x -> x != OntSWRL.DArg.class && x != OntSWRL.Arg.class)
-                .forEach(x -> CachedFactory.cache(res, from, x, size, conf.parallel()));
+                .collect(Collectors.toList());
+        NodeTypes table = new NodeTypes(from, types, conf.getLoadNodesCacheSize(), conf.parallel(), conf.getMetrics());
+        types.forEach(x -> CachedFactory.cache(res, from, x, table));
         return res.build();
     }
 
@@ -158,6 +172,28 @@ public class SearchModel extends OntGraphModelImpl {
         return super.listAnnotations(t, s, p, o);
     }
 
+    /**
+     * Lists the members of the []-list with the given head.
+     * If the nodes cache is enabled, the list is decoded once and remembered by its head node.
+     * There is no need in any explicit invalidation:
+     * any change in the base graph discards the whole search model (see {@link InternalModel#clearSearchCaches()}).
+     *
+     * @param head {@link Node} the first cell of a non-empty list
+     * @return {@link ExtendedIterator} of {@link Node}s
+     */
+    @Override
+    public ExtendedIterator<Node> listRDFListMembers(Node head) {
+        if (lists == null) {
+            return super.listRDFListMembers(head);
+        }
+        Node[] res = lists.get(head);
+        if (res == null) {
+            // a broken list throws an exception here, which is not cached
+            lists.put(head, res = super.listRDFListMembers(head).toList().toArray(new Node[0]));
+        }
+        return Iter.of(res);
+    }
+
     @Override
     public <N extends RDFNode> N fetchNodeAs(Node node, Class<N> type) {
         try {
@@ -168,35 +204,32 @@ public class SearchModel extends OntGraphModelImpl {
     }
 
     /**
-     * A {@link ObjectFactory} impl with nodes cache.
+     * A {@link ObjectFactory} impl that memorizes the {@link #canWrap(Node, EnhGraph)} answers
+     * in the {@link NodeTypes} table, which is shared between all factories of a personality.
      */
     public static class CachedFactory extends BaseFactoryImpl {
         private final ObjectFactory from;
         private final Class<? extends OntObject> type;
-        private final InternalCache<Node, Boolean> canWrapCache;
+        private final NodeTypes table;
+        private final int index;
 
-        public CachedFactory(Class<? extends OntObject> type, ObjectFactory from, int limit, boolean parallel) {
+        /**
+         * Creates a factory.
+         *
+         * @param type  {@code Class}-type of {@link OntObject}
+         * @param from  {@link ObjectFactory} to delegate
+         * @param table {@link NodeTypes} to store answers, must be shared between all factories
+         */
+        public CachedFactory(Class<? extends OntObject> type, ObjectFactory from, NodeTypes table) {
             this.type = Objects.requireNonNull(type);
             this.from = Objects.requireNonNull(from);
-            this.canWrapCache = InternalCache.createBounded(parallel, limit);
-        }
-
-        private static CachedFactory create(Class<? extends OntObject> type,
-                                            ObjectFactory from,
-                                            int limit,
-                                            boolean parallel) {
-            return new CachedFactory(type,
-                    from instanceof CachedFactory ? ((CachedFactory) from).from : from,
-                    limit,
-                    parallel);
+            this.table = Objects.requireNonNull(table);
+            this.index = table.index(type);
         }
 
-        static void cache(PersonalityBuilder res,
-                          OntPersonality from,
-                          Class<? extends OntObject> type,
-                          int limit,
-                          boolean parallel) {
-            res.add(type, create(type, from.getObjectFactory(type), limit, parallel));
+        static void cache(PersonalityBuilder res, OntPersonality from, Class<? extends OntObject> type, NodeTypes table) {
+            ObjectFactory f = from.getObjectFactory(type);
+            res.add(type, new CachedFactory(type, f instanceof CachedFactory ? ((CachedFactory) f).from : f, table));
         }
 
         @Override
@@ -207,7 +240,7 @@ public class SearchModel extends OntGraphModelImpl {
         @Override
         public boolean canWrap(Node node, EnhGraph eg) {
             if (node.isLiteral()) return from.canWrap(node, eg);
-            return canWrapCache.get(node, n -> from.canWrap(n, eg));
+            return table.canWrap(node, index, from, eg);
         }
 
         @Override
@@ -220,4 +253,169 @@ public class SearchModel extends OntGraphModelImpl {
             return String.format("CachedFactory[%s]", OntObjectImpl.viewAsString(type));
         }
     }
+
+    /**
+     * A bounded table of node classifications, that is shared between all {@link CachedFactory}s of a model.
+     * Instead of a separate {@code Boolean}-cache for each {@link OntObject} type,
+     * it keeps a single compact bitset per node: two bits for each type (the answer is known, the answer).
+     * <p>
+     * The OWL entity views ({@link Entities}) are classified all at once,
+     * from the single {@code rdf:type} lookup on the first access to the node;
+     * all other views are evaluated lazily by the original factory and then remembered.
+     * The entity classification repeats the rules of {@link Entities#createFactory()}:
+     * an URI node is an entity either if it is builtin,
+     * or if it has the corresponding declaration and has no any illegal punning declaration.
+     */
+    public static class NodeTypes {
+        private static final int BITS = 2;
+        private static final int PER_WORD = Long.SIZE / BITS;
+
+        private final Map<Class<? extends OntObject>, Integer> indexes = new HashMap<>();
+        private final InternalCache<Node, AtomicLongArray> table;
+        private final OntMetrics metrics;
+        // the entity views data:
+        private final int[] entities;
+        private final Node[] declarations;
+        private final Set<Node>[] builtins;
+        private final Set<Node>[] banned;
+        private final int words;
+
+        @SuppressWarnings("unchecked")
+        protected NodeTypes(OntPersonality personality,
+                            Collection<Class<? extends OntObject>> types,
+                            int limit,
+                            boolean parallel,
+                            OntMetrics metrics) {
+            this.table = InternalCache.createBounded(parallel, limit);
+            this.metrics = Objects.requireNonNull(metrics);
+            types.forEach(t -> indexes.put(t, indexes.size()));
+            this.words = (indexes.size() + PER_WORD - 1) / PER_WORD;
+            List<Entities> list = Arrays.stream(Entities.values())
+                    .filter(e -> indexes.containsKey(e.getActualType())).collect(Collectors.toList());
+            this.entities = new int[list.size()];
+            this.declarations = new Node[list.size()];
+            this.builtins = new Set[list.size()];
+            this.banned = new Set[list.size()];
+            for (int i = 0; i < list.size(); i++) {
+                Entities e = list.get(i);
+                entities[i] = indexes.get(e.getActualType());
+                declarations[i] = e.getResourceType().asNode();
+                builtins[i] = personality.getBuiltins().get(e.getActualType());
+                banned[i] = personality.getPunnings().get(e.getActualType());
+            }
+        }
+
+        /**
+         * Answers the index of the given type in the table.
+         *
+         * @param type {@code Class}-type of {@link OntObject}
+         * @return int
+         * @throws IllegalArgumentException if the type is not registered
+         */
+        public int index(Class<? extends OntObject> type) {
+            Integer res = indexes.get(type);
+            if (res == null) throw new IllegalArgumentException("Unknown type " + OntObjectImpl.viewAsString(type));
+            return res;
+        }
+
+        /**
+         * Answers {@code true} if the given non-literal node can be wrapped into the type with the given index.
+         *
+         * @param node  {@link Node}, URI or blank
+         * @param index int, the type index
+         * @param from  {@link ObjectFactory} to evaluate the answer if it is unknown
+         * @param eg    {@link EnhGraph}
+         * @return boolean
+         */
+        public boolean canWrap(Node node, int index, ObjectFactory from, EnhGraph eg) {
+            // do not use the factory inside the mapping function:
+            // the check may be recursive (e.g. for nested class expressions),
+            // and a recursive update of a concurrent map is not allowed
+            AtomicLongArray bits = table.get(node);
+            if (bits == null) {
+                table.put(node, bits = new AtomicLongArray(words));
+            }
+            int res = get(bits, index);
+            if (res != 0) {
+                count(true);
+                return res > 0;
+            }
+            count(false);
+            if (isEntity(index)) {
+                classify(bits, node, eg.asGraph());
+                return get(bits, index) > 0;
+            }
+            boolean answer = from.canWrap(node, eg);
+            set(bits, index, answer);
+            return answer;
+        }
+
+        /**
+         * Classifies the node against all entity views at once.
+         *
+         * @param bits  {@link AtomicLongArray} to write
+         * @param node  {@link Node}
+         * @param graph {@link Graph}
+         */
+        protected void classify(AtomicLongArray bits, Node node, Graph graph) {
+            if (!node.isURI()) {
+                for (int i : entities) {
+                    set(bits, i, false);
+                }
+                return;
+            }
+            long declared = 0;
+            long punned = 0;
+            ExtendedIterator<Triple> types = graph.find(node, RDF.Nodes.type, Node.ANY);
+            try {
+                while (types.hasNext()) {
+                    Node t = types.next().getObject();
+                    for (int i = 0; i < entities.length; i++) {
+                        if (t.equals(declarations[i])) declared |= 1L << i;
+                        if (banned[i].contains(t)) punned |= 1L << i;
+                    }
+                }
+            } finally {
+                types.close();
+            }
+            for (int i = 0; i < entities.length; i++) {
+                long b = 1L << i;
+                set(bits, entities[i], builtins[i].contains(node) || ((declared & b) != 0 && (punned & b) == 0));
+            }
+        }
+
+        private boolean isEntity(int index) {
+            for (int i : entities) {
+                if (i == index) return true;
+            }
+            return false;
+        }
+
+        private void count(boolean hit) {
+            if (!metrics.isEnabled()) return;
+            metrics.count(OntMetrics.CACHE_NODES + (hit ? OntMetrics.HIT : OntMetrics.MISS), 1);
+        }
+
+        /**
+         * Reads the answer for the type index.
+         *
+         * @param bits  {@link AtomicLongArray}
+         * @param index int
+         * @return {@code 0} if unknown, positive for {@code true}, negative for {@code false}
+         */
+        private static int get(AtomicLongArray bits, int index) {
+            long w = bits.get(index / PER_WORD) >>> (index % PER_WORD * BITS);
+            return (w & 1) == 0 ? 0 : (w & 2) == 0 ? -1 : 1;
+        }
+
+        private static void set(AtomicLongArray bits, int index, boolean value) {
+            int shift = index % PER_WORD * BITS;
+            long mask = (value ? 3L : 1L) << shift;
+            int word = index / PER_WORD;
+            long prev;
+            do {
+                prev = bits.get(word);
+            } while (!bits.compareAndSet(word, prev, prev | mask));
+        }
+    }
 }
@@ -0,0 +1,412 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.internal;
+
+import org.apache.jena.graph.*;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.impl.ResourceImpl;
+import org.apache.jena.vocabulary.RDFS;
+import org.semanticweb.owlapi.model.*;
+import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
+import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
+import ru.avicomp.ontapi.jena.model.OntDT;
+import ru.avicomp.ontapi.jena.model.OntEntity;
+import ru.avicomp.ontapi.jena.vocabulary.OWL;
+import ru.avicomp.ontapi.jena.vocabulary.RDF;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * A writer that turns simple {@link OWLAxiom}s directly into {@link Triple}s
+ * and adds them to the model graph in bulk,
+ * bypassing the {@link ru.avicomp.ontapi.jena.model.OntObject} wrappers that are built by the axiom translators.
+ * <p>
+ * Only unannotated axioms whose components are entities, literals, IRIs or anonymous individuals are handled;
+ * for such axioms the set of triples (and the order in which the entities are checked) is the same
+ * as the {@link AxiomTranslator#write(OWLAxiom, ru.avicomp.ontapi.jena.model.OntGraphModel)} produces,
+ * up to the labels of fresh blank nodes.
+ * For any other axiom the method {@link #write(OWLAxiom)} returns {@code false},
+ * and the caller is expected to use the translator.
+ * <p>
+ * The writer remembers the entities that have been already checked against the model personality
+ * (builtins, illegal punnings), so an entity is wrapped into {@link OntEntity} only once, at its first occurrence.
+ * This memory is valid only while the graph is being appended,
+ * the method {@link #reset()} must be called if something is removed from the graph.
+ * The writer is not thread-safe.
+ *
+ * @see WriteHelper
+ * @see InternalModel.Batch
+ */
+@SuppressWarnings("WeakerAccess")
+public class TripleWriter {
+    protected final OntGraphModelImpl model;
+    protected final OntPersonality.Builtins builtins;
+    protected final List<Triple> buffer = new ArrayList<>();
+    // declaration triples of entities that have passed the personality checks:
+    protected final Set<Triple> entities = new HashSet<>();
+
+    public TripleWriter(OntGraphModelImpl model) {
+        this.model = Objects.requireNonNull(model);
+        this.builtins = model.getOntPersonality().getBuiltins();
+    }
+
+    /**
+     * Answers {@code true} if the axiom can be written by this writer.
+     *
+     * @param axiom {@link OWLAxiom}
+     * @return boolean
+     */
+    public static boolean isSupported(OWLAxiom axiom) {
+        if (axiom.isAnnotated()) return false;
+        switch (AxiomKey.get(axiom.getAxiomType())) {
+            case DECLARATION:
+                return true;
+            case SUBCLASS_OF:
+            case SUB_OBJECT_PROPERTY:
+            case SUB_DATA_PROPERTY:
+            case SUB_ANNOTATION_PROPERTY_OF:
+            case OBJECT_PROPERTY_DOMAIN:
+            case DATA_PROPERTY_DOMAIN:
+            case ANNOTATION_PROPERTY_DOMAIN:
+            case OBJECT_PROPERTY_RANGE:
+            case DATA_PROPERTY_RANGE:
+            case ANNOTATION_PROPERTY_RANGE:
+            case FUNCTIONAL_OBJECT_PROPERTY:
+            case FUNCTIONAL_DATA_PROPERTY:
+            case INVERSE_FUNCTIONAL_OBJECT_PROPERTY:
+            case TRANSITIVE_OBJECT_PROPERTY:
+            case SYMMETRIC_OBJECT_PROPERTY:
+            case ASYMMETRIC_OBJECT_PROPERTY:
+            case REFLEXIVE_OBJECT_PROPERTY:
+            case IRREFLEXIVE_OBJECT_PROPERTY:
+            case CLASS_ASSERTION:
+            case DATA_PROPERTY_ASSERTION:
+            case ANNOTATION_ASSERTION:
+                return axiom.components().filter(OWLObject.class::isInstance).allMatch(TripleWriter::isSimple);
+            case OBJECT_PROPERTY_ASSERTION:
+                OWLObjectPropertyAssertionAxiom opa = (OWLObjectPropertyAssertionAxiom) axiom;
+                return isSimple(opa.getSubject()) && isSimple(opa.getObject());
+            case EQUIVALENT_CLASSES:
+            case EQUIVALENT_OBJECT_PROPERTIES:
+            case EQUIVALENT_DATA_PROPERTIES:
+            case SAME_INDIVIDUAL:
+                return ((OWLNaryAxiom<?>) axiom).operands().allMatch(OWLEntity.class::isInstance)
+                        && ((OWLNaryAxiom<?>) axiom).asPairwiseAxioms().stream()
+                        .allMatch(a -> ((OWLNaryAxiom<?>) a).operands().distinct().count() == 2);
+            case DISJOINT_CLASSES:
+            case DISJOINT_OBJECT_PROPERTIES:
+            case DISJOINT_DATA_PROPERTIES:
+            case DIFFERENT_INDIVIDUALS:
+                return ((OWLNaryAxiom<?>) axiom).operands().allMatch(OWLEntity.class::isInstance)
+                        && ((OWLNaryAxiom<?>) axiom).operands().distinct().count() > 1;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isSimple(Object o) {
+        return o instanceof OWLEntity || o instanceof OWLLiteral || o instanceof IRI || o instanceof OWLAnonymousIndividual;
+    }
+
+    /**
+     * Writes the axiom into the graph if it is {@link #isSupported(OWLAxiom) supported}.
+     *
+     * @param axiom {@link OWLAxiom}
+     * @return {@code false} if the axiom is not supported and nothing has been written
+     */
+    public boolean write(OWLAxiom axiom) {
+        if (!isSupported(axiom)) return false;
+        try {
+            writeTriples(axiom);
+            flush();
+        } catch (RuntimeException e) {
+            buffer.clear();
+            reset();
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Forgets all checked entities.
+     * Must be called if something has been removed from the graph.
+     */
+    public void reset() {
+        entities.clear();
+    }
+
+    protected void writeTriples(OWLAxiom axiom) {
+        switch (AxiomKey.get(axiom.getAxiomType())) {
+            case DECLARATION:
+                writeDeclaration(((OWLDeclarationAxiom) axiom).getEntity());
+                return;
+            case SUBCLASS_OF:
+                OWLSubClassOfAxiom sc = (OWLSubClassOfAxiom) axiom;
+                writeTriple(sc.getSubClass(), RDFS.subClassOf, sc.getSuperClass());
+                return;
+            case SUB_OBJECT_PROPERTY:
+            case SUB_DATA_PROPERTY:
+                OWLSubPropertyAxiom<?> sp = (OWLSubPropertyAxiom<?>) axiom;
+                writeTriple(sp.getSubProperty(), RDFS.subPropertyOf, sp.getSuperProperty());
+                return;
+            case SUB_ANNOTATION_PROPERTY_OF:
+                OWLSubAnnotationPropertyOfAxiom sa = (OWLSubAnnotationPropertyOfAxiom) axiom;
+                writeTriple(sa.getSubProperty(), RDFS.subPropertyOf, sa.getSuperProperty());
+                return;
+            case OBJECT_PROPERTY_DOMAIN:
+            case DATA_PROPERTY_DOMAIN:
+                OWLPropertyDomainAxiom<?> pd = (OWLPropertyDomainAxiom<?>) axiom;
+                writeTriple(pd.getProperty(), RDFS.domain, pd.getDomain());
+                return;
+            case ANNOTATION_PROPERTY_DOMAIN:
+                OWLAnnotationPropertyDomainAxiom ad = (OWLAnnotationPropertyDomainAxiom) axiom;
+                writeTriple(ad.getProperty(), RDFS.domain, ad.getDomain());
+                return;
+            case OBJECT_PROPERTY_RANGE:
+            case DATA_PROPERTY_RANGE:
+                OWLPropertyRangeAxiom<?, ?> pr = (OWLPropertyRangeAxiom<?, ?>) axiom;
+                writeTriple(pr.getProperty(), RDFS.range, pr.getRange());
+                return;
+            case ANNOTATION_PROPERTY_RANGE:
+                OWLAnnotationPropertyRangeAxiom ar = (OWLAnnotationPropertyRangeAxiom) axiom;
+                writeTriple(ar.getProperty(), RDFS.range, ar.getRange());
+                return;
+            case FUNCTIONAL_OBJECT_PROPERTY:
+            case FUNCTIONAL_DATA_PROPERTY:
+                writeType(axiom, OWL.FunctionalProperty);
+                return;
+            case INVERSE_FUNCTIONAL_OBJECT_PROPERTY:
+                writeType(axiom, OWL.InverseFunctionalProperty);
+                return;
+            case TRANSITIVE_OBJECT_PROPERTY:
+                writeType(axiom, OWL.TransitiveProperty);
+                return;
+            case SYMMETRIC_OBJECT_PROPERTY:
+                writeType(axiom, OWL.SymmetricProperty);
+                return;
+            case ASYMMETRIC_OBJECT_PROPERTY:
+                writeType(axiom, OWL.AsymmetricProperty);
+                return;
+            case REFLEXIVE_OBJECT_PROPERTY:
+                writeType(axiom, OWL.ReflexiveProperty);
+                return;
+            case IRREFLEXIVE_OBJECT_PROPERTY:
+                writeType(axiom, OWL.IrreflexiveProperty);
+                return;
+            case CLASS_ASSERTION:
+                OWLClassAssertionAxiom ca = (OWLClassAssertionAxiom) axiom;
+                Node c = toNode(ca.getClassExpression());
+                buffer.add(Triple.create(toNode(ca.getIndividual()), RDF.Nodes.type, c));
+                return;
+            case OBJECT_PROPERTY_ASSERTION:
+                OWLObjectPropertyAssertionAxiom opa = (OWLObjectPropertyAssertionAxiom) axiom;
+                if (opa.getProperty().isAnonymous()) {
+                    writeAssertion(opa.getObject(), opa.getProperty().getNamedProperty(), opa.getSubject());
+                } else {
+                    writeAssertion(opa.getSubject(), opa.getProperty(), opa.getObject());
+                }
+                return;
+            case DATA_PROPERTY_ASSERTION:
+                OWLDataPropertyAssertionAxiom dpa = (OWLDataPropertyAssertionAxiom) axiom;
+                writeAssertion(dpa.getSubject(), dpa.getProperty(), dpa.getObject());
+                return;
+            case ANNOTATION_ASSERTION:
+                OWLAnnotationAssertionAxiom aa = (OWLAnnotationAssertionAxiom) axiom;
+                writeAssertion(aa.getSubject(), aa.getProperty(), aa.getValue());
+                return;
+            case EQUIVALENT_CLASSES:
+                writePairwise((OWLNaryAxiom<?>) axiom, OWL.equivalentClass.asNode());
+                return;
+            case EQUIVALENT_OBJECT_PROPERTIES:
+            case EQUIVALENT_DATA_PROPERTIES:
+                writePairwise((OWLNaryAxiom<?>) axiom, OWL.equivalentProperty.asNode());
+                return;
+            case SAME_INDIVIDUAL:
+                writePairwise((OWLNaryAxiom<?>) axiom, OWL.sameAs.asNode());
+                return;
+            case DISJOINT_CLASSES:
+                writeTwoWay((OWLNaryAxiom<?>) axiom, OWL.disjointWith, OWL.AllDisjointClasses, OWL.members);
+                return;
+            case DISJOINT_OBJECT_PROPERTIES:
+            case DISJOINT_DATA_PROPERTIES:
+                writeTwoWay((OWLNaryAxiom<?>) axiom, OWL.propertyDisjointWith, OWL.AllDisjointProperties, OWL.members);
+                return;
+            case DIFFERENT_INDIVIDUALS:
+                writeTwoWay((OWLNaryAxiom<?>) axiom, OWL.differentFrom, OWL.AllDifferent, OWL.distinctMembers);
+                return;
+            default:
+                throw new IllegalStateException("Unsupported axiom " + axiom);
+        }
+    }
+
+    /**
+     * @param entity {@link OWLEntity}
+     * @see WriteHelper#writeDeclarationTriple(ru.avicomp.ontapi.jena.model.OntGraphModel, OWLEntity, org.apache.jena.rdf.model.Property, org.apache.jena.rdf.model.RDFNode, java.util.stream.Stream)
+     */
+    protected void writeDeclaration(OWLEntity entity) {
+        Node node = NodeFactory.createURI(entity.getIRI().getIRIString());
+        Triple declaration = Triple.create(node, RDF.Nodes.type, WriteHelper.getType(entity).asNode());
+        buffer.add(declaration);
+        if (entities.contains(declaration)) return;
+        flush();
+        new ResourceImpl(node, model).as(WriteHelper.getEntityView(entity));
+        entities.add(declaration);
+    }
+
+    /**
+     * Note: the object is processed before the subject, as in the {@link WriteHelper#writeTriple} method.
+     *
+     * @param subject   {@link OWLObject}
+     * @param predicate {@link org.apache.jena.rdf.model.Property}
+     * @param object    {@link OWLObject}
+     * @see WriteHelper#writeTriple(ru.avicomp.ontapi.jena.model.OntGraphModel, OWLObject, org.apache.jena.rdf.model.Property, OWLObject, java.util.stream.Stream)
+     */
+    protected void writeTriple(OWLObject subject, Resource predicate, OWLObject object) {
+        Node o = toNode(object);
+        buffer.add(Triple.create(toNode(subject), predicate.asNode(), o));
+    }
+
+    protected void writeType(OWLAxiom axiom, Resource type) {
+        OWLObject property = ((OWLUnaryPropertyAxiom<?>) axiom).getProperty();
+        buffer.add(Triple.create(toNode(property), RDF.Nodes.type, type.asNode()));
+    }
+
+    /**
+     * @param subject  {@link OWLObject}
+     * @param property {@link OWLObject}
+     * @param object   {@link OWLObject}
+     * @see WriteHelper#writeAssertionTriple(ru.avicomp.ontapi.jena.model.OntGraphModel, OWLObject, OWLPropertyExpression, OWLObject, java.util.stream.Stream)
+     */
+    protected void writeAssertion(OWLObject subject, OWLObject property, OWLObject object) {
+        Node s = toNode(subject);
+        Node p = toNode(property);
+        buffer.add(Triple.create(s, p, toNode(object)));
+    }
+
+    /**
+     * @param axiom     {@link OWLNaryAxiom} with named operands
+     * @param predicate {@link Node}
+     * @see ru.avicomp.ontapi.internal.axioms.AbstractNaryTranslator
+     */
+    protected void writePairwise(OWLNaryAxiom<?> axiom, Node predicate) {
+        for (OWLAxiom pair : axiom.asPairwiseAxioms()) {
+            writePair((OWLNaryAxiom<?>) pair, predicate);
+        }
+    }
+
+    protected void writePair(OWLNaryAxiom<?> axiom, Node predicate) {
+        List<?> operands = axiom.operands().distinct().collect(Collectors.toList());
+        Node o = toNode((OWLObject) operands.get(1));
+        buffer.add(Triple.create(toNode((OWLObject) operands.get(0)), predicate, o));
+    }
+
+    /**
+     * Writes either a single triple or an anonymous resource with a []-list of members.
+     *
+     * @param axiom           {@link OWLNaryAxiom} with named operands
+     * @param predicate       {@link Resource} to use for a pair of operands
+     * @param membersType     {@link Resource} the type of anonymous root
+     * @param membersProperty {@link Resource} the predicate to link the root and the []-list
+     * @see ru.avicomp.ontapi.internal.axioms.AbstractTwoWayNaryTranslator
+     */
+    protected void writeTwoWay(OWLNaryAxiom<?> axiom, Resource predicate, Resource membersType, Resource membersProperty) {
+        Set<?> operands = axiom.operands().collect(Collectors.toSet());
+        if (operands.size() == 2) {
+            writePair(axiom, predicate.asNode());
+            return;
+        }
+        Node root = NodeFactory.createBlankNode();
+        buffer.add(Triple.create(root, RDF.Nodes.type, membersType.asNode()));
+        List<Node> members = new ArrayList<>(operands.size());
+        operands.forEach(o -> members.add(toNode((OWLObject) o)));
+        buffer.add(Triple.create(root, membersProperty.asNode(), writeList(members)));
+    }
+
+    /**
+     * Writes the []-list with the given members.
+     *
+     * @param members List of {@link Node}s
+     * @return {@link Node} the head of the list
+     */
+    protected Node writeList(List<Node> members) {
+        Node res = RDF.Nodes.nil;
+        for (int i = members.size() - 1; i >= 0; i--) {
+            Node cell = NodeFactory.createBlankNode();
+            buffer.add(Triple.create(cell, RDF.Nodes.first, members.get(i)));
+            buffer.add(Triple.create(cell, RDF.Nodes.rest, res));
+            res = cell;
+        }
+        return res;
+    }
+
+    /**
+     * Answers the node for the simple OWL object, writing the implicit declaration if it is needed.
+     *
+     * @param o {@link OWLObject}, either entity, literal, IRI or anonymous individual
+     * @return {@link Node}
+     * @see WriteHelper#addRDFNode(ru.avicomp.ontapi.jena.model.OntGraphModel, OWLObject)
+     */
+    protected Node toNode(OWLObject o) {
+        if (o instanceof OWLEntity) {
+            OWLEntity e = (OWLEntity) o;
+            Node res = NodeFactory.createURI(e.getIRI().getIRIString());
+            writeEntity(WriteHelper.getEntityView(e), WriteHelper.getType(e), res);
+            return res;
+        }
+        if (o instanceof OWLLiteral) {
+            OWLDatatype dt = ((OWLLiteral) o).getDatatype();
+            writeEntity(OntDT.class, RDFS.Datatype, NodeFactory.createURI(dt.getIRI().getIRIString()));
+            return WriteHelper.toLiteralNode((OWLLiteral) o);
+        }
+        if (o instanceof IRI) {
+            return NodeFactory.createURI(((IRI) o).getIRIString());
+        }
+        if (o instanceof OWLAnonymousIndividual) {
+            return WriteHelper.toBlankNode((OWLAnonymousIndividual) o);
+        }
+        throw new IllegalArgumentException("Not a simple object: " + o);
+    }
+
+    /**
+     * Writes the implicit entity declaration in the same way as {@link WriteHelper#fetchOntEntity} does:
+     * builtins are skipped, the first occurrence of any other entity is created through the model,
+     * so that all the personality checks are performed, the next occurrences just produce the declaration triple.
+     *
+     * @param view {@link Class}-type of {@link OntEntity}
+     * @param type {@link Resource} the declaration type
+     * @param node {@link Node} uri
+     */
+    protected void writeEntity(Class<? extends OntEntity> view, Resource type, Node node) {
+        if (builtins.get(view).contains(node)) return;
+        Triple declaration = Triple.create(node, RDF.Nodes.type, type.asNode());
+        if (entities.contains(declaration)) {
+            buffer.add(declaration);
+            return;
+        }
+        flush();
+        model.createOntEntity(view, node.getURI());
+        entities.add(declaration);
+    }
+
+    /**
+     * Adds all buffered triples to the graph as a single bulk operation.
+     */
+    protected void flush() {
+        if (buffer.isEmpty()) return;
+        GraphUtil.add(model.getGraph(), buffer);
+        buffer.clear();
+    }
+}
@@ -28,6 +28,7 @@ import ru.avicomp.ontapi.jena.utils.Models;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Base class for following axioms:
@@ -71,6 +72,11 @@ public abstract class AbstractNaryTranslator<Axiom extends OWLAxiom & OWLNaryAxi
         axiom.asPairwiseAxioms().forEach(a -> write(a, axiom.annotations().collect(Collectors.toSet()), model));
     }
 
+    @Override
+    public Stream<? extends OWLObject> keys(Axiom axiom) {
+        return axiom.operands();
+    }
+
     abstract Property getPredicate();
 
     abstract Class<ONT> getView();
@@ -90,11 +96,11 @@ public abstract class AbstractNaryTranslator<Axiom extends OWLAxiom & OWLNaryAxi
     }
 
     @Override
-    public ExtendedIterator<ONTObject<Axiom>> listAxioms(OntGraphModel model,
+    public ExtendedIterator<ONTObject<Axiom>> listAxioms(ExtendedIterator<OntStatement> statements,
                                                          InternalObjectFactory factory,
                                                          InternalConfig config) {
         Map<Axiom, ONTObject<Axiom>> res = new HashMap<>(); // memory!
-        super.listAxioms(model, factory, config)
+        super.listAxioms(statements, factory, config)
                 .forEachRemaining(c -> res.compute(c.getObject(), (a, w) -> w == null ? c : w.append(c)));
         return Iter.create(res.values());
     }
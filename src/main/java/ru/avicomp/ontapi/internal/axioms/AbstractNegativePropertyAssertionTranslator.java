@@ -16,6 +16,7 @@ package ru.avicomp.ontapi.internal.axioms;
 
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.apache.jena.vocabulary.RDF;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLPropertyAssertionAxiom;
 import ru.avicomp.ontapi.internal.AxiomTranslator;
 import ru.avicomp.ontapi.internal.InternalConfig;
@@ -26,6 +27,8 @@ import ru.avicomp.ontapi.jena.model.OntStatement;
 import ru.avicomp.ontapi.jena.utils.Models;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 
+import java.util.stream.Stream;
+
 /**
  * for data and object negative property assertion
  * children:
@@ -45,6 +48,11 @@ public abstract class AbstractNegativePropertyAssertionTranslator<Axiom extends
         WriteHelper.addAnnotations(createNPA(axiom, model), axiom.annotations());
     }
 
+    @Override
+    public Stream<? extends OWLObject> keys(Axiom axiom) {
+        return Stream.of(axiom.getSubject());
+    }
+
     @Override
     public ExtendedIterator<OntStatement> listStatements(OntGraphModel model, InternalConfig config) {
         return Models.listStatements(model, null, RDF.type, OWL.NegativePropertyAssertion)
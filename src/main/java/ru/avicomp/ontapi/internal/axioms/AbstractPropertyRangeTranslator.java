@@ -19,6 +19,7 @@ import org.apache.jena.vocabulary.RDFS;
 import org.semanticweb.owlapi.model.HasProperty;
 import org.semanticweb.owlapi.model.HasRange;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
 import ru.avicomp.ontapi.internal.AxiomTranslator;
 import ru.avicomp.ontapi.internal.InternalConfig;
 import ru.avicomp.ontapi.internal.WriteHelper;
@@ -27,6 +28,8 @@ import ru.avicomp.ontapi.jena.model.OntPE;
 import ru.avicomp.ontapi.jena.model.OntStatement;
 import ru.avicomp.ontapi.jena.utils.Models;
 
+import java.util.stream.Stream;
+
 /**
  * The base class for {@link ObjectPropertyRangeTranslator} and {@link DataPropertyRangeTranslator} and {@link AnnotationPropertyRangeTranslator}.
  * example:
@@ -40,6 +43,11 @@ public abstract class AbstractPropertyRangeTranslator<Axiom extends OWLAxiom & H
         WriteHelper.writeTriple(graph, axiom.getProperty(), RDFS.range, axiom.getRange(), axiom.annotations());
     }
 
+    @Override
+    public Stream<? extends OWLObject> keys(Axiom axiom) {
+        return Stream.of(axiom.getProperty());
+    }
+
     abstract Class<P> getView();
 
     @Override
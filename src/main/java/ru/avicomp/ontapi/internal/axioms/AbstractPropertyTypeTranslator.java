@@ -18,6 +18,7 @@ import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.HasProperty;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
 import ru.avicomp.ontapi.internal.AxiomTranslator;
 import ru.avicomp.ontapi.internal.InternalConfig;
 import ru.avicomp.ontapi.internal.WriteHelper;
@@ -27,6 +28,8 @@ import ru.avicomp.ontapi.jena.model.OntStatement;
 import ru.avicomp.ontapi.jena.utils.Models;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
 
+import java.util.stream.Stream;
+
 /**
  * The base class to read and write axiom which is related to simple typed triple associated with object or data property.
  * List of sub-classes:
@@ -68,4 +71,9 @@ public abstract class AbstractPropertyTypeTranslator<Axiom extends OWLAxiom & Ha
     public void write(Axiom axiom, OntGraphModel model) {
         WriteHelper.writeTriple(model, axiom.getProperty(), RDF.type, getType(), axiom.annotations());
     }
+
+    @Override
+    public Stream<? extends OWLObject> keys(Axiom axiom) {
+        return Stream.of(axiom.getProperty());
+    }
 }
@@ -22,6 +22,8 @@ import ru.avicomp.ontapi.jena.model.*;
 import ru.avicomp.ontapi.jena.utils.Models;
 
 import java.util.Collection;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Examples:
@@ -39,6 +41,11 @@ public class AnnotationAssertionTranslator extends AxiomTranslator<OWLAnnotation
         WriteHelper.writeAssertionTriple(model, axiom.getSubject(), axiom.getProperty(), axiom.getValue(), axiom.annotations());
     }
 
+    @Override
+    public Stream<? extends OWLObject> keys(OWLAnnotationAssertionAxiom axiom) {
+        return Stream.of(axiom.getSubject());
+    }
+
     /**
      * Answers the annotation assertion statements.
      * The rule {@code s A t}, where {@code s} is an IRI or anonymous individual,
@@ -68,6 +75,13 @@ public class AnnotationAssertionTranslator extends AxiomTranslator<OWLAnnotation
         return filter(statement, config);
     }
 
+    @Override
+    public Predicate<OntStatement> statementFilter(OntGraphModel model, InternalConfig config) {
+        if (!config.isLoadAnnotationAxioms()) return null;
+        OntID id = model.getID();
+        return s -> !id.equals(s.getSubject()) && filter(s, config);
+    }
+
     public boolean filter(OntStatement s, InternalConfig c) {
         return ReadHelper.isAnnotationAssertionStatement(s, c)
                 && ReadHelper.isEntityOrAnonymousIndividual(s.getSubject());
@@ -20,12 +20,15 @@ import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLClassExpression;
 import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
 import ru.avicomp.ontapi.internal.*;
 import ru.avicomp.ontapi.jena.model.*;
 import ru.avicomp.ontapi.jena.utils.Models;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
 
 import java.util.Collection;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Creating individual (both named and anonymous):
@@ -47,6 +50,11 @@ public class ClassAssertionTranslator extends AxiomTranslator<OWLClassAssertionA
         WriteHelper.addAnnotations(statement, axiom.annotations());
     }
 
+    @Override
+    public Stream<? extends OWLObject> keys(OWLClassAssertionAxiom axiom) {
+        return Stream.of(axiom.getIndividual());
+    }
+
     @Override
     public ExtendedIterator<OntStatement> listStatements(OntGraphModel model, InternalConfig config) {
         return Models.listStatements(model, null, RDF.type, null).filterKeep(this::filterSO);
@@ -57,6 +65,11 @@ public class ClassAssertionTranslator extends AxiomTranslator<OWLClassAssertionA
         return statement.isDeclaration() && filterSO(statement);
     }
 
+    @Override
+    public Predicate<OntStatement> statementFilter(OntGraphModel model, InternalConfig config) {
+        return s -> testStatement(s, config);
+    }
+
     protected boolean filterSO(OntStatement statement) {
         // first class then individual,
         // since anonymous individual has more sophisticated and time-consuming checking
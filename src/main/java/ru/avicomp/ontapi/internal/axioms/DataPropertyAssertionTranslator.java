@@ -24,6 +24,8 @@ import ru.avicomp.ontapi.jena.model.OntStatement;
 import ru.avicomp.ontapi.jena.utils.Models;
 
 import java.util.Collection;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * property that belongs to individual.
@@ -37,6 +39,11 @@ public class DataPropertyAssertionTranslator extends AxiomTranslator<OWLDataProp
         WriteHelper.writeAssertionTriple(model, axiom.getSubject(), axiom.getProperty(), axiom.getObject(), axiom.annotations());
     }
 
+    @Override
+    public Stream<? extends OWLObject> keys(OWLDataPropertyAssertionAxiom axiom) {
+        return Stream.of(axiom.getSubject());
+    }
+
     /**
      * Lists positive data property assertions: the rule {@code a R v}.
      * See <a href='https://www.w3.org/TR/owl2-quick-reference/'>Assertions</a>
@@ -57,6 +64,11 @@ public class DataPropertyAssertionTranslator extends AxiomTranslator<OWLDataProp
                 && statement.getSubject().canAs(OntIndividual.class);
     }
 
+    @Override
+    public Predicate<OntStatement> statementFilter(OntGraphModel model, InternalConfig config) {
+        return s -> testStatement(s, config);
+    }
+
     @Override
     public ONTObject<OWLDataPropertyAssertionAxiom> toAxiom(OntStatement statement, InternalObjectFactory reader, InternalConfig config) {
         ONTObject<? extends OWLIndividual> i = reader.get(statement.getSubject(OntIndividual.class));
@@ -19,6 +19,7 @@ import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLDataRange;
 import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLDatatypeDefinitionAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
 import ru.avicomp.ontapi.internal.*;
 import ru.avicomp.ontapi.jena.model.OntDR;
 import ru.avicomp.ontapi.jena.model.OntDT;
@@ -28,6 +29,7 @@ import ru.avicomp.ontapi.jena.utils.Models;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * Example:
@@ -43,6 +45,11 @@ public class DatatypeDefinitionTranslator extends AxiomTranslator<OWLDatatypeDef
         WriteHelper.writeTriple(model, axiom.getDatatype(), OWL.equivalentClass, axiom.getDataRange(), axiom.annotations());
     }
 
+    @Override
+    public Stream<? extends OWLObject> keys(OWLDatatypeDefinitionAxiom axiom) {
+        return Stream.of(axiom.getDatatype());
+    }
+
     @Override
     public ExtendedIterator<OntStatement> listStatements(OntGraphModel model, InternalConfig config) {
         return Models.listStatements(model, null, OWL.equivalentClass, null)
@@ -19,6 +19,7 @@ import org.apache.jena.util.iterator.NullIterator;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
 import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLObject;
 import ru.avicomp.ontapi.internal.*;
 import ru.avicomp.ontapi.jena.OntJenaException;
 import ru.avicomp.ontapi.jena.impl.Entities;
@@ -31,6 +32,7 @@ import ru.avicomp.ontapi.jena.vocabulary.RDF;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * It is a translator for axioms of the {@link org.semanticweb.owlapi.model.AxiomType#DECLARATION} type.
@@ -46,6 +48,11 @@ public class DeclarationTranslator extends AxiomTranslator<OWLDeclarationAxiom>
         WriteHelper.writeDeclarationTriple(model, axiom.getEntity(), RDF.type, WriteHelper.getType(axiom.getEntity()), axiom.annotations());
     }
 
+    @Override
+    public Stream<? extends OWLObject> keys(OWLDeclarationAxiom axiom) {
+        return Stream.of(axiom.getEntity());
+    }
+
     @Override
     public ExtendedIterator<OntStatement> listStatements(OntGraphModel model, InternalConfig config) {
         if (!config.isAllowReadDeclarations()) return NullIterator.instance();
@@ -68,4 +68,9 @@ public class DisjointUnionTranslator extends AbstractListBasedTranslator<OWLDisj
                         ONTObject.extractWildcards(m),
                         ONTObject.extract(reader.get(statement, config))));
     }
+
+    @Override
+    public Stream<? extends OWLObject> keys(OWLDisjointUnionAxiom axiom) {
+        return Stream.of(axiom.getOWLClass());
+    }
 }
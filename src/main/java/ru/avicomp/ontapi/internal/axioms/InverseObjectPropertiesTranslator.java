@@ -17,6 +17,7 @@ package ru.avicomp.ontapi.internal.axioms;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLInverseObjectPropertiesAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import ru.avicomp.ontapi.internal.*;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
@@ -26,6 +27,7 @@ import ru.avicomp.ontapi.jena.utils.Models;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * Example:
@@ -41,6 +43,11 @@ public class InverseObjectPropertiesTranslator extends AxiomTranslator<OWLInvers
         WriteHelper.writeTriple(model, axiom.getFirstProperty(), OWL.inverseOf, axiom.getSecondProperty(), axiom.annotations());
     }
 
+    @Override
+    public Stream<? extends OWLObject> keys(OWLInverseObjectPropertiesAxiom axiom) {
+        return axiom.operands();
+    }
+
     @Override
     public ExtendedIterator<OntStatement> listStatements(OntGraphModel model, InternalConfig config) {
         // NOTE as a precaution: the first (commented) way is not correct
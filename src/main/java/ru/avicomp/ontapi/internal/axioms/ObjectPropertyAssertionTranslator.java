@@ -17,6 +17,7 @@ package ru.avicomp.ontapi.internal.axioms;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import ru.avicomp.ontapi.internal.*;
@@ -27,6 +28,8 @@ import ru.avicomp.ontapi.jena.model.OntStatement;
 import ru.avicomp.ontapi.jena.utils.Models;
 
 import java.util.Collection;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * example:
@@ -51,6 +54,11 @@ public class ObjectPropertyAssertionTranslator extends AxiomTranslator<OWLObject
         WriteHelper.writeAssertionTriple(model, subject, property, object, axiom.annotations());
     }
 
+    @Override
+    public Stream<? extends OWLObject> keys(OWLObjectPropertyAssertionAxiom axiom) {
+        return Stream.of(axiom.getSubject());
+    }
+
     /**
      * Lists positive object property assertion: {@code a1 PN a2}.
      * See <a href='https://www.w3.org/TR/owl2-quick-reference/'>Assertions</a>
@@ -71,6 +79,11 @@ public class ObjectPropertyAssertionTranslator extends AxiomTranslator<OWLObject
                 && statement.getObject().canAs(OntIndividual.class);
     }
 
+    @Override
+    public Predicate<OntStatement> statementFilter(OntGraphModel model, InternalConfig config) {
+        return s -> testStatement(s, config);
+    }
+
     @Override
     public ONTObject<OWLObjectPropertyAssertionAxiom> toAxiom(OntStatement statement, InternalObjectFactory reader, InternalConfig config) {
         ONTObject<? extends OWLIndividual> subject = reader.get(statement.getSubject(OntIndividual.class));
@@ -26,6 +26,7 @@ import ru.avicomp.ontapi.jena.model.OntNAP;
 import ru.avicomp.ontapi.jena.model.OntStatement;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * See {@link AbstractSubPropertyTranslator}.
@@ -82,4 +83,9 @@ public class SubAnnotationPropertyOfTranslator extends AbstractSubPropertyTransl
                 .getOWLSubAnnotationPropertyOfAxiom(sub.getObject(), sup.getObject(), ONTObject.extract(annotations));
         return ONTObject.create(res, statement).append(annotations).append(sub).append(sup);
     }
+
+    @Override
+    public Stream<? extends OWLObject> keys(OWLSubAnnotationPropertyOfAxiom axiom) {
+        return Stream.of(axiom.getSubProperty());
+    }
 }
@@ -15,6 +15,7 @@
 package ru.avicomp.ontapi.internal.axioms;
 
 import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLPropertyExpression;
 import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
@@ -25,6 +26,7 @@ import ru.avicomp.ontapi.jena.model.OntOPE;
 import ru.avicomp.ontapi.jena.model.OntStatement;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * see {@link AbstractSubPropertyTranslator}
@@ -56,4 +58,9 @@ public class SubObjectPropertyOfTranslator extends AbstractSubPropertyTranslator
                 .getOWLSubObjectPropertyOfAxiom(sub.getObject(), sup.getObject(), ONTObject.extract(annotations));
         return ONTObject.create(res, statement).append(annotations).append(sub).append(sup);
     }
+
+    @Override
+    public Stream<? extends OWLObject> keys(OWLSubObjectPropertyOfAxiom axiom) {
+        return Stream.of(axiom.getSubProperty());
+    }
 }
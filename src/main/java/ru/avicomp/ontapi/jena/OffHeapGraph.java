@@ -0,0 +1,900 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.jena;
+
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.*;
+import org.apache.jena.graph.impl.AllCapabilities;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+import org.apache.jena.util.iterator.NullIterator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A {@link Graph} implementation that keeps all its data outside the java heap,
+ * in direct {@link ByteBuffer}s or memory-mapped temporary files (see {@link Allocator}).
+ * It is intended to be used as a base graph of a {@link UnionGraph} for huge ontologies,
+ * where the standard {@link org.apache.jena.mem.GraphMem} takes gigabytes of heap and causes long GC pauses.
+ * <p>
+ * The graph is dictionary-encoded: each {@link Node} is stored only once, as a sequence of bytes,
+ * and is referred by its address ({@code long}).
+ * A triple is a fixed-size record of six {@code long}s: subject, predicate, object
+ * and three links to the next records with the same subject, predicate and object respectively.
+ * So there are three permutation indexes (SPO, POS, OSP) in the form of linked chains,
+ * the heads of the chains and their lengths are kept in off-heap hash tables.
+ * To answer a {@link #find(Triple)} query, the shortest of the suitable chains is traversed.
+ * <p>
+ * Some restrictions that should be taken into account:
+ * <ul>
+ * <li>The nodes are matched by term equality, not by value,
+ * e.g. {@code "1"^^xsd:int} and {@code "01"^^xsd:int} are different objects for this graph
+ * (see {@link Capabilities#handlesLiteralTyping()}).</li>
+ * <li>The storage is append-mostly: deleted triples are just marked as removed,
+ * and the dictionary never forgets a node; the memory is reclaimed only on {@link #clear()} or {@link #close()}.</li>
+ * <li>The graph is not thread-safe for modifications, but it allows concurrent reads.</li>
+ * </ul>
+ *
+ * @see OntModelFactory#createOffHeapGraph()
+ * @since 1.4.0
+ */
+@SuppressWarnings("WeakerAccess")
+public class OffHeapGraph extends GraphBase {
+    protected final Allocator allocator;
+    protected Dictionary dictionary;
+    protected Triples triples;
+
+    /**
+     * Creates a graph which is backed by direct {@link ByteBuffer}s.
+     */
+    public OffHeapGraph() {
+        this(Allocator.DIRECT);
+    }
+
+    /**
+     * Creates a graph which uses the given allocator to get memory.
+     *
+     * @param allocator {@link Allocator}, not {@code null}
+     */
+    public OffHeapGraph(Allocator allocator) {
+        this.allocator = Objects.requireNonNull(allocator, "Null allocator");
+        reset();
+    }
+
+    /**
+     * Drops all the data and allocates new storage.
+     */
+    protected void reset() {
+        dictionary = new Dictionary(allocator);
+        triples = new Triples(allocator);
+    }
+
+    @Override
+    public void performAdd(Triple t) {
+        Dictionary d = dictionary;
+        triples.add(d.add(t.getSubject()), d.add(t.getPredicate()), d.add(t.getObject()));
+    }
+
+    @Override
+    public void performDelete(Triple t) {
+        Dictionary d = dictionary;
+        long s, p, o;
+        if ((s = d.find(t.getSubject())) < 0 || (p = d.find(t.getPredicate())) < 0 || (o = d.find(t.getObject())) < 0) {
+            return;
+        }
+        triples.delete(s, p, o);
+    }
+
+    @Override
+    protected boolean graphBaseContains(Triple t) {
+        if (!t.isConcrete()) {
+            return super.graphBaseContains(t);
+        }
+        Dictionary d = dictionary;
+        long s, p, o;
+        if ((s = d.find(t.getSubject())) < 0 || (p = d.find(t.getPredicate())) < 0 || (o = d.find(t.getObject())) < 0) {
+            return false;
+        }
+        return triples.find(s, p, o) >= 0;
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+        Dictionary d = dictionary;
+        Node sn = concrete(m.getSubject());
+        Node pn = concrete(m.getPredicate());
+        Node on = concrete(m.getObject());
+        long s = sn == null ? Triples.ANY : d.find(sn);
+        long p = pn == null ? Triples.ANY : d.find(pn);
+        long o = on == null ? Triples.ANY : d.find(on);
+        if (s == Triples.NONE || p == Triples.NONE || o == Triples.NONE) {
+            return NullIterator.instance();
+        }
+        return new FindIterator(d, triples, sn, pn, on, s, p, o);
+    }
+
+    private static Node concrete(Node n) {
+        return n.isConcrete() ? n : null;
+    }
+
+    @Override
+    protected int graphBaseSize() {
+        return (int) Math.min(Integer.MAX_VALUE, triples.size());
+    }
+
+    /**
+     * Removes all triples and releases the memory.
+     * Unlike the default implementation, the triples are not deleted one by one,
+     * so only the {@link GraphEvents#removeAll} event is fired.
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        reset();
+        getEventManager().notifyEvent(this, GraphEvents.removeAll);
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        dictionary = null;
+        triples = null;
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return capabilities == null ? capabilities = new AllCapabilities() {
+            @Override
+            public boolean handlesLiteralTyping() {
+                return false;
+            }
+        } : capabilities;
+    }
+
+    /**
+     * Answers the number of bytes which are occupied by this graph outside the heap.
+     *
+     * @return long
+     */
+    public long offHeapBytes() {
+        return dictionary.bytes() + triples.bytes();
+    }
+
+    /**
+     * The iterator over the triples that match a pattern.
+     * It is safe to modify the graph while iterating, although the newly added triples will not be seen.
+     */
+    protected class FindIterator extends NiceIterator<Triple> {
+        private final Dictionary dictionary;
+        private final Triples triples;
+        private final Node sn, pn, on;
+        private final long s, p, o;
+        private final int chain;
+        // the number of records at the moment of creation, to bound the full scan
+        private final long limit;
+        private long cursor;
+        private Triple next, last;
+
+        protected FindIterator(Dictionary dictionary, Triples triples,
+                               Node sn, Node pn, Node on,
+                               long s, long p, long o) {
+            this.dictionary = dictionary;
+            this.triples = triples;
+            this.sn = sn;
+            this.pn = pn;
+            this.on = on;
+            this.s = s;
+            this.p = p;
+            this.o = o;
+            this.chain = triples.chooseChain(s, p, o);
+            this.limit = triples.records();
+            this.cursor = chain < 0 ? 0 : triples.head(chain, chain == Triples.S ? s : chain == Triples.P ? p : o);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) return true;
+            long r;
+            while ((r = nextRecord()) >= 0) {
+                long rs = triples.get(r, Triples.S);
+                if (rs == Triples.DELETED) continue;
+                if (s != Triples.ANY && rs != s) continue;
+                long rp = triples.get(r, Triples.P);
+                if (p != Triples.ANY && rp != p) continue;
+                long ro = triples.get(r, Triples.O);
+                if (o != Triples.ANY && ro != o) continue;
+                next = Triple.create(sn != null ? sn : dictionary.get(rs),
+                        pn != null ? pn : dictionary.get(rp),
+                        on != null ? on : dictionary.get(ro));
+                return true;
+            }
+            return false;
+        }
+
+        private long nextRecord() {
+            long res = cursor;
+            if (chain < 0) {
+                if (res >= limit) return Triples.NONE;
+                cursor++;
+                return res;
+            }
+            if (res < 0) return Triples.NONE;
+            cursor = triples.next(res, chain);
+            return res;
+        }
+
+        @Override
+        public Triple next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            last = next;
+            next = null;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) throw new IllegalStateException();
+            delete(last);
+            last = null;
+        }
+    }
+
+    /**
+     * A source of off-heap memory.
+     */
+    @FunctionalInterface
+    public interface Allocator {
+        /**
+         * Uses {@link ByteBuffer#allocateDirect(int) direct buffers}.
+         */
+        Allocator DIRECT = ByteBuffer::allocateDirect;
+
+        /**
+         * Creates an allocator that maps temporary files from the given directory into the memory.
+         * The files are removed from the file system immediately after mapping (on POSIX systems),
+         * so that the disk space is freed with the buffers.
+         *
+         * @param dir {@link Path} to the directory, not {@code null}
+         * @return {@link Allocator}
+         */
+        static Allocator mapped(Path dir) {
+            Objects.requireNonNull(dir, "Null directory");
+            return bytes -> {
+                try {
+                    Path file = Files.createTempFile(dir, "ont-graph-", ".bin");
+                    try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                            StandardOpenOption.DELETE_ON_CLOSE)) {
+                        return ch.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Can't map a file from " + dir, e);
+                }
+            };
+        }
+
+        /**
+         * Allocates a new zeroed buffer.
+         *
+         * @param bytes int, the capacity
+         * @return {@link ByteBuffer}
+         */
+        ByteBuffer allocate(int bytes);
+    }
+
+    /**
+     * A growable off-heap array of {@code long}s, which consists of segments.
+     * The first segment grows by doubling until it reaches the maximum segment size,
+     * after that new segments are added, so the existing segments are never copied again.
+     */
+    protected static class LongArray {
+        protected static final int SHIFT = 16;
+        protected static final int SEGMENT = 1 << SHIFT;
+        protected static final int MASK = SEGMENT - 1;
+        protected static final int MIN_SIZE = 64;
+
+        protected final Allocator allocator;
+        protected LongBuffer[] segments = new LongBuffer[0];
+        protected long capacity;
+
+        protected LongArray(Allocator allocator, long length) {
+            this.allocator = allocator;
+            ensure(length);
+        }
+
+        protected long get(long index) {
+            return segments[(int) (index >>> SHIFT)].get((int) (index & MASK));
+        }
+
+        protected void set(long index, long value) {
+            segments[(int) (index >>> SHIFT)].put((int) (index & MASK), value);
+        }
+
+        /**
+         * Ensures the array can hold the specified number of items.
+         *
+         * @param length long
+         */
+        protected void ensure(long length) {
+            if (length <= capacity) return;
+            if (capacity < SEGMENT) {
+                int size = (int) Math.min(SEGMENT, Math.max(MIN_SIZE, Long.highestOneBit(length - 1) << 1));
+                LongBuffer res = allocate(size);
+                if (segments.length != 0) {
+                    LongBuffer prev = segments[0];
+                    for (int i = 0; i < capacity; i++) {
+                        res.put(i, prev.get(i));
+                    }
+                } else {
+                    segments = new LongBuffer[1];
+                }
+                segments[0] = res;
+                capacity = size;
+            }
+            while (capacity < length) {
+                segments = Arrays.copyOf(segments, segments.length + 1);
+                segments[segments.length - 1] = allocate(SEGMENT);
+                capacity += SEGMENT;
+            }
+        }
+
+        private LongBuffer allocate(int size) {
+            return allocator.allocate(size * Long.BYTES).asLongBuffer();
+        }
+
+        protected long bytes() {
+            return capacity * Long.BYTES;
+        }
+    }
+
+    /**
+     * A growable off-heap storage of byte records, each record is addressed by a {@code long}:
+     * the segment index (high int) and the offset inside the segment (low int).
+     * A record is never split between segments.
+     */
+    protected static class ByteArray {
+        protected static final int SEGMENT = 1 << 20;
+        protected static final int MIN_SIZE = 1 << 10;
+
+        protected final Allocator allocator;
+        protected ByteBuffer[] segments = new ByteBuffer[0];
+        protected int position;
+        protected long bytes;
+
+        protected ByteArray(Allocator allocator) {
+            this.allocator = allocator;
+        }
+
+        /**
+         * Appends the record.
+         *
+         * @param data array of bytes
+         * @return long, the address
+         */
+        protected long add(byte[] data) {
+            int need = Integer.BYTES + data.length;
+            ByteBuffer current = ensure(need);
+            int index = segments.length - 1;
+            int start = position;
+            current.putInt(start, data.length);
+            for (int i = 0; i < data.length; i++) {
+                current.put(start + Integer.BYTES + i, data[i]);
+            }
+            position += need;
+            return ((long) index << 32) | start;
+        }
+
+        private ByteBuffer ensure(int need) {
+            int last = segments.length - 1;
+            ByteBuffer current = last < 0 ? null : segments[last];
+            if (current != null && current.capacity() - position >= need) {
+                return current;
+            }
+            if (last == 0 && current.capacity() < SEGMENT && position + need <= SEGMENT) {
+                // grow the first segment
+                int size = Math.min(SEGMENT, Integer.highestOneBit(position + need - 1) << 1);
+                ByteBuffer res = allocate(size);
+                for (int i = 0; i < position; i++) {
+                    res.put(i, current.get(i));
+                }
+                bytes -= current.capacity();
+                return segments[0] = res;
+            }
+            ByteBuffer res = allocate(last < 0 ? Math.max(MIN_SIZE, Integer.highestOneBit(need - 1) << 1) : Math.max(SEGMENT, need));
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            segments[segments.length - 1] = res;
+            position = 0;
+            return res;
+        }
+
+        private ByteBuffer allocate(int size) {
+            ByteBuffer res = allocator.allocate(size);
+            bytes += size;
+            return res;
+        }
+
+        protected byte[] get(long address) {
+            ByteBuffer b = segments[(int) (address >>> 32)];
+            int start = (int) address;
+            byte[] res = new byte[b.getInt(start)];
+            start += Integer.BYTES;
+            for (int i = 0; i < res.length; i++) {
+                res[i] = b.get(start + i);
+            }
+            return res;
+        }
+
+        protected boolean equals(long address, byte[] data) {
+            ByteBuffer b = segments[(int) (address >>> 32)];
+            int start = (int) address;
+            if (b.getInt(start) != data.length) return false;
+            start += Integer.BYTES;
+            for (int i = 0; i < data.length; i++) {
+                if (b.get(start + i) != data[i]) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * An open-addressing off-heap hash table with {@code long} keys ({@code >= 0})
+     * and a fixed number of {@code long} values per key.
+     */
+    protected static class LongMap {
+        protected final Allocator allocator;
+        protected final int width;
+        protected LongArray table;
+        protected long slots;
+        protected long size;
+
+        protected LongMap(Allocator allocator, int values) {
+            this.allocator = allocator;
+            this.width = values + 1;
+            init(16);
+        }
+
+        private void init(long slots) {
+            this.slots = slots;
+            this.table = new LongArray(allocator, slots * width);
+        }
+
+        protected static long mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return h ^ (h >>> 29);
+        }
+
+        /**
+         * Finds the slot for the key.
+         *
+         * @param key  long
+         * @param hash long
+         * @return long, the slot index, the slot is either empty or contains the key
+         */
+        protected long slot(long key, long hash) {
+            long mask = slots - 1;
+            long i = hash & mask;
+            long k;
+            while ((k = table.get(i * width)) != 0 && k != key + 1) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        protected boolean isEmpty(long slot) {
+            return table.get(slot * width) == 0;
+        }
+
+        protected long get(long slot, int value) {
+            return table.get(slot * width + 1 + value);
+        }
+
+        protected void set(long slot, int value, long x) {
+            table.set(slot * width + 1 + value, x);
+        }
+
+        /**
+         * Occupies the slot with the key. Can cause rehashing.
+         *
+         * @param key  long
+         * @param hash long
+         * @return long, the new slot index
+         */
+        protected long put(long key, long hash) {
+            long slot = slot(key, hash);
+            if (!isEmpty(slot)) return slot;
+            if ((size + 1) * 4 > slots * 3) {
+                rehash();
+                slot = slot(key, hash);
+            }
+            table.set(slot * width, key + 1);
+            size++;
+            return slot;
+        }
+
+        private void rehash() {
+            LongArray prev = table;
+            long prevSlots = slots;
+            init(slots << 1);
+            for (long i = 0; i < prevSlots; i++) {
+                long k = prev.get(i * width);
+                if (k == 0) continue;
+                long slot = slot(k - 1, hash(prev, i));
+                for (int j = 0; j < width; j++) {
+                    table.set(slot * width + j, prev.get(i * width + j));
+                }
+            }
+        }
+
+        /**
+         * Computes the hash of the key.
+         *
+         * @param key long
+         * @return long
+         */
+        protected long hash(long key) {
+            return mix(key);
+        }
+
+        /**
+         * Answers the hash of the key from the given slot, that was used when the key was put.
+         *
+         * @param table {@link LongArray}
+         * @param slot  long, not empty
+         * @return long
+         */
+        protected long hash(LongArray table, long slot) {
+            return hash(table.get(slot * width) - 1);
+        }
+
+        protected long bytes() {
+            return table.bytes();
+        }
+    }
+
+    /**
+     * The node dictionary: the mapping between {@link Node}s and their addresses in the {@link ByteArray}.
+     * The hash table keys are the addresses, and the single value is the hash of the encoded node.
+     */
+    protected static class Dictionary extends LongMap {
+        protected static final byte URI = 1;
+        protected static final byte BLANK = 2;
+        protected static final byte STRING = 3;
+        protected static final byte LANG_STRING = 4;
+        protected static final byte TYPED = 5;
+        private static final int CACHE_SIZE = 1 << 12;
+
+        protected final ByteArray data;
+        // small direct-mapped caches of the recently used nodes, to avoid encoding and decoding:
+        private final Entry[] byId = new Entry[CACHE_SIZE];
+        private final Entry[] byNode = new Entry[CACHE_SIZE];
+
+        protected Dictionary(Allocator allocator) {
+            super(allocator, 1);
+            this.data = new ByteArray(allocator);
+        }
+
+        /**
+         * Finds the node id.
+         *
+         * @param node {@link Node}, concrete
+         * @return long, the id or {@code -1} if the node is absent
+         */
+        protected long find(Node node) {
+            int i = node.hashCode() & (CACHE_SIZE - 1);
+            Entry e = byNode[i];
+            if (e != null && e.node.equals(node)) {
+                return e.id;
+            }
+            byte[] bytes = encode(node);
+            long slot = find(bytes, hash(bytes));
+            if (slot < 0) return Triples.NONE;
+            long res = table.get(slot * width) - 1;
+            byNode[i] = new Entry(res, node);
+            return res;
+        }
+
+        /**
+         * Finds or creates the node id.
+         *
+         * @param node {@link Node}, concrete
+         * @return long, the id
+         */
+        protected long add(Node node) {
+            int i = node.hashCode() & (CACHE_SIZE - 1);
+            Entry e = byNode[i];
+            if (e != null && e.node.equals(node)) {
+                return e.id;
+            }
+            byte[] bytes = encode(node);
+            long hash = hash(bytes);
+            long slot = find(bytes, hash);
+            long res;
+            if (slot >= 0) {
+                res = table.get(slot * width) - 1;
+            } else {
+                res = data.add(bytes);
+                set(put(res, hash), 0, hash);
+            }
+            byNode[i] = new Entry(res, node);
+            return res;
+        }
+
+        private long find(byte[] bytes, long hash) {
+            long mask = slots - 1;
+            long i = hash & mask;
+            long k;
+            while ((k = table.get(i * width)) != 0) {
+                if (get(i, 0) == hash && data.equals(k - 1, bytes)) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        @Override
+        protected long hash(LongArray table, long slot) {
+            return table.get(slot * width + 1);
+        }
+
+        private static long hash(byte[] bytes) {
+            return mix(Arrays.hashCode(bytes)) & Long.MAX_VALUE;
+        }
+
+        /**
+         * Decodes the node by its id.
+         *
+         * @param id long
+         * @return {@link Node}
+         */
+        protected Node get(long id) {
+            int i = (int) (mix(id) & (CACHE_SIZE - 1));
+            Entry e = byId[i];
+            if (e != null && e.id == id) {
+                return e.node;
+            }
+            Node res = decode(data.get(id));
+            byId[i] = new Entry(id, res);
+            return res;
+        }
+
+        protected static byte[] encode(Node node) {
+            if (node.isURI()) {
+                return encode(URI, null, node.getURI());
+            }
+            if (node.isBlank()) {
+                return encode(BLANK, null, node.getBlankNodeLabel());
+            }
+            if (node.isLiteral()) {
+                String lang = node.getLiteralLanguage();
+                if (lang != null && !lang.isEmpty()) {
+                    return encode(LANG_STRING, lang, node.getLiteralLexicalForm());
+                }
+                String dt = node.getLiteralDatatypeURI();
+                if (dt == null || XSDDatatype.XSDstring.getURI().equals(dt)) {
+                    return encode(STRING, null, node.getLiteralLexicalForm());
+                }
+                return encode(TYPED, dt, node.getLiteralLexicalForm());
+            }
+            throw new OntJenaException.Unsupported("Can't store " + node);
+        }
+
+        private static byte[] encode(byte type, String prefix, String value) {
+            byte[] v = value.getBytes(StandardCharsets.UTF_8);
+            if (prefix == null) {
+                byte[] res = new byte[v.length + 1];
+                res[0] = type;
+                System.arraycopy(v, 0, res, 1, v.length);
+                return res;
+            }
+            byte[] p = prefix.getBytes(StandardCharsets.UTF_8);
+            byte[] res = new byte[v.length + p.length + 5];
+            ByteBuffer.wrap(res).put(type).putInt(p.length).put(p).put(v);
+            return res;
+        }
+
+        protected static Node decode(byte[] bytes) {
+            byte type = bytes[0];
+            if (type == URI) {
+                return NodeFactory.createURI(new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8));
+            }
+            if (type == BLANK) {
+                return NodeFactory.createBlankNode(new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8));
+            }
+            if (type == STRING) {
+                return NodeFactory.createLiteral(new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8));
+            }
+            int length = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+            int start = 1 + Integer.BYTES;
+            String prefix = new String(bytes, start, length, StandardCharsets.UTF_8);
+            String value = new String(bytes, start + length, bytes.length - start - length, StandardCharsets.UTF_8);
+            if (type == LANG_STRING) {
+                return NodeFactory.createLiteral(value, prefix);
+            }
+            if (type == TYPED) {
+                return NodeFactory.createLiteral(value, TypeMapper.getInstance().getSafeTypeByName(prefix));
+            }
+            throw new OntJenaException.IllegalState("Broken dictionary: unknown node type " + type);
+        }
+
+        protected long bytes() {
+            return super.bytes() + data.bytes;
+        }
+
+        /**
+         * An immutable item of the nodes cache.
+         */
+        private static class Entry {
+            private final long id;
+            private final Node node;
+
+            private Entry(long id, Node node) {
+                this.id = id;
+                this.node = node;
+            }
+        }
+    }
+
+    /**
+     * The triple store: the table of records and three indexes with heads of chains.
+     * Each index maps a node id to the last added record (the head of the chain) and the length of the chain.
+     */
+    protected static class Triples {
+        protected static final int S = 0;
+        protected static final int P = 1;
+        protected static final int O = 2;
+        protected static final int RECORD = 6;
+        protected static final long ANY = -2;
+        protected static final long NONE = -1;
+        protected static final long DELETED = -1;
+
+        protected final LongArray table;
+        protected final LongMap[] indexes = new LongMap[3];
+        protected long records;
+        protected long size;
+
+        protected Triples(Allocator allocator) {
+            this.table = new LongArray(allocator, RECORD);
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = new LongMap(allocator, 2);
+            }
+        }
+
+        protected long records() {
+            return records;
+        }
+
+        protected long size() {
+            return size;
+        }
+
+        protected long get(long record, int position) {
+            return table.get(record * RECORD + position);
+        }
+
+        protected long next(long record, int chain) {
+            return table.get(record * RECORD + 3 + chain);
+        }
+
+        protected long head(int chain, long key) {
+            LongMap index = indexes[chain];
+            long slot = index.slot(key, index.hash(key));
+            return index.isEmpty(slot) ? NONE : index.get(slot, 0);
+        }
+
+        protected long count(int chain, long key) {
+            LongMap index = indexes[chain];
+            long slot = index.slot(key, index.hash(key));
+            return index.isEmpty(slot) ? 0 : index.get(slot, 1);
+        }
+
+        /**
+         * Chooses the shortest chain for the pattern.
+         *
+         * @param s long, subject id or {@link #ANY}
+         * @param p long, predicate id or {@link #ANY}
+         * @param o long, object id or {@link #ANY}
+         * @return int, the chain ({@link #S}, {@link #P} or {@link #O}) or {@code -1} if all the table must be scanned
+         */
+        protected int chooseChain(long s, long p, long o) {
+            int res = -1;
+            long min = Long.MAX_VALUE;
+            long[] keys = {s, p, o};
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == ANY) continue;
+                long c = count(i, keys[i]);
+                if (c < min) {
+                    min = c;
+                    res = i;
+                }
+            }
+            return res;
+        }
+
+        /**
+         * Finds the record of the concrete triple.
+         *
+         * @param s long
+         * @param p long
+         * @param o long
+         * @return long, the record index or {@link #NONE}
+         */
+        protected long find(long s, long p, long o) {
+            int chain = chooseChain(s, p, o);
+            long r = head(chain, chain == S ? s : chain == P ? p : o);
+            while (r >= 0) {
+                if (get(r, S) == s && get(r, P) == p && get(r, O) == o) {
+                    return r;
+                }
+                r = next(r, chain);
+            }
+            return NONE;
+        }
+
+        protected void add(long s, long p, long o) {
+            if (find(s, p, o) >= 0) return;
+            long r = records++;
+            table.ensure(records * RECORD);
+            long base = r * RECORD;
+            table.set(base + S, s);
+            table.set(base + P, p);
+            table.set(base + O, o);
+            long[] keys = {s, p, o};
+            for (int i = 0; i < keys.length; i++) {
+                LongMap index = indexes[i];
+                long slot = index.put(keys[i], index.hash(keys[i]));
+                // if all the triples in the chain are deleted, the chain is just dropped
+                boolean isEmpty = index.get(slot, 1) == 0;
+                table.set(base + 3 + i, isEmpty ? NONE : index.get(slot, 0));
+                index.set(slot, 0, r);
+                index.set(slot, 1, index.get(slot, 1) + 1);
+            }
+            size++;
+        }
+
+        protected void delete(long s, long p, long o) {
+            long r = find(s, p, o);
+            if (r < 0) return;
+            table.set(r * RECORD + S, DELETED);
+            long[] keys = {s, p, o};
+            for (int i = 0; i < keys.length; i++) {
+                LongMap index = indexes[i];
+                long slot = index.slot(keys[i], index.hash(keys[i]));
+                index.set(slot, 1, index.get(slot, 1) - 1);
+            }
+            size--;
+        }
+
+        protected long bytes() {
+            long res = table.bytes();
+            for (LongMap i : indexes) {
+                res += i.bytes();
+            }
+            return res;
+        }
+    }
+}
@@ -68,6 +68,17 @@ public class OntModelFactory {
         return new GraphMem();
     }
 
+    /**
+     * Creates a graph which keeps all its data outside the java heap (in direct buffers).
+     * It can be used instead of the {@link #createDefaultGraph() default graph} for huge ontologies.
+     *
+     * @return {@link OffHeapGraph}
+     * @since 1.4.0
+     */
+    public static Graph createOffHeapGraph() {
+        return new OffHeapGraph();
+    }
+
     /**
      * Creates default (in-memory) RDF Model implementation.
      *
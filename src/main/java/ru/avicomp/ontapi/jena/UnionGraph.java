@@ -14,18 +14,26 @@
 
 package ru.avicomp.ontapi.jena;
 
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphEvents;
 import org.apache.jena.graph.GraphListener;
+import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.graph.compose.CompositionBase;
 import org.apache.jena.graph.impl.SimpleEventManager;
+import org.apache.jena.mem.GraphMem;
 import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
 import org.apache.jena.util.CollectionFactory;
 import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NullIterator;
 import ru.avicomp.ontapi.jena.utils.Graphs;
 import ru.avicomp.ontapi.jena.utils.Iter;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 /**
@@ -38,6 +46,8 @@ import java.util.stream.Stream;
  * Also note: this graph supports recursions, that is, it may contain itself somewhere in the hierarchy.
  * The {@link PrefixMapping} of this graph is taken from the base graph,
  * and, therefore, any changes in it reflects both the base and this graph.
+ * To speed up searching in a deep hierarchy, each {@link GraphMem in-memory} base graph is provided
+ * with a {@link Summary summary}, that allows to skip the graphs that cannot contain the pattern.
  * <p>
  * Created by szuev on 28.10.2016.
  *
@@ -61,6 +71,15 @@ public class UnionGraph extends CompositionBase {
      * This {@code Set} cannot contain {@link UnionGraph}s.
      */
     protected Set<Graph> graphs;
+    /**
+     * Internal cache to hold the summaries of all base graphs in the hierarchy, used while {@link #find(Triple)}.
+     * A base graph without summary (i.e. if it is not a {@link GraphMem}) is always searched.
+     */
+    protected Map<Graph, Summary> summaries;
+    /**
+     * The summary of the {@link #base} graph, lazily initialized.
+     */
+    protected volatile Summary summary;
 
     /**
      * Creates an instance with default settings.
@@ -196,7 +215,10 @@ public class UnionGraph extends CompositionBase {
      * Clears the {@link #graphs cache}.
      */
     protected void resetGraphsCache() {
-        collectAllUnionGraphs().forEach(x -> x.graphs = null);
+        collectAllUnionGraphs().forEach(x -> {
+            x.graphs = null;
+            x.summaries = null;
+        });
     }
 
     /**
@@ -208,6 +230,83 @@ public class UnionGraph extends CompositionBase {
         return Iter.create(graphs == null ? graphs = collectBaseGraphs() : graphs);
     }
 
+    /**
+     * Returns the summary of the base graph.
+     *
+     * @return {@link Summary} or {@code null} if the base graph cannot be summarized
+     * @see #createSummary(Graph)
+     */
+    public Summary getSummary() {
+        Summary res = summary;
+        if (res != null) return res;
+        synchronized (this) {
+            if (summary == null && base instanceof GraphMem) {
+                summary = createSummary(base);
+            }
+            return summary;
+        }
+    }
+
+    /**
+     * Creates a {@link Summary} for the given in-memory graph.
+     * Implementations are allowed to override it, e.g. to tune the filters.
+     *
+     * @param graph {@link Graph}, not {@code null}
+     * @return {@link Summary}
+     */
+    protected Summary createSummary(Graph graph) {
+        return new Summary(graph);
+    }
+
+    /**
+     * Returns a {@code Map} of all base graphs from the hierarchy with their summaries.
+     *
+     * @return Map with {@link Graph}s as keys and {@link Summary}s as values
+     */
+    protected Map<Graph, Summary> getSummaries() {
+        Map<Graph, Summary> res = summaries;
+        if (res != null) return res;
+        res = new HashMap<>();
+        for (UnionGraph u : collectUnionGraphs()) {
+            Summary s = u.getSummary();
+            if (s == null) continue;
+            res.put(u.getBaseGraph(), s);
+        }
+        return summaries = res;
+    }
+
+    /**
+     * Answers {@code false} if it is known for sure that the given graph does not contain any triple matching the pattern.
+     *
+     * @param summaries Map of {@link Summary}s
+     * @param g         {@link Graph} to test
+     * @param m         {@link Triple} pattern
+     * @return boolean
+     */
+    private static boolean mayContain(Map<Graph, Summary> summaries, Graph g, Triple m) {
+        Summary s = summaries.get(g);
+        return s == null || s.mayContain(m);
+    }
+
+    /**
+     * Selects those base graphs from the hierarchy that may contain triples matching the given pattern.
+     *
+     * @param m {@link Triple} pattern
+     * @return List of {@link Graph}s, in the same order as {@link #listBaseGraphs()}
+     */
+    protected List<Graph> selectBaseGraphs(Triple m) {
+        Map<Graph, Summary> summaries = getSummaries();
+        List<Graph> res = new ArrayList<>();
+        Iterator<Graph> graphs = listBaseGraphs();
+        while (graphs.hasNext()) {
+            Graph g = graphs.next();
+            if (mayContain(summaries, g, m)) {
+                res.add(g);
+            }
+        }
+        return res;
+    }
+
     /**
      * Lists all {@link UnionGraph}s from the hierarchy including this graph at the first place.
      *
@@ -241,11 +340,12 @@ public class UnionGraph extends CompositionBase {
     public boolean graphBaseContains(Triple t) {
         if (base.contains(t)) return true;
         if (sub.isEmpty()) return false;
+        Map<Graph, Summary> summaries = getSummaries();
         Iterator<Graph> graphs = listBaseGraphs();
         while (graphs.hasNext()) {
             Graph g = graphs.next();
             if (g == base) continue;
-            if (g.contains(t)) return true;
+            if (mayContain(summaries, g, t) && g.contains(t)) return true;
         }
         return false;
     }
@@ -263,15 +363,23 @@ public class UnionGraph extends CompositionBase {
         if (sub.isEmpty()) {
             return base.find(m);
         }
+        List<Graph> graphs = selectBaseGraphs(m);
+        if (graphs.isEmpty()) {
+            return NullIterator.instance();
+        }
+        if (graphs.size() == 1) {
+            // the only graph may match: there is no need to omit duplicates
+            return graphs.get(0).find(m);
+        }
         if (!distinct) {
-            return Iter.flatMap(listBaseGraphs(), x -> x.find(m));
+            return Iter.flatMap(Iter.create(graphs), x -> x.find(m));
         }
         // The logic and the comment below have been copy-pasted from the org.apache.jena.graph.compose.Union:
         // To find in the union, find in the components, concatenate the results, and omit duplicates.
         // That last is a performance penalty,
         // but I see no way to remove it unless we know the graphs do not overlap.
         Set<Triple> seen = createSet();
-        return Iter.flatMap(listBaseGraphs(), x -> recording(rejecting(x.find(m), seen), seen));
+        return Iter.flatMap(Iter.create(graphs), x -> recording(rejecting(x.find(m), seen), seen));
     }
 
     /**
@@ -294,7 +402,11 @@ public class UnionGraph extends CompositionBase {
     @Override
     public void close() {
         listBaseGraphs().forEachRemaining(Graph::close);
-        collectUnionGraphs().forEach(x -> x.closed = true);
+        collectUnionGraphs().forEach(x -> {
+            x.closed = true;
+            Summary s = x.summary;
+            if (s != null) s.detach();
+        });
     }
 
     @Override
@@ -484,6 +596,126 @@ public class UnionGraph extends CompositionBase {
         }
     }
 
+    /**
+     * A compact summary of a graph: the set of all predicates
+     * and Bloom filters over all (non-literal) subjects and objects.
+     * It allows to answer the question whether the graph may contain a triple matching a pattern,
+     * the answer {@code false} is exact, the answer {@code true} may be wrong.
+     * The summary is built lazily, on the first request, with a single pass over the graph,
+     * and then it is kept up to date by listening to the graph's event manager.
+     * Deletions are ignored (the summary just becomes less precise);
+     * if the graph is cleared or grows too much, the summary is rebuilt on the next request.
+     * Note: the summary is correct only if all changes of the graph are reported through its event manager,
+     * that's why it is used only for {@link GraphMem}s.
+     */
+    public static class Summary extends GraphListenerBase {
+        protected static final Funnel<Node> NODE_FUNNEL = (node, into) -> into.putInt(node.hashCode());
+        protected static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+        protected static final int MIN_CAPACITY = 1024;
+
+        protected final Graph graph;
+        protected volatile boolean ready;
+        protected boolean attached;
+        protected Set<Node> predicates;
+        protected BloomFilter<Node> subjects;
+        protected BloomFilter<Node> objects;
+        protected long capacity;
+        protected long count;
+
+        protected Summary(Graph graph) {
+            this.graph = Objects.requireNonNull(graph);
+        }
+
+        /**
+         * Answers {@code false} if the graph definitely contains no triple matching the given pattern.
+         *
+         * @param m {@link Triple} pattern, not {@code null}
+         * @return boolean
+         */
+        public boolean mayContain(Triple m) {
+            if (!ready) build();
+            Node p = m.getPredicate();
+            if (p.isURI() && !predicates.contains(p)) return false;
+            return mayContain(subjects, m.getSubject()) && mayContain(objects, m.getObject());
+        }
+
+        private static boolean mayContain(BloomFilter<Node> filter, Node n) {
+            // literals are matched by value, and ANY or variables match everything
+            return !isIndexed(n) || filter.mightContain(n);
+        }
+
+        private static boolean isIndexed(Node n) {
+            return n.isURI() || n.isBlank();
+        }
+
+        /**
+         * (Re)builds the summary by scanning the whole graph.
+         */
+        protected synchronized void build() {
+            if (ready) return;
+            if (!attached) {
+                graph.getEventManager().register(this);
+                attached = true;
+            }
+            capacity = Math.max(MIN_CAPACITY, 2L * graph.size());
+            count = 0;
+            predicates = ConcurrentHashMap.newKeySet();
+            subjects = BloomFilter.create(NODE_FUNNEL, capacity, FALSE_POSITIVE_PROBABILITY);
+            objects = BloomFilter.create(NODE_FUNNEL, capacity, FALSE_POSITIVE_PROBABILITY);
+            graph.find().forEachRemaining(this::put);
+            ready = count <= capacity;
+        }
+
+        /**
+         * Puts the triple into the summary.
+         * If there are too many triples, the summary is marked as dirty to be rebuilt with larger filters.
+         *
+         * @param t {@link Triple}
+         */
+        protected void put(Triple t) {
+            predicates.add(t.getPredicate());
+            Node s = t.getSubject();
+            if (isIndexed(s)) subjects.put(s);
+            Node o = t.getObject();
+            if (isIndexed(o)) objects.put(o);
+            if (++count > capacity) {
+                ready = false;
+            }
+        }
+
+        /**
+         * Unregisters the summary from the graph event manager and releases the memory.
+         */
+        public synchronized void detach() {
+            if (attached) {
+                graph.getEventManager().unregister(this);
+                attached = false;
+            }
+            ready = false;
+            predicates = null;
+            subjects = null;
+            objects = null;
+        }
+
+        @Override
+        protected void addEvent(Triple t) {
+            if (ready) put(t);
+        }
+
+        @Override
+        protected void deleteEvent(Triple t) {
+            // nothing: the summary is allowed to be not precise
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object value) {
+            if (GraphEvents.removeAll.equals(value)) {
+                ready = false;
+            }
+            super.notifyEvent(source, value);
+        }
+    }
+
     /**
      * An extended {@link org.apache.jena.graph.GraphEventManager Jena Graph Event Manager},
      * a holder for {@link GraphListener}s.
@@ -148,9 +148,9 @@ public abstract class OntDisjointImpl<O extends OntObject> extends OntObjectImpl
     private static boolean testList(Node node, EnhGraph graph, Class<? extends RDFNode> view, boolean allowEmptyList) {
         if (!RDFListImpl.factory.canWrap(node, graph)) return false;
         if (view == null) return true;
-        RDFList list = RDFListImpl.factory.wrap(node, graph).as(RDFList.class);
-        return (list.isEmpty() && allowEmptyList) || Iter.asStream(list.iterator().mapWith(RDFNode::asNode))
-                .anyMatch(n -> PersonalityModel.canAs(view, n, graph));
+        if (RDF.nil.asNode().equals(node)) return allowEmptyList;
+        return Iter.anyMatch(new OntListImpl.RDFListCursor(graph.asGraph(), node),
+                n -> PersonalityModel.canAs(view, n, graph));
     }
 
     public static Classes createDisjointClasses(OntGraphModelImpl model, Stream<OntCE> classes) {
@@ -542,6 +542,20 @@ public class OntGraphModelImpl extends UnionModel implements OntGraphModel, Pers
                 .mapWith(Statement::getSubject);
     }
 
+    /**
+     * Lists the members of the {@link RDFList rdf:List} with the given head,
+     * i.e. the objects of the {@link RDF#first rdf:first} triples in the order of the list.
+     * Used by the {@link OntListImpl} to read list contents.
+     * The default implementation walks the graph directly with the {@link OntListImpl.RDFListCursor}.
+     *
+     * @param head {@link Node} the first cell of a non-empty list, not {@code null}
+     * @return {@link ExtendedIterator} of {@link Node}s
+     * @since 1.4.0
+     */
+    public ExtendedIterator<Node> listRDFListMembers(Node head) {
+        return new OntListImpl.RDFListCursor(getGraph(), head);
+    }
+
     /**
      * Deletes the specified {@code OntList} including its annotations.
      *
@@ -24,6 +24,7 @@ import org.apache.jena.rdf.model.impl.RDFListImpl;
 import org.apache.jena.rdf.model.impl.ResourceImpl;
 import org.apache.jena.shared.PropertyNotFoundException;
 import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
 import org.apache.jena.util.iterator.NullIterator;
 import org.apache.jena.util.iterator.WrappedIterator;
 import ru.avicomp.ontapi.jena.OntJenaException;
@@ -405,16 +406,28 @@ public abstract class OntListImpl<E extends RDFNode> extends ResourceImpl implem
      * @return {@link ExtendedIterator} of {@link E}-elements
      */
     public ExtendedIterator<E> listMembers() {
-        Iterator<List<Triple>> it = createRDFListIterator();
-        if (it == null) return NullIterator.instance();
         OntGraphModelImpl m = getModel();
-        return WrappedIterator.create(it)
-                .mapWith(l -> createRDFFirst(m, l))
-                .mapWith(Statement::getObject)
+        return listMemberNodes()
+                .mapWith(m::asRDFNode)
                 .filterKeep(this::isValid)
                 .mapWith(this::cast);
     }
 
+    /**
+     * Lists all member {@link Node node}s (i.e. the {@link RDF#first rdf:first} objects) from this list.
+     * Unlike the {@link #listMembers()} method, no type checking is performed.
+     * The nodes are provided by the model (see {@link OntGraphModelImpl#listRDFListMembers(Node)}),
+     * which may have a cache inside.
+     *
+     * @return {@link ExtendedIterator} of {@link Node}s
+     * @since 1.4.0
+     */
+    public ExtendedIterator<Node> listMemberNodes() {
+        RDFList list = getRDFList();
+        if (isEmpty(list)) return NullIterator.instance();
+        return getModel().listRDFListMembers(list.asNode());
+    }
+
     @Override
     public Stream<OntStatement> spec() {
         RDFList list = getRDFList();
@@ -680,6 +693,90 @@ public abstract class OntListImpl<E extends RDFNode> extends ResourceImpl implem
         }
     }
 
+    /**
+     * A cursor over the members of a {@link RDF#List rdf:List},
+     * that walks the {@link RDF#first rdf:first}/{@link RDF#rest rdf:rest} chain directly on the {@link Graph}.
+     * Unlike the {@link RDFListIterator}, it does not collect cell triples into batches:
+     * the current cell and its member are kept in the fields and are replaced on each {@link #next()} call,
+     * so the graph iterator is the only object that is created per cell.
+     * As the other list iterators, it does not check the list for cycles.
+     *
+     * @since 1.4.0
+     */
+    public static class RDFListCursor extends NiceIterator<Node> {
+        public static final Node FIRST = RDF.first.asNode();
+        private final Graph graph;
+        private Node cell;
+        private Node member;
+        private Node rest;
+
+        public RDFListCursor(Graph graph, Node head) {
+            this.graph = Objects.requireNonNull(graph);
+            this.rest = Objects.requireNonNull(head);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rest != null && !RDFListIterator.NIL.equals(rest);
+        }
+
+        /**
+         * Moves the cursor to the next cell.
+         *
+         * @return {@link Node} the member of the new current cell, i.e. the object of its {@code rdf:first} triple
+         * @throws NoSuchElementException     if there is no more cells or the cell has no {@code rdf:rest}
+         * @throws OntJenaException.IllegalState if the cell has no {@code rdf:first}
+         */
+        @Override
+        public Node next() throws NoSuchElementException, OntJenaException.IllegalState {
+            if (!hasNext()) throw new NoSuchElementException();
+            Node head = rest;
+            Node first = null;
+            Node next = null;
+            ExtendedIterator<Triple> it = graph.find(head, Node.ANY, Node.ANY);
+            try {
+                while (it.hasNext()) {
+                    Triple t = it.next();
+                    Node p = t.getPredicate();
+                    if (first == null && FIRST.equals(p)) {
+                        first = t.getObject();
+                    } else if (RDFListIterator.REST.equals(p)) {
+                        next = t.getObject();
+                    }
+                }
+            } finally {
+                it.close();
+            }
+            this.rest = next;
+            if (next == null) {
+                throw new NoSuchElementException("No rdf:rest found for the cell " + head);
+            }
+            if (first == null) {
+                throw new OntJenaException.IllegalState("No rdf:first found for the cell " + head);
+            }
+            this.cell = head;
+            return this.member = first;
+        }
+
+        /**
+         * Returns the current cell, i.e. the subject of the last processed {@code rdf:first}/{@code rdf:rest} pair.
+         *
+         * @return {@link Node} or {@code null} if the cursor is not moved yet
+         */
+        public Node cell() {
+            return cell;
+        }
+
+        /**
+         * Returns the member of the current cell, the same node that was returned by the last {@link #next()} call.
+         *
+         * @return {@link Node} or {@code null} if the cursor is not moved yet
+         */
+        public Node member() {
+            return member;
+        }
+    }
+
     /**
      * A simplest {@link Iterator iterator} over a {@link RDF#List rdf:List},
      * whose {@link Iterator#next()} method returns
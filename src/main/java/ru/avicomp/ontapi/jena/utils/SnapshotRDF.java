@@ -0,0 +1,405 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.jena.utils;
+
+import org.apache.jena.atlas.web.ContentType;
+import org.apache.jena.datatypes.RDFDatatype;
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.*;
+import org.apache.jena.riot.system.ParserProfile;
+import org.apache.jena.riot.system.PrefixMap;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.sparql.util.Context;
+import org.apache.jena.system.JenaSystem;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A compact binary RDF syntax to store and restore a graph snapshot as is, without any additional processing.
+ * It is registered in the Jena RIOT system as the {@link Lang language} {@link #LANG ONT-SNAPSHOT}
+ * (see also {@link ru.avicomp.ontapi.OntFormat#ONT_SNAPSHOT}),
+ * so it can be used through the standard {@link RDFDataMgr} methods.
+ * <p>
+ * The format is dictionary-encoded and streaming:
+ * each node (and each namespace of URI nodes) is written only once, on its first usage,
+ * and is referenced by its index after that, so a triple is stored as three integers (var-ints).
+ * The blank node labels are not stored: fresh blank nodes are created while reading.
+ * The structure is the following:
+ * <pre>
+ * header     ::= MAGIC VERSION
+ * prefixes   ::= count (prefix uri)*
+ * records    ::= (namespace | node | triple)* END
+ * namespace  ::= NS string
+ * node       ::= URI ns-index local-name | BLANK | STRING lex | LANG lex lang | TYPED lex datatype-index
+ * triple     ::= TRIPLE s-index p-index o-index
+ * </pre>
+ * Note: this format is intended to be used to save/load an ontology graph quickly,
+ * e.g. to avoid re-parsing a large text document and re-running transformations on each start of an application;
+ * it is not a general purpose interchange format.
+ * The reader does not check the triples for RDF-correctness.
+ */
+@SuppressWarnings("WeakerAccess")
+public class SnapshotRDF {
+    public static final Lang LANG = LangBuilder.create("ONT-SNAPSHOT", "application/x-ont-snapshot")
+            .addFileExtensions("osnap")
+            .build();
+    public static final RDFFormat FORMAT = new RDFFormat(LANG);
+
+    private static final int MAGIC = 0x4F4E5453; // "ONTS"
+    private static final int VERSION = 1;
+
+    private static final int END = 0;
+    private static final int NS = 1;
+    private static final int URI = 2;
+    private static final int BLANK = 3;
+    private static final int STRING = 4;
+    private static final int LANG_STRING = 5;
+    private static final int TYPED = 6;
+    private static final int TRIPLE = 7;
+
+    static {
+        init();
+    }
+
+    /**
+     * Registers the syntax in the Jena RIOT system.
+     * It is called automatically while the class loading, but it is safe to call it explicitly several times.
+     */
+    public static void init() {
+        JenaSystem.init();
+        if (RDFParserRegistry.isRegistered(LANG)) return;
+        RDFLanguages.register(LANG);
+        RDFParserRegistry.registerLangTriples(LANG, (lang, profile) -> new Reader(profile));
+        RDFWriterRegistry.register(LANG, FORMAT);
+        RDFWriterRegistry.register(FORMAT, (WriterGraphRIOTFactory) format -> new Writer());
+    }
+
+    /**
+     * Writes the given graph (with its prefixes) into the output stream.
+     *
+     * @param graph {@link Graph} to save, not {@code null}
+     * @param out   {@link OutputStream}, not {@code null}
+     * @throws RiotException in case of I/O error
+     */
+    public static void write(Graph graph, OutputStream out) throws RiotException {
+        write(graph, graph.getPrefixMapping().getNsPrefixMap(), out);
+    }
+
+    /**
+     * Writes the given graph and prefixes into the output stream.
+     *
+     * @param graph    {@link Graph} to save, not {@code null}
+     * @param prefixes Map with prefixes (key) and namespaces (value)
+     * @param out      {@link OutputStream}, not {@code null}
+     * @throws RiotException in case of I/O error
+     */
+    public static void write(Graph graph, Map<String, String> prefixes, OutputStream out) throws RiotException {
+        try {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            new Encoder(data).write(graph, prefixes);
+            data.flush();
+        } catch (IOException e) {
+            throw new RiotException("Can't write graph snapshot", e);
+        }
+    }
+
+    /**
+     * Reads the graph snapshot from the input stream and passes all its content into the destination.
+     *
+     * @param in   {@link InputStream}, not {@code null}
+     * @param dest {@link StreamRDF}, not {@code null}
+     * @throws RiotException if the data is broken or some I/O error occurs
+     */
+    public static void read(InputStream in, StreamRDF dest) throws RiotException {
+        DataInputStream data = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+        dest.start();
+        try {
+            new Decoder(data).read(dest);
+        } catch (EOFException e) {
+            throw new RiotException("Unexpected end of graph snapshot", e);
+        } catch (IOException e) {
+            throw new RiotException("Can't read graph snapshot", e);
+        } finally {
+            dest.finish();
+        }
+    }
+
+    /**
+     * The {@link ReaderRIOT} implementation.
+     */
+    public static class Reader implements ReaderRIOT {
+        private ParserProfile profile;
+
+        protected Reader(ParserProfile profile) {
+            this.profile = profile;
+        }
+
+        @Override
+        public void read(InputStream in, String baseURI, ContentType ct, StreamRDF output, Context context) {
+            SnapshotRDF.read(in, output);
+        }
+
+        @Override
+        public void read(java.io.Reader reader, String baseURI, ContentType ct, StreamRDF output, Context context) {
+            throw new RiotException("Binary format: reading from a java.io.Reader is not supported");
+        }
+
+        @Override
+        public ParserProfile getParserProfile() {
+            return profile;
+        }
+
+        @Override
+        public void setParserProfile(ParserProfile profile) {
+            this.profile = profile;
+        }
+    }
+
+    /**
+     * The {@link WriterGraphRIOT} implementation.
+     */
+    public static class Writer implements WriterGraphRIOT {
+
+        @Override
+        public void write(OutputStream out, Graph graph, PrefixMap prefixMap, String baseURI, Context context) {
+            SnapshotRDF.write(graph, prefixMap == null ? Collections.emptyMap() : prefixMap.getMappingCopyStr(), out);
+        }
+
+        @Override
+        public void write(java.io.Writer out, Graph graph, PrefixMap prefixMap, String baseURI, Context context) {
+            throw new RiotException("Binary format: writing to a java.io.Writer is not supported");
+        }
+
+        @Override
+        public Lang getLang() {
+            return LANG;
+        }
+    }
+
+    /**
+     * The encoder, stateful.
+     */
+    protected static class Encoder {
+        private final DataOutputStream out;
+        private final Map<Node, Integer> nodes = new HashMap<>();
+        private final Map<String, Integer> namespaces = new HashMap<>();
+
+        protected Encoder(DataOutputStream out) {
+            this.out = out;
+        }
+
+        protected void write(Graph graph, Map<String, String> prefixes) throws IOException {
+            out.writeInt(MAGIC);
+            writeInt(VERSION);
+            writeInt(prefixes.size());
+            for (Map.Entry<String, String> e : prefixes.entrySet()) {
+                writeString(e.getKey());
+                writeString(e.getValue());
+            }
+            ExtendedIterator<Triple> it = graph.find(Triple.ANY);
+            try {
+                while (it.hasNext()) {
+                    Triple t = it.next();
+                    int s = node(t.getSubject());
+                    int p = node(t.getPredicate());
+                    int o = node(t.getObject());
+                    out.write(TRIPLE);
+                    writeInt(s);
+                    writeInt(p);
+                    writeInt(o);
+                }
+            } finally {
+                it.close();
+            }
+            out.write(END);
+        }
+
+        private int node(Node node) throws IOException {
+            Integer res = nodes.get(node);
+            if (res != null) return res;
+            if (node.isURI()) {
+                String uri = node.getURI();
+                int i = splitNamespace(uri);
+                int ns = namespace(uri.substring(0, i));
+                out.write(URI);
+                writeInt(ns);
+                writeString(uri.substring(i));
+            } else if (node.isBlank()) {
+                out.write(BLANK);
+            } else if (node.isLiteral()) {
+                String lang = node.getLiteralLanguage();
+                String dt = node.getLiteralDatatypeURI();
+                if (lang != null && !lang.isEmpty()) {
+                    out.write(LANG_STRING);
+                    writeString(node.getLiteralLexicalForm());
+                    writeString(lang);
+                } else if (dt == null || XSDDatatype.XSDstring.getURI().equals(dt)) {
+                    out.write(STRING);
+                    writeString(node.getLiteralLexicalForm());
+                } else {
+                    int t = node(NodeFactory.createURI(dt));
+                    out.write(TYPED);
+                    writeString(node.getLiteralLexicalForm());
+                    writeInt(t);
+                }
+            } else {
+                throw new RiotException("Unexpected node " + node);
+            }
+            nodes.put(node, res = nodes.size());
+            return res;
+        }
+
+        private int namespace(String ns) throws IOException {
+            Integer res = namespaces.get(ns);
+            if (res != null) return res;
+            out.write(NS);
+            writeString(ns);
+            namespaces.put(ns, res = namespaces.size());
+            return res;
+        }
+
+        private static int splitNamespace(String uri) {
+            int res = Math.max(uri.lastIndexOf('#'), uri.lastIndexOf('/'));
+            return res < 0 ? 0 : res + 1;
+        }
+
+        private void writeString(String s) throws IOException {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+    }
+
+    /**
+     * The decoder, stateful.
+     */
+    protected static class Decoder {
+        private final DataInputStream in;
+        private final List<String> namespaces = new ArrayList<>();
+        private Node[] nodes = new Node[1024];
+        private int size;
+        private byte[] buffer = new byte[256];
+
+        protected Decoder(DataInputStream in) {
+            this.in = in;
+        }
+
+        protected void read(StreamRDF dest) throws IOException {
+            if (in.readInt() != MAGIC) {
+                throw new RiotException("Not a graph snapshot");
+            }
+            int version = readInt();
+            if (version != VERSION) {
+                throw new RiotException("Unsupported graph snapshot version: " + version);
+            }
+            int prefixes = readInt();
+            for (int i = 0; i < prefixes; i++) {
+                dest.prefix(readString(), readString());
+            }
+            int tag;
+            while ((tag = in.readUnsignedByte()) != END) {
+                switch (tag) {
+                    case TRIPLE:
+                        dest.triple(Triple.create(node(readInt()), node(readInt()), node(readInt())));
+                        break;
+                    case NS:
+                        namespaces.add(readString());
+                        break;
+                    case URI:
+                        add(NodeFactory.createURI(namespace(readInt()) + readString()));
+                        break;
+                    case BLANK:
+                        add(NodeFactory.createBlankNode());
+                        break;
+                    case STRING:
+                        add(NodeFactory.createLiteral(readString()));
+                        break;
+                    case LANG_STRING:
+                        add(NodeFactory.createLiteral(readString(), readString()));
+                        break;
+                    case TYPED:
+                        String lex = readString();
+                        add(NodeFactory.createLiteral(lex, datatype(node(readInt()))));
+                        break;
+                    default:
+                        throw new RiotException("Broken graph snapshot: unexpected tag " + tag);
+                }
+            }
+        }
+
+        private void add(Node node) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            nodes[size++] = node;
+        }
+
+        private Node node(int index) {
+            if (index < 0 || index >= size) {
+                throw new RiotException("Broken graph snapshot: unknown node #" + index);
+            }
+            return nodes[index];
+        }
+
+        private String namespace(int index) {
+            if (index < 0 || index >= namespaces.size()) {
+                throw new RiotException("Broken graph snapshot: unknown namespace #" + index);
+            }
+            return namespaces.get(index);
+        }
+
+        private static RDFDatatype datatype(Node uri) {
+            return TypeMapper.getInstance().getSafeTypeByName(uri.getURI());
+        }
+
+        private String readString() throws IOException {
+            int length = readInt();
+            if (length < 0) {
+                throw new RiotException("Broken graph snapshot: negative string length");
+            }
+            if (length > buffer.length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            in.readFully(buffer, 0, length);
+            return new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private int readInt() throws IOException {
+            int res = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = in.readUnsignedByte();
+                res |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return res;
+            }
+            throw new RiotException("Broken graph snapshot: malformed var-int");
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package ru.avicomp.ontapi.jena.utils;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWriter;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A helper to save a graph through the Jena {@link StreamRDF streaming} writers.
+ * <p>
+ * Unlike the standard (pretty) writers, which analyse the whole graph before emitting anything,
+ * a streaming writer outputs the triples block by block while iterating over the graph,
+ * so it does not require any additional memory.
+ * The output is still a valid document in the corresponding syntax,
+ * although it is less compact for the formats with abbreviations (e.g. {@code Turtle} is written in blocks).
+ * <p>
+ * For the line-based syntaxes ({@code N-Triples}, {@code N-Quads}) and for the binary {@code RDF-Thrift}
+ * the serialisation can be performed in parallel:
+ * the graph is iterated by the calling thread and split into the fixed-size partitions,
+ * each partition is serialised into a separate buffer by a worker,
+ * and the buffers are written into the output in the original order.
+ * The number of partitions that are held in memory at the same time is bounded (twice the number of threads).
+ *
+ * @see org.apache.jena.riot.RDFDataMgr#write(OutputStream, Graph, Lang)
+ * @since 1.4.0
+ */
+@SuppressWarnings("WeakerAccess")
+public class StreamingRDF {
+    /**
+     * The number of triples in a partition, that is serialised by a single worker.
+     */
+    public static final int PARTITION_SIZE = 10_000;
+
+    /**
+     * Returns the streaming {@link RDFFormat format} for the given language.
+     *
+     * @param lang {@link Lang}, not {@code null}
+     * @return {@link RDFFormat} or {@code null} if there is no streaming writer for the language
+     */
+    public static RDFFormat getFormat(Lang lang) {
+        if (Lang.NTRIPLES.equals(lang)) return RDFFormat.NTRIPLES_UTF8;
+        if (Lang.NQUADS.equals(lang)) return RDFFormat.NQUADS_UTF8;
+        if (Lang.TURTLE.equals(lang) || Lang.N3.equals(lang)) return RDFFormat.TURTLE_BLOCKS;
+        if (Lang.TRIG.equals(lang)) return RDFFormat.TRIG_BLOCKS;
+        if (Lang.RDFTHRIFT.equals(lang)) return RDFFormat.RDF_THRIFT;
+        return null;
+    }
+
+    /**
+     * Answers {@code true} if the given streaming format allows to serialise graph partitions independently,
+     * i.e. if the concatenation of the outputs is a valid document.
+     *
+     * @param format {@link RDFFormat}, not {@code null}
+     * @return boolean
+     */
+    public static boolean canWriteInParallel(RDFFormat format) {
+        return RDFFormat.NTRIPLES_UTF8.equals(format)
+                || RDFFormat.NQUADS_UTF8.equals(format)
+                || RDFFormat.RDF_THRIFT.equals(format);
+    }
+
+    /**
+     * Writes the given graph with its prefixes into the output stream using the specified streaming format.
+     *
+     * @param graph  {@link Graph} to save, not {@code null}
+     * @param out    {@link OutputStream}, not {@code null}
+     * @param format {@link RDFFormat}, must have a streaming writer (see {@link #getFormat(Lang)})
+     * @throws RiotException if the format is not supported or in case of I/O error
+     */
+    public static void write(Graph graph, OutputStream out, RDFFormat format) throws RiotException {
+        StreamRDF dest = createStream(out, format);
+        dest.start();
+        try {
+            graph.getPrefixMapping().getNsPrefixMap().forEach(dest::prefix);
+            graph.find().forEachRemaining(dest::triple);
+        } finally {
+            dest.finish();
+        }
+    }
+
+    /**
+     * Writes the given graph with its prefixes into the output stream using the specified streaming format
+     * and the specified number of threads.
+     * If the format does not allow parallel serialisation (see {@link #canWriteInParallel(RDFFormat)}),
+     * or the graph is small, it is written sequentially.
+     * Note: the graph is read only by the calling thread.
+     *
+     * @param graph   {@link Graph} to save, not {@code null}
+     * @param out     {@link OutputStream}, not {@code null}
+     * @param format  {@link RDFFormat}, must have a streaming writer (see {@link #getFormat(Lang)})
+     * @param threads int, the number of threads to serialise partitions
+     * @throws RiotException if the format is not supported, in case of I/O error or if the thread is interrupted
+     */
+    public static void write(Graph graph, OutputStream out, RDFFormat format, int threads) throws RiotException {
+        if (threads <= 1 || !canWriteInParallel(format) || graph.size() <= PARTITION_SIZE) {
+            write(graph, out, format);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread res = new Thread(r, "StreamingRDF-" + Graphs.getName(graph));
+            res.setDaemon(true);
+            return res;
+        });
+        try {
+            write(graph, out, format, executor, 2 * threads);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes the graph partitions using the given executor, keeping the original order.
+     *
+     * @param graph    {@link Graph} to save
+     * @param out      {@link OutputStream}
+     * @param format   {@link RDFFormat}, that can be written in parallel
+     * @param executor {@link ExecutorService} to serialise partitions
+     * @param window   int, the maximum number of partitions which are held in memory
+     * @throws RiotException if something goes wrong
+     */
+    protected static void write(Graph graph,
+                                OutputStream out,
+                                RDFFormat format,
+                                ExecutorService executor,
+                                int window) throws RiotException {
+        Map<String, String> prefixes = graph.getPrefixMapping().getNsPrefixMap();
+        Deque<Future<byte[]>> queue = new ArrayDeque<>();
+        ExtendedIterator<Triple> triples = graph.find();
+        try {
+            boolean first = true;
+            while (triples.hasNext()) {
+                Triple[] partition = new Triple[PARTITION_SIZE];
+                int size = 0;
+                while (size < PARTITION_SIZE && triples.hasNext()) {
+                    partition[size++] = triples.next();
+                }
+                Triple[] data = size == PARTITION_SIZE ? partition : Arrays.copyOf(partition, size);
+                Map<String, String> header = first ? prefixes : null;
+                first = false;
+                queue.add(executor.submit(() -> serialize(header, data, format)));
+                if (queue.size() >= window) {
+                    out.write(queue.removeFirst().get());
+                }
+            }
+            while (!queue.isEmpty()) {
+                out.write(queue.removeFirst().get());
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new RiotException("Can't write graph", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RiotException ? (RiotException) cause : new RiotException("Can't write graph", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RiotException("Interrupted", e);
+        } finally {
+            triples.close();
+            queue.forEach(f -> f.cancel(true));
+        }
+    }
+
+    private static byte[] serialize(Map<String, String> prefixes, Triple[] triples, RDFFormat format) {
+        ByteArrayOutputStream res = new ByteArrayOutputStream();
+        StreamRDF dest = createStream(res, format);
+        dest.start();
+        if (prefixes != null) {
+            prefixes.forEach(dest::prefix);
+        }
+        for (Triple t : triples) {
+            dest.triple(t);
+        }
+        dest.finish();
+        return res.toByteArray();
+    }
+
+    private static StreamRDF createStream(OutputStream out, RDFFormat format) {
+        StreamRDF res = StreamRDFWriter.getWriterStream(out, format);
+        if (res == null) {
+            throw new RiotException("No streaming writer for " + format);
+        }
+        return res;
+    }
+}
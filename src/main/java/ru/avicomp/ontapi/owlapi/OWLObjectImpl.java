@@ -13,15 +13,20 @@
  */
 package ru.avicomp.ontapi.owlapi;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.util.AbstractCollectorEx;
 import org.semanticweb.owlapi.util.OWLClassExpressionCollector;
 import org.semanticweb.owlapi.util.OWLEntityCollector;
 import org.semanticweb.owlapi.util.SimpleRenderer;
+import ru.avicomp.ontapi.config.OntSettings;
 
 import javax.annotation.Nullable;
 import java.io.Serializable;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -41,60 +46,114 @@ public abstract class OWLObjectImpl implements OWLObject, Serializable {
      */
     protected static final Set<OWLAnnotation> NO_ANNOTATIONS = Collections.emptySet();
 
+    /**
+     * The signatures cache, it is used to avoid repeated traversing over the structure of the same object.
+     * The keys are weak (compared by identity), the values are soft, and the total size is bounded.
+     * Only composite objects (i.e. not {@link OWLPrimitive primitives}) are memoized.
+     * Can be {@code null}, if disabled through the setting
+     * {@link OntSettings#ONT_API_DATA_FACTORY_CACHE_SIGNATURES} (a non-positive size).
+     */
+    protected static final LoadingCache<OWLObjectImpl, CachedSignature> SIGNATURES =
+            createSignatureCache((Integer) OntSettings.ONT_API_DATA_FACTORY_CACHE_SIGNATURES.getDefaultValue());
+
     protected int hashCode = 0;
 
     @Override
     public Stream<OWLAnonymousIndividual> anonymousIndividuals() {
+        CachedSignature res = getCachedSignature();
+        if (res != null) {
+            return Arrays.stream(res.anonymous);
+        }
         return addAnonymousIndividualsToSet(new TreeSet<>()).stream();
-        //return anonCaches.get(this).stream();
     }
 
     @Override
     public Stream<OWLEntity> signature() {
+        CachedSignature res = getCachedSignature();
+        if (res != null) {
+            return Arrays.stream(res.entities);
+        }
         return addSignatureEntitiesToSet(new TreeSet<>()).stream();
-        //return signatures.get(this).stream();
     }
 
     @Override
     public boolean containsEntityInSignature(OWLEntity owlEntity) {
+        CachedSignature res = getCachedSignature();
+        if (res != null) {
+            return owlEntity != null && Arrays.binarySearch(res.entities, owlEntity) >= 0;
+        }
         return signature().anyMatch(o -> Objects.equals(o, owlEntity));
-        //return signatures.get(this).contains(owlEntity);
     }
 
     @Override
     public Stream<OWLClass> classesInSignature() {
-        return signature().filter(OWLEntity::isOWLClass).map(OWLEntity::asOWLClass);
-        //return streamFromSorted(classesSignatures.get(this));
+        return entities(EntityType.CLASS, OWLEntity::isOWLClass, OWLEntity::asOWLClass);
     }
 
     @Override
     public Stream<OWLDataProperty> dataPropertiesInSignature() {
-        return signature().filter(OWLEntity::isOWLDataProperty).map(OWLEntity::asOWLDataProperty);
-        //return streamFromSorted(dataPropertySignatures.get(this));
+        return entities(EntityType.DATA_PROPERTY, OWLEntity::isOWLDataProperty, OWLEntity::asOWLDataProperty);
     }
 
     @Override
     public Stream<OWLObjectProperty> objectPropertiesInSignature() {
-        return signature().filter(OWLEntity::isOWLObjectProperty).map(OWLEntity::asOWLObjectProperty);
-        //return streamFromSorted(objectPropertySignatures.get(this));
+        return entities(EntityType.OBJECT_PROPERTY, OWLEntity::isOWLObjectProperty, OWLEntity::asOWLObjectProperty);
     }
 
     @Override
     public Stream<OWLNamedIndividual> individualsInSignature() {
-        return signature().filter(OWLEntity::isOWLNamedIndividual).map(OWLEntity::asOWLNamedIndividual);
-        //return streamFromSorted(individualSignatures.get(this));
+        return entities(EntityType.NAMED_INDIVIDUAL, OWLEntity::isOWLNamedIndividual, OWLEntity::asOWLNamedIndividual);
     }
 
     @Override
     public Stream<OWLDatatype> datatypesInSignature() {
-        return signature().filter(OWLEntity::isOWLDatatype).map(OWLEntity::asOWLDatatype);
-        //return streamFromSorted(datatypeSignatures.get(this));
+        return entities(EntityType.DATATYPE, OWLEntity::isOWLDatatype, OWLEntity::asOWLDatatype);
     }
 
     @Override
     public Stream<OWLAnnotationProperty> annotationPropertiesInSignature() {
-        return signature().filter(OWLEntity::isOWLAnnotationProperty).map(OWLEntity::asOWLAnnotationProperty);
-        //return streamFromSorted(annotationPropertiesSignatures.get(this));
+        return entities(EntityType.ANNOTATION_PROPERTY,
+                OWLEntity::isOWLAnnotationProperty, OWLEntity::asOWLAnnotationProperty);
+    }
+
+    /**
+     * Lists the entities of the given type from the signature.
+     *
+     * @param type   {@link EntityType}
+     * @param filter {@link Predicate} to select entities of the type from the whole signature
+     * @param mapper {@link Function} to cast an entity
+     * @param <E>    subtype of {@link OWLEntity}
+     * @return Stream of {@link E}s, sorted
+     */
+    private <E extends OWLEntity> Stream<E> entities(EntityType<E> type,
+                                                     Predicate<OWLEntity> filter,
+                                                     Function<OWLEntity, E> mapper) {
+        CachedSignature res = getCachedSignature();
+        if (res != null) {
+            return res.entities(type).map(mapper);
+        }
+        return signature().filter(filter).map(mapper);
+    }
+
+    /**
+     * Returns the memoized signature of this object.
+     *
+     * @return {@link CachedSignature} or {@code null} if there is no cache for this object
+     */
+    protected CachedSignature getCachedSignature() {
+        if (SIGNATURES == null || this instanceof OWLPrimitive) return null;
+        return SIGNATURES.get(this);
+    }
+
+    /**
+     * Creates the signatures cache.
+     *
+     * @param size int, the maximum size, non-positive to disable caching
+     * @return {@link LoadingCache} or {@code null}
+     */
+    private static LoadingCache<OWLObjectImpl, CachedSignature> createSignatureCache(int size) {
+        if (size <= 0) return null;
+        return Caffeine.newBuilder().weakKeys().softValues().maximumSize(size).build(CachedSignature::new);
     }
 
     @Override
@@ -225,6 +284,45 @@ public abstract class OWLObjectImpl implements OWLObject, Serializable {
         return Boolean.compare(set1.hasNext(), set2.hasNext());
     }
 
+    /**
+     * A compact immutable representation of an object's signature:
+     * the sorted arrays of entities and anonymous individuals.
+     * Since entities are ordered by their type first,
+     * the entities of each type form a continuous range within the array.
+     */
+    protected static class CachedSignature {
+        private static final List<EntityType<?>> TYPES = EntityType.values();
+
+        private final OWLEntity[] entities;
+        private final OWLAnonymousIndividual[] anonymous;
+        // for each entity type: the start (inclusive) and the end (exclusive) positions
+        private final int[] ranges;
+
+        protected CachedSignature(OWLObjectImpl object) {
+            this.entities = object.addSignatureEntitiesToSet(new TreeSet<>()).toArray(new OWLEntity[0]);
+            this.anonymous = object.addAnonymousIndividualsToSet(new TreeSet<>()).toArray(new OWLAnonymousIndividual[0]);
+            this.ranges = new int[TYPES.size() * 2];
+            for (int i = 0; i < entities.length; i++) {
+                int t = TYPES.indexOf(entities[i].getEntityType()) * 2;
+                if (i == 0 || !entities[i - 1].getEntityType().equals(entities[i].getEntityType())) {
+                    ranges[t] = i;
+                }
+                ranges[t + 1] = i + 1;
+            }
+        }
+
+        /**
+         * Lists the entities of the given type.
+         *
+         * @param type {@link EntityType}
+         * @return Stream of {@link OWLEntity}s
+         */
+        protected Stream<OWLEntity> entities(EntityType<?> type) {
+            int t = TYPES.indexOf(type) * 2;
+            return Arrays.stream(entities, ranges[t], ranges[t + 1]);
+        }
+    }
+
     /**
      * A utility class that visits axioms, class expressions etc. and accumulates
      * the anonymous individuals referred.
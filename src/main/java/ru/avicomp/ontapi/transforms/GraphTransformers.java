@@ -27,6 +27,9 @@ import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -367,6 +370,18 @@ public abstract class GraphTransformers {
             return getFilter().test(graph) ? makers().map(f -> f.create(graph)).filter(Transform::test) : Stream.empty();
         }
 
+        /**
+         * Lists all {@link Transform transformation actions} applicable to the specified graph,
+         * that support the incremental mode.
+         *
+         * @param graph {@link Graph}
+         * @return Stream of {@link Transform}s.
+         */
+        protected Stream<Transform> incrementalActions(Graph graph) {
+            return getFilter().test(graph) ? makers().map(f -> f.create(graph))
+                    .filter(t -> t.isIncremental() && t.test()) : Stream.empty();
+        }
+
         /**
          * Lists all Makers.
          *
@@ -442,29 +457,172 @@ public abstract class GraphTransformers {
             if (skip.contains(base)) return res;
             List<Transform> actions = actions(graph).collect(Collectors.toList());
             for (Transform action : actions) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("Process <%s> on <%s>", action.name(), Graphs.getName(base)));
+                process(action, Transform::perform, res);
+            }
+            skip.add(base);
+            return res;
+        }
+
+        /**
+         * Performs all graph transformations operations in parallel using the given executor.
+         * The result is the same as for the {@link #transform(Graph, Set) sequential method}:
+         * any graph is transformed only after all its sub-graphs have been processed,
+         * but the independent branches of the graph hierarchy are processed simultaneously.
+         * Each sub-graph is transformed only once, even if it is shared by several branches.
+         * It is assumed that the transforms do not modify anything except the base graph of the processed graph.
+         *
+         * @param graph    {@link Graph}, in most cases it is {@link UnionGraph} with sub-graphs
+         * @param skip     Set of {@link Graph}s to exclude from transformations, it should be modifiable
+         * @param executor {@link Executor} to run the transforms
+         * @return {@link Stats} a container with result
+         * @throws TransformException if something is wrong
+         * @see #transform(Graph, Set)
+         */
+        public Stats transform(Graph graph, Set<Graph> skip, Executor executor) throws TransformException {
+            Objects.requireNonNull(executor, "Null executor");
+            Map<Graph, CompletableFuture<Stats>> tasks = new HashMap<>();
+            CompletableFuture<Stats> res = schedule(graph, skip, executor, tasks);
+            try {
+                return res.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof StoreException) {
+                    StoreException se = (StoreException) cause;
+                    if (!Graphs.getBase(graph).equals(se.transform.getBaseGraph())) {
+                        se.putParent(graph);
+                    }
+                    throw se;
                 }
-                GraphEventManager events = base.getEventManager();
-                TransformListener listener = createTrackListener();
-                try {
-                    events.register(listener);
-                    action.perform();
-                } catch (JenaException e) {
-                    throw new StoreException(action, e);
-                } finally {
-                    events.unregister(listener);
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
                 }
-                res.putTriples(action,
-                        listener.getAdded(),
-                        listener.getDeleted(),
-                        action.uncertainTriples()
-                                .collect(Collectors.toSet()));
+                throw e;
+            } finally {
+                tasks.forEach((g, f) -> {
+                    if (f.isDone() && !f.isCompletedExceptionally()) skip.add(g);
+                });
+            }
+        }
+
+        /**
+         * Schedules the transformation of the given graph,
+         * which must be performed after the transformations of all its sub-graphs.
+         *
+         * @param graph    {@link Graph}
+         * @param skip     Set of {@link Graph}s to exclude from transformations
+         * @param executor {@link Executor}
+         * @param tasks    Map with already scheduled tasks
+         * @return {@link CompletableFuture} with {@link Stats}
+         */
+        protected CompletableFuture<Stats> schedule(Graph graph,
+                                                    Set<Graph> skip,
+                                                    Executor executor,
+                                                    Map<Graph, CompletableFuture<Stats>> tasks) {
+            List<Graph> children = Graphs.toUnion(graph).getUnderlying().listGraphs().toList();
+            Graph base = Graphs.getBase(graph);
+            List<CompletableFuture<Stats>> subs = new ArrayList<>();
+            for (Graph g : children) {
+                subs.add(schedule(g, skip, executor, tasks));
+            }
+            List<CompletableFuture<Stats>> deps = new ArrayList<>(subs);
+            CompletableFuture<Stats> prev = tasks.get(base);
+            if (prev != null) {
+                // the graph is being transformed within another branch, it is needed to wait for it
+                deps.add(prev);
+            }
+            CompletableFuture<Void> ready = CompletableFuture.allOf(deps.toArray(new CompletableFuture[0]));
+            if (prev != null || skip.contains(base)) {
+                return ready.thenApply(x -> collect(base, subs));
+            }
+            CompletableFuture<Stats> res = ready.thenApplyAsync(x -> {
+                Stats stats = collect(base, subs);
+                List<Transform> actions = actions(graph).collect(Collectors.toList());
+                for (Transform action : actions) {
+                    process(action, Transform::perform, stats);
+                }
+                return stats;
+            }, executor);
+            tasks.put(base, res);
+            return res;
+        }
+
+        private static Stats collect(Graph base, List<CompletableFuture<Stats>> subs) {
+            Stats res = new Stats(base);
+            subs.forEach(s -> res.putStats(s.join()));
+            return res;
+        }
+
+        /**
+         * Performs the incremental transformations on the given graph.
+         * Only those transforms that support the incremental mode (see {@link Transform#isIncremental()}) are run,
+         * and only the triples from the specified {@code delta} graph are scanned,
+         * while the whole {@code graph} is used as a context.
+         * Unlike the {@link #transform(Graph, Set) full transformation}, the sub-graphs (imports) are not processed:
+         * it is expected that the delta contains only the changes of the base graph.
+         * The deleted triples are not taken into account:
+         * the declarations, which have been derived from them, are not removed.
+         *
+         * @param graph {@link Graph}, the whole graph, not {@code null}
+         * @param delta {@link Graph} with the triples, which have been added since the previous transformation,
+         *              not {@code null}
+         * @return {@link Stats} a container with result
+         * @throws TransformException if something is wrong
+         * @see Tracker
+         */
+        public Stats transform(Graph graph, Graph delta) throws TransformException {
+            Objects.requireNonNull(delta, "Null delta");
+            Stats res = new Stats(Graphs.getBase(graph));
+            if (delta.isEmpty()) return res;
+            List<Transform> actions = incrementalActions(graph).collect(Collectors.toList());
+            for (Transform action : actions) {
+                process(action, a -> a.perform(delta), res);
             }
-            skip.add(base);
             return res;
         }
 
+        /**
+         * Starts tracking the changes of the base graph of the given {@code graph}
+         * in order to perform further {@link #transform(Graph, Graph) incremental transformations}.
+         *
+         * @param graph {@link Graph}, not {@code null}
+         * @return {@link Tracker}
+         */
+        public Tracker track(Graph graph) {
+            return new Tracker(this, graph);
+        }
+
+        /**
+         * Performs the given transformation action, recording all the changes into the {@code res} stats object.
+         *
+         * @param action  {@link Transform}
+         * @param perform {@link Consumer} to run the transform
+         * @param res     {@link Stats} to fill
+         * @throws StoreException if something goes wrong
+         */
+        protected void process(Transform action, Consumer<Transform> perform, Stats res) throws StoreException {
+            Graph base = action.getBaseGraph();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("Process <%s> on <%s>", action.name(), Graphs.getName(base)));
+            }
+            GraphEventManager events = base.getEventManager();
+            TransformListener listener = createTrackListener();
+            long start = System.nanoTime();
+            try {
+                events.register(listener);
+                perform.accept(action);
+            } catch (JenaException e) {
+                throw new StoreException(action, e);
+            } finally {
+                events.unregister(listener);
+            }
+            res.putTime(action, System.nanoTime() - start);
+            res.putTriples(action,
+                    listener.getAdded(),
+                    listener.getDeleted(),
+                    action.uncertainTriples()
+                            .collect(Collectors.toSet()));
+        }
+
         protected TransformListener createTrackListener() {
             return new TransformListener();
         }
@@ -489,6 +647,7 @@ public abstract class GraphTransformers {
     public static class Stats {
         protected final Graph graph;
         protected Map<Type, Map<String, Set<Triple>>> triples = new EnumMap<>(Type.class);
+        protected Map<String, Long> times = new LinkedHashMap<>();
         protected Set<Stats> sub = new HashSet<>();
 
         protected Stats(Graph graph) {
@@ -506,7 +665,26 @@ public abstract class GraphTransformers {
         }
 
         protected void put(Type type, String name, Set<Triple> triples) {
-            map(type).computeIfAbsent(name, s -> new HashSet<>()).addAll(triples);
+            // no copying: the given sets are already detached from the graph and can be huge
+            map(type).merge(name, triples, (a, b) -> {
+                Set<Triple> res = new HashSet<>(a);
+                res.addAll(b);
+                return res;
+            });
+        }
+
+        protected void putTime(Transform transform, long nanos) {
+            times.merge(transform.name(), nanos, Long::sum);
+        }
+
+        /**
+         * Returns the durations of the transforms performed on the {@link #getGraph() graph},
+         * not including the sub-graphs.
+         *
+         * @return unmodifiable {@code Map} with transform names as keys and times in nanoseconds as values
+         */
+        public Map<String, Long> getTimes() {
+            return Collections.unmodifiableMap(times);
         }
 
         protected void putStats(Stats other) {
@@ -614,6 +792,87 @@ public abstract class GraphTransformers {
         }
     }
 
+    /**
+     * A tracker of the graph changes, that allows to perform the incremental transformations.
+     * It collects all the triples, that are added into the base graph (and not deleted after that),
+     * into a delta graph, which is passed to the {@link Store#transform(Graph, Graph)} method
+     * and then reset on each {@link #transform()} call.
+     * The changes made by the transforms themselves are not tracked.
+     * Note: the delta is kept in memory until the next transformation.
+     *
+     * @see Store#track(Graph)
+     */
+    public static class Tracker extends GraphListenerBase implements AutoCloseable {
+        protected final Store store;
+        protected final Graph graph;
+        protected Graph delta = Factory.createGraphMem();
+
+        protected Tracker(Store store, Graph graph) {
+            this.store = Objects.requireNonNull(store, "Null store");
+            this.graph = Objects.requireNonNull(graph, "Null graph");
+            getEventManager().register(this);
+        }
+
+        protected GraphEventManager getEventManager() {
+            return Graphs.getBase(graph).getEventManager();
+        }
+
+        /**
+         * Returns the triples, which have been added since the last transformation.
+         *
+         * @return {@link Graph}
+         */
+        public Graph getDelta() {
+            return delta;
+        }
+
+        /**
+         * Performs the incremental transformations on the changes since the previous call and resets the delta.
+         *
+         * @return {@link Stats}
+         * @throws TransformException if something is wrong
+         */
+        public Stats transform() throws TransformException {
+            Graph res = delta;
+            delta = Factory.createGraphMem();
+            GraphEventManager events = getEventManager();
+            events.unregister(this);
+            try {
+                return store.transform(graph, res);
+            } finally {
+                events.register(this);
+            }
+        }
+
+        @Override
+        protected void addEvent(Triple t) {
+            delta.add(t);
+        }
+
+        @Override
+        protected void deleteEvent(Triple t) {
+            delta.delete(t);
+        }
+
+        @Override
+        public void notifyAddGraph(Graph g, Graph other) {
+            other.find(Triple.ANY).forEachRemaining(this::addEvent);
+        }
+
+        @Override
+        public void notifyDeleteGraph(Graph g, Graph other) {
+            other.find(Triple.ANY).forEachRemaining(this::deleteEvent);
+        }
+
+        /**
+         * Stops tracking.
+         */
+        @Override
+        public void close() {
+            getEventManager().unregister(this);
+        }
+    }
+
     /**
      * An exception, which can be thrown by {@link Store#transform(Graph, Set)} method.
      * It is a {@link JenaException}.
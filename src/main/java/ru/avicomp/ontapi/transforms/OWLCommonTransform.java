@@ -74,6 +74,11 @@ public class OWLCommonTransform extends Transform {
         return n.getModel().createTypedLiteral(n.asLiteral().getLexicalForm(), NON_NEGATIVE_INTEGER);
     }
 
+    @Override
+    public boolean isIncremental() {
+        return true;
+    }
+
     @Override
     public void perform() {
         fixEntities();
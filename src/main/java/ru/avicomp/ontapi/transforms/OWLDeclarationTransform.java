@@ -17,6 +17,7 @@ package ru.avicomp.ontapi.transforms;
 import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.graph.FrontsTriple;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.*;
 import org.apache.jena.util.iterator.ExtendedIterator;
@@ -92,6 +93,21 @@ public class OWLDeclarationTransform extends Transform {
         }
     }
 
+    @Override
+    public void perform(Graph delta) {
+        try {
+            manifestDeclarator.perform(delta);
+            reasonerDeclarator.perform(delta);
+        } finally {
+            runWithQueryGraph(delta, this::finalActions);
+        }
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return true;
+    }
+
     @Override
     public Stream<Triple> uncertainTriples() {
         return reasonerDeclarator.uncertainTriples();
@@ -180,10 +196,27 @@ public class OWLDeclarationTransform extends Transform {
         private static final List<Resource> SWRL_ARG2_ATOM_TYPES = Stream.of(SWRL.IndividualPropertyAtom,
                 SWRL.DifferentIndividualsAtom, SWRL.SameIndividualAtom).collect(Iter.toUnmodifiableList());
         protected final Set<? extends RDFNode> forbiddenClassCandidates;
+        // the same as forbiddenClassCandidates and builtin classes and datatypes but on the graph level:
+        protected final Set<Node> forbiddenClassNodes;
+        protected final Set<Node> builtinClassNodes;
 
         public ManifestDeclarator(Graph graph) {
             super(graph);
             this.forbiddenClassCandidates = collectForbiddenClassCandidates();
+            this.forbiddenClassNodes = asNodes(forbiddenClassCandidates);
+            this.builtinClassNodes = asNodes(Iter.concat(Iter.create(builtins.classes()),
+                    Iter.create(builtins.datatypes())).toSet());
+        }
+
+        private static Set<Node> asNodes(Set<? extends RDFNode> nodes) {
+            Set<Node> res = new HashSet<>();
+            nodes.forEach(x -> res.add(x.asNode()));
+            return res;
+        }
+
+        @Override
+        public boolean isIncremental() {
+            return true;
         }
 
         @Override
@@ -382,14 +415,48 @@ public class OWLDeclarationTransform extends Transform {
             return res;
         }
 
+        /**
+         * Processes class assertions ({@code a rdf:type C}).
+         * <p>
+         * Since the class assertions can make up the major part of a large graph (e.g. a data dump),
+         * the triples are processed in a single streaming pass at the graph level,
+         * without any intermediate collection of statements:
+         * for a pair of uri resources the missing declarations are derived directly from the triple,
+         * and only them (i.e. the output) are kept in memory until the end of the iteration.
+         * The rare cases with blank nodes, which require a context, are postponed and processed in the usual way.
+         */
         protected void parseClassAssertions() {
             // "a rdf:type C"
-            listStatements(null, RDF.type, null)
-                    .filterKeep(s -> s.getObject().isResource() && !forbiddenClassCandidates.contains(s.getObject()))
-                    .toSet()
+            Graph base = getBaseGraph();
+            Graph query = getQueryModel().getGraph();
+            Set<Triple> declarations = new HashSet<>();
+            List<Triple> postponed = new ArrayList<>();
+            Node individual = OWL.NamedIndividual.asNode();
+            Node clazz = OWL.Class.asNode();
+            query.find(Node.ANY, RDF.Nodes.type, Node.ANY).forEachRemaining(t -> {
+                Node s = t.getSubject();
+                Node o = t.getObject();
+                if (o.isLiteral() || forbiddenClassNodes.contains(o)) return;
+                if (s.isBlank() || o.isBlank()) {
+                    postponed.add(t);
+                    return;
+                }
+                addIfAbsent(base, declarations, Triple.create(s, RDF.Nodes.type, individual));
+                if (!builtinClassNodes.contains(o)) {
+                    addIfAbsent(base, declarations, Triple.create(o, RDF.Nodes.type, clazz));
+                }
+            });
+            Graph work = getWorkModel().getGraph();
+            declarations.forEach(work::add);
+            postponed.stream().map(getWorkModel()::asStatement)
                     .forEach(s -> declareIndividual(s.getSubject()).declareClass(s.getResource()));
         }
 
+        private static void addIfAbsent(Graph graph, Set<Triple> res, Triple t) {
+            if (graph.contains(t)) return;
+            res.add(t);
+        }
+
         protected void parseSWRL() {
             // first IArg
             processSWRL(SWRL.argument1,
@@ -487,6 +554,10 @@ public class OWLDeclarationTransform extends Transform {
         protected final Map<Statement, Function<Statement, Res>> rerun;
         // result of processing
         protected Set<Statement> unparsed = new HashSet<>();
+        // the worklist: statements to rerun since some of their resources have been (un)declared
+        protected final Set<Statement> queue = new LinkedHashSet<>();
+        // resource node -> ambiguous statements, which depend on the types of that resource
+        protected final Map<Node, List<Statement>> dependents = new HashMap<>();
 
         public ReasonerDeclarator(Graph graph) {
             this(graph, DefaultStrategies.FIRST, 10);
@@ -529,6 +600,8 @@ public class OWLDeclarationTransform extends Transform {
                 unparsed.addAll(parseTail());
             } finally { // possibility to rerun
                 rerun.clear();
+                queue.clear();
+                dependents.clear();
             }
         }
 
@@ -545,31 +618,106 @@ public class OWLDeclarationTransform extends Transform {
             parseSubProperties();
         }
 
+        /**
+         * Processes the ambiguous statements collected in the {@link #rerun} map until there are no more changes.
+         * <p>
+         * This is a dependency-driven propagation:
+         * each ambiguous statement is indexed by the resources whose types its test-function inspects
+         * (see {@link #dependencies(Statement)}),
+         * and when one of these resources gets (un)declared,
+         * only the statements waiting on that resource are re-evaluated.
+         * When nothing else can be inferred, the {@link Strategy decider} is switched to the next one
+         * and all remaining statements are rerun once more.
+         * The {@link #maxRerunCount} limits the number of such full passes.
+         *
+         * @return Set of {@link Statement}s that can not be parsed
+         */
         protected Set<Statement> parseTail() {
-            Map<Statement, Function<Statement, Res>> prev = new LinkedHashMap<>(rerun);
-            Map<Statement, Function<Statement, Res>> next = new LinkedHashMap<>();
+            rerun.keySet().forEach(s -> dependencies(s).forEachRemaining(n -> dependents
+                    .computeIfAbsent(n, x -> new ArrayList<>()).add(s)));
+            queue.addAll(rerun.keySet());
             int count = 0;
-            while (count++ < maxRerunCount) {
-                for (Statement s : prev.keySet()) {
-                    Function<Statement, Res> func = prev.get(s);
-                    if (Res.UNKNOWN == func.apply(s)) {
-                        next.put(s, prev.get(s));
+            while (true) {
+                Iterator<Statement> it;
+                while ((it = queue.iterator()).hasNext()) {
+                    Statement s = it.next();
+                    it.remove();
+                    Function<Statement, Res> func = rerun.get(s);
+                    if (func != null && Res.UNKNOWN != func.apply(s)) {
+                        rerun.remove(s);
                     }
                 }
-                if (next.isEmpty()) {
+                if (rerun.isEmpty()) {
                     return Collections.emptySet();
                 }
-                if (next.size() == prev.size()) {
-                    decider = decider.next();
-                }
-                if (decider == null) {
+                if (++count >= maxRerunCount || (decider = decider.next()) == null) {
                     break;
                 }
-                prev = next;
-                next = new LinkedHashMap<>();
+                queue.addAll(rerun.keySet());
             }
-            LOGGER.warn("Ambiguous statements {}", next.keySet());
-            return next.keySet();
+            Set<Statement> res = new LinkedHashSet<>(rerun.keySet());
+            LOGGER.warn("Ambiguous statements {}", res);
+            return res;
+        }
+
+        /**
+         * Lists all nodes whose declarations may affect the result of processing the given statement:
+         * its subject, predicate and object,
+         * the {@code owl:onProperty} of a restriction, and the members of {@code rdf:List}s
+         * (for {@code owl:unionOf}, {@code owl:intersectionOf} and {@code owl:members} constructions).
+         * All other facts used while processing do not depend on the declarations.
+         *
+         * @param s {@link Statement}
+         * @return {@link ExtendedIterator} of {@link Node}s
+         */
+        protected ExtendedIterator<Node> dependencies(Statement s) {
+            Resource subject = s.getSubject();
+            RDFNode object = s.getObject();
+            ExtendedIterator<RDFNode> res = Iter.of(subject, s.getPredicate(), object);
+            if (object.isAnon() && object.canAs(RDFList.class)) {
+                res = res.andThen(object.as(RDFList.class).iterator());
+            }
+            if (subject.isAnon()) {
+                res = res.andThen(subject.listProperties(OWL.onProperty).mapWith(Statement::getObject))
+                        .andThen(members(subject, OWL.members, RDFNode.class));
+            }
+            return res.mapWith(RDFNode::asNode);
+        }
+
+        /**
+         * Puts all ambiguous statements that depend on the given resource back to the worklist.
+         *
+         * @param resource {@link Resource}, whose declarations have been changed
+         */
+        protected void changed(Resource resource) {
+            List<Statement> res = dependents.get(resource.asNode());
+            if (res == null) return;
+            res.stream().filter(rerun::containsKey).forEach(queue::add);
+        }
+
+        @Override
+        protected ReasonerDeclarator declare(Resource subject, Resource type) {
+            if (hasType(subject, type)) {
+                return this;
+            }
+            super.declare(subject, type);
+            changed(subject);
+            return this;
+        }
+
+        @Override
+        protected ReasonerDeclarator undeclare(Resource subject, Resource type) {
+            if (!hasType(subject, type)) {
+                return this;
+            }
+            super.undeclare(subject, type);
+            changed(subject);
+            return this;
+        }
+
+        @Override
+        public boolean isIncremental() {
+            return true;
         }
 
         @Override
@@ -701,7 +849,8 @@ public class OWLDeclarationTransform extends Transform {
 
                 @Override
                 protected void parsePropertyAssertions() {
-                    listStatements(null, null, null)
+                    // use the query model of the outer declarator, it may be a delta
+                    self.listStatements(null, null, null)
                             .filterDrop(s -> builtins.reservedProperties().contains(s.getPredicate()))
                             .forEachRemaining(this::parse);
                 }
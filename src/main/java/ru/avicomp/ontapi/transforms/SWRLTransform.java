@@ -44,6 +44,11 @@ public class SWRLTransform extends Transform {
         super(graph, BuiltIn.get());
     }
 
+    @Override
+    public boolean isIncremental() {
+        return true;
+    }
+
     @Override
     public void perform() throws TransformException {
         fixAtomLists();
@@ -48,7 +48,7 @@ public abstract class Transform {
     protected final Graph graph;
     protected final BuiltIn.Vocabulary builtins;
 
-    protected final Model queryModel;
+    protected Model queryModel;
     protected final Model workModel;
 
     /**
@@ -104,6 +104,54 @@ public abstract class Transform {
      */
     public abstract void perform() throws TransformException;
 
+    /**
+     * Performs the transformation in the incremental mode,
+     * i.e. taking into account only the specified {@code delta}, which contains the triples
+     * that have been added to the graph since the previous transformation.
+     * While processing, the delta graph is used as the {@link #getQueryModel() query model} to find candidates,
+     * and the whole graph is still available through the {@link #getWorkModel() working model} to check a context.
+     * The decisions made for other (previously processed) triples are not revised.
+     *
+     * @param delta {@link Graph} with the changes, not {@code null}
+     * @throws TransformException if the incremental mode is not supported or something wrong during operation
+     * @see #isIncremental()
+     */
+    public void perform(Graph delta) throws TransformException {
+        if (!isIncremental()) {
+            throw new TransformException(name() + " does not support the incremental mode.");
+        }
+        runWithQueryGraph(delta, this::perform);
+    }
+
+    /**
+     * Answers {@code true} if this transform supports the incremental mode (see {@link #perform(Graph)}).
+     * This is possible if the transform finds all its candidates using only the {@link #getQueryModel() query model},
+     * and looks at the neighborhood of a candidate through the {@link #getWorkModel() working model}.
+     * A transform, that makes decisions based on the whole graph
+     * (e.g. if it checks whether the graph is RDFS or OWL), must return {@code false}.
+     *
+     * @return boolean, {@code false} by default
+     */
+    public boolean isIncremental() {
+        return false;
+    }
+
+    /**
+     * Performs the given action using the specified graph as the source for the {@link #getQueryModel() query model}.
+     *
+     * @param query  {@link Graph}, not {@code null}
+     * @param action {@link Runnable} to run
+     */
+    protected void runWithQueryGraph(Graph query, Runnable action) {
+        Model prev = queryModel;
+        queryModel = createModel(Objects.requireNonNull(query, "Null query graph."));
+        try {
+            action.run();
+        } finally {
+            queryModel = prev;
+        }
+    }
+
     /**
      * Decides whether the transformation needed or not.
      *
@@ -22,6 +22,7 @@ import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.semanticweb.owlapi.vocab.OWLFacet;
 import ru.avicomp.ontapi.DataFactory;
+import ru.avicomp.ontapi.InterningDataFactoryImpl;
 import ru.avicomp.ontapi.OntManagers;
 import ru.avicomp.ontapi.owlapi.OWL2DatatypeImpl;
 import ru.avicomp.ontapi.owlapi.OWLObjectImpl;
@@ -29,6 +30,8 @@ import ru.avicomp.ontapi.owlapi.OWLObjectImpl;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Test for {@link DataFactory ONT-API Data Factory} functionality.
@@ -42,6 +45,7 @@ import java.util.List;
 public class DataFactoryTest {
     private static final OWLDataFactory OWL_DATA_FACTORY = OntManagers.createOWLProfile().dataFactory();
     private static final DataFactory ONT_DATA_FACTORY = OntManagers.getDataFactory();
+    private static final DataFactory INTERNING_DATA_FACTORY = new InterningDataFactoryImpl();
 
     private final Data data;
 
@@ -65,6 +69,31 @@ public class DataFactoryTest {
         data.testAssert(ont1, ont2);
     }
 
+    @Test
+    public void testInterningDataFactoryMethod() {
+        OWLObject ont1 = data.create(INTERNING_DATA_FACTORY);
+        OWLObject ont2 = data.create(INTERNING_DATA_FACTORY);
+        if (!ont1.equals(ont2)) { // e.g. fresh anonymous individuals
+            return;
+        }
+        if (data.shouldBeSame()) {
+            Assert.assertSame(ont1, ont2);
+            return;
+        }
+        if (isInterned(ont1)) {
+            Assert.assertSame(ont1, ont2);
+        } else {
+            Assert.assertNotSame(ont1, ont2);
+        }
+        data.testAssert(data.create(ONT_DATA_FACTORY), ont1);
+    }
+
+    private static boolean isInterned(OWLObject o) {
+        return o instanceof OWLEntity || o instanceof OWLClassExpression || o instanceof OWLDataRange
+                || o instanceof OWLPropertyExpression || o instanceof OWLFacetRestriction
+                || o instanceof OWLLiteral || o instanceof OWLAnnotation;
+    }
+
     interface Data {
         OWLObject create(OWLDataFactory df);
 
@@ -81,6 +110,30 @@ public class DataFactoryTest {
             Assert.assertEquals(expected.hashCode(), actual.hashCode());
             Assert.assertEquals(expected, actual);
             Assert.assertEquals(expected.toString(), actual.toString());
+            assertSignatures(expected, actual);
+        }
+
+        default void assertSignatures(OWLObject expected, OWLObject actual) {
+            // twice to test the memoized signature:
+            for (int i = 0; i < 2; i++) {
+                Assert.assertEquals(toList(expected.signature()), toList(actual.signature()));
+                Assert.assertEquals(toList(expected.classesInSignature()), toList(actual.classesInSignature()));
+                Assert.assertEquals(toList(expected.datatypesInSignature()), toList(actual.datatypesInSignature()));
+                Assert.assertEquals(toList(expected.individualsInSignature()), toList(actual.individualsInSignature()));
+                Assert.assertEquals(toList(expected.objectPropertiesInSignature()),
+                        toList(actual.objectPropertiesInSignature()));
+                Assert.assertEquals(toList(expected.dataPropertiesInSignature()),
+                        toList(actual.dataPropertiesInSignature()));
+                Assert.assertEquals(toList(expected.annotationPropertiesInSignature()),
+                        toList(actual.annotationPropertiesInSignature()));
+                Assert.assertEquals(expected.anonymousIndividuals().count(), actual.anonymousIndividuals().count());
+                expected.signature().forEach(e -> Assert.assertTrue(actual.containsEntityInSignature(e)));
+                Assert.assertFalse(actual.containsEntityInSignature(ONT_DATA_FACTORY.getOWLClass("http://x#Missed")));
+            }
+        }
+
+        static <X> List<X> toList(Stream<X> stream) {
+            return stream.collect(Collectors.toList());
         }
 
         default void testAssert(OWLObject expected, OWLObject actual) {
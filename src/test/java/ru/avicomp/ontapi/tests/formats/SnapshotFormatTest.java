@@ -0,0 +1,169 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.tests.formats;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.io.IRIDocumentSource;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.avicomp.ontapi.*;
+import ru.avicomp.ontapi.jena.OntModelFactory;
+import ru.avicomp.ontapi.jena.utils.SnapshotRDF;
+import ru.avicomp.ontapi.jena.vocabulary.OWL;
+import ru.avicomp.ontapi.jena.vocabulary.RDF;
+import ru.avicomp.ontapi.jena.vocabulary.XSD;
+import ru.avicomp.ontapi.transforms.GraphTransformers;
+import ru.avicomp.ontapi.transforms.Transform;
+import ru.avicomp.ontapi.utils.ReadWriteUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link OntFormat#ONT_SNAPSHOT} and {@link SnapshotRDF}.
+ */
+public class SnapshotFormatTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotFormatTest.class);
+
+    private static byte[] toBytes(Graph g) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RDFDataMgr.write(out, g, SnapshotRDF.LANG);
+        return out.toByteArray();
+    }
+
+    private static Graph fromBytes(byte[] bytes) {
+        Graph res = OntModelFactory.createDefaultGraph();
+        RDFDataMgr.read(res, new ByteArrayInputStream(bytes), SnapshotRDF.LANG);
+        return res;
+    }
+
+    @Test
+    public void testRegistration() {
+        Assert.assertSame(SnapshotRDF.LANG, RDFLanguages.filenameToLang("x.osnap"));
+        Assert.assertSame(OntFormat.ONT_SNAPSHOT, OntFormat.get(SnapshotRDF.LANG));
+        Assert.assertTrue(OntFormat.ONT_SNAPSHOT.isSupported());
+        Assert.assertTrue(OntFormat.ONT_SNAPSHOT.isJenaOnly());
+    }
+
+    @Test
+    public void testGraphRoundTrip() {
+        Model m = ModelFactory.createDefaultModel().setNsPrefixes(OntModelFactory.STANDARD).setNsPrefix("x", "http://x#");
+        Resource a = m.createResource("http://x#A", OWL.Class);
+        Resource b = m.createResource().addProperty(RDF.type, OWL.Class);
+        char[] chars = new char[70_000];
+        Arrays.fill(chars, 'ж');
+        a.addProperty(RDFS.comment, "simple")
+                .addProperty(RDFS.comment, "по-русски", "ru")
+                .addProperty(RDFS.comment, new String(chars))
+                .addProperty(RDFS.comment, "")
+                .addLiteral(RDFS.comment, 42)
+                .addProperty(RDFS.seeAlso, m.createTypedLiteral("wrong int", XSD.integer.getURI()))
+                .addProperty(RDFS.seeAlso, m.createTypedLiteral("x", "http://x#custom"))
+                .addProperty(RDFS.subClassOf, b)
+                .addProperty(RDFS.isDefinedBy, m.createResource("urn:x"))
+                .addProperty(RDFS.isDefinedBy, m.createResource("http://x/"));
+        b.addProperty(OWL.unionOf, m.createList(a, m.createResource()));
+        Graph g = m.getGraph();
+
+        byte[] bytes = toBytes(g);
+        LOGGER.debug("Size: {} bytes", bytes.length);
+        Graph res = fromBytes(bytes);
+        Assert.assertTrue(res.isIsomorphicWith(g));
+        Assert.assertEquals(g.getPrefixMapping().getNsPrefixMap(), res.getPrefixMapping().getNsPrefixMap());
+        // fresh blank nodes on each read:
+        Graph res2 = fromBytes(bytes);
+        Assert.assertTrue(res2.isIsomorphicWith(g));
+        Assert.assertFalse(res.find(NodeFactory.createURI("http://x#A"), RDFS.subClassOf.asNode(), null)
+                .mapWith(t -> res2.contains(t)).next());
+    }
+
+    @Test
+    public void testBrokenData() {
+        Graph g = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph();
+        byte[] bytes = toBytes(g);
+        try {
+            fromBytes(Arrays.copyOf(bytes, bytes.length / 2));
+            Assert.fail("Possible to read broken data");
+        } catch (RiotException e) {
+            LOGGER.debug("Expected: '{}'", e.getMessage());
+        }
+        try {
+            fromBytes("@prefix x: <http://x#> .".getBytes());
+            Assert.fail("Possible to read turtle");
+        } catch (RiotException e) {
+            LOGGER.debug("Expected: '{}'", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSaveLoadOntology() throws OWLOntologyCreationException, OWLOntologyStorageException {
+        IRI iri = IRI.create(ReadWriteUtils.getResourceURI("ontapi/pizza.ttl"));
+        OntologyModel expected = OntManagers.createONT().loadOntology(iri);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        expected.getOWLOntologyManager().saveOntology(expected, OntFormat.ONT_SNAPSHOT.createOwlFormat(), out);
+
+        AtomicInteger count = new AtomicInteger();
+        OntologyManager m = OntManagers.createONT();
+        GraphTransformers.Store store = m.getOntologyConfigurator().getGraphTransformers();
+        m.getOntologyConfigurator().setGraphTransformers(store.add(g -> new Transform(g) {
+            @Override
+            public void perform() {
+                count.incrementAndGet();
+            }
+        }));
+        OntologyModel actual = m.loadOntologyFromOntologyDocument(new StreamDocumentSource(
+                new ByteArrayInputStream(out.toByteArray()), IRI.generateDocumentIRI(),
+                OntFormat.ONT_SNAPSHOT.createOwlFormat(), null));
+        Assert.assertEquals("Transforms must be skipped", 0, count.get());
+        Assert.assertEquals(OntFormat.ONT_SNAPSHOT, OntFormat.get(m.getOntologyFormat(actual)));
+        Assert.assertEquals(expected.getOntologyID(), actual.getOntologyID());
+        Assert.assertTrue(actual.asGraphModel().getBaseGraph().isIsomorphicWith(expected.asGraphModel().getBaseGraph()));
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), actual.axioms().collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testLoadFileWithoutFormat() throws Exception {
+        Graph g = ReadWriteUtils.loadResourceTTLFile("ontapi/family.ttl").getGraph();
+        Path file = Files.createTempFile(getClass().getSimpleName() + ".", "." + OntFormat.ONT_SNAPSHOT.getExt());
+        Files.write(file, toBytes(g));
+        OntologyManager m = OntManagers.createONT();
+        OntologyModel o = m.loadOntologyFromOntologyDocument(new IRIDocumentSource(IRI.create(file.toUri())));
+        Assert.assertEquals(OntFormat.ONT_SNAPSHOT, OntFormat.get(m.getOntologyFormat(o)));
+        Graph res = OntModelFactory.createDefaultGraph();
+        GraphUtil.addInto(res, o.asGraphModel().getBaseGraph());
+        Assert.assertTrue(res.isIsomorphicWith(g));
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package ru.avicomp.ontapi.tests.formats;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.io.OWLOntologyStorageIOException;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.avicomp.ontapi.OntFormat;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyManager;
+import ru.avicomp.ontapi.OntologyManagerImpl;
+import ru.avicomp.ontapi.OntologyModel;
+import ru.avicomp.ontapi.config.OntWriterConfiguration;
+import ru.avicomp.ontapi.jena.OntModelFactory;
+import ru.avicomp.ontapi.jena.utils.StreamingRDF;
+import ru.avicomp.ontapi.utils.ReadWriteUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * To test {@link StreamingRDF} and the streaming save mode of the manager.
+ */
+public class StreamingWriterTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingWriterTest.class);
+
+    private static Graph createGraph(int size) {
+        Graph res = OntModelFactory.createDefaultGraph();
+        res.getPrefixMapping().setNsPrefixes(OntModelFactory.STANDARD).setNsPrefix("x", "http://x#");
+        Node[] blanks = Stream.generate(NodeFactory::createBlankNode).limit(10).toArray(Node[]::new);
+        for (int i = 0; i < size; i++) {
+            Node s = NodeFactory.createURI("http://x#s" + i);
+            res.add(Triple.create(s, NodeFactory.createURI("http://x#p" + i % 7), NodeFactory.createLiteral("v" + i, "en")));
+            if (i % 100 != 0) continue;
+            // each blank node is shared between different partitions:
+            Node b = blanks[i / 100 % blanks.length];
+            res.add(Triple.create(s, NodeFactory.createURI("http://x#q"), b));
+            res.add(Triple.create(b, NodeFactory.createURI("http://x#q"), s));
+        }
+        return res;
+    }
+
+    private static Graph read(byte[] bytes, Lang lang) {
+        Graph res = OntModelFactory.createDefaultGraph();
+        RDFDataMgr.read(res, new ByteArrayInputStream(bytes), lang);
+        return res;
+    }
+
+    @Test
+    public void testGraphRoundTrip() {
+        Graph g = createGraph(StreamingRDF.PARTITION_SIZE + 42);
+        for (Lang lang : new Lang[]{Lang.NTRIPLES, Lang.NQUADS, Lang.RDFTHRIFT, Lang.TURTLE, Lang.TRIG}) {
+            RDFFormat format = StreamingRDF.getFormat(lang);
+            Assert.assertNotNull(format);
+            for (int threads : new int[]{1, 4}) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                StreamingRDF.write(g, out, format, threads);
+                LOGGER.debug("{}, threads={}: {} bytes", lang, threads, out.size());
+                Graph res = read(out.toByteArray(), lang);
+                Assert.assertTrue("Wrong graph for " + lang + ", threads=" + threads, res.isIsomorphicWith(g));
+                if (Lang.NTRIPLES.equals(lang) || Lang.NQUADS.equals(lang)) continue;
+                Assert.assertEquals(g.getPrefixMapping().getNsPrefixMap(), res.getPrefixMapping().getNsPrefixMap());
+            }
+        }
+        Assert.assertNull(StreamingRDF.getFormat(Lang.RDFXML));
+        Assert.assertFalse(StreamingRDF.canWriteInParallel(RDFFormat.TURTLE_BLOCKS));
+    }
+
+    @Test
+    public void testSaveLoadOntology() throws OWLOntologyCreationException, OWLOntologyStorageException {
+        IRI iri = IRI.create(ReadWriteUtils.getResourceURI("ontapi/family.ttl"));
+        OntologyManager m = OntManagers.createONT();
+        m.getOntologyConfigurator().setUseStreamWriters(true).setWriteParallelism(3);
+        OntWriterConfiguration conf = m.getOntologyWriterConfiguration();
+        Assert.assertTrue(conf.isUseStreamWriters());
+        Assert.assertEquals(3, conf.getWriteParallelism());
+        OntologyModel expected = m.loadOntology(iri);
+
+        OntologyManager pretty = OntManagers.createONT();
+        Assert.assertFalse(pretty.getOntologyWriterConfiguration().isUseStreamWriters());
+        pretty.loadOntology(iri);
+
+        for (OntFormat format : new OntFormat[]{OntFormat.NTRIPLES, OntFormat.TURTLE, OntFormat.RDF_THRIFT}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            m.saveOntology(expected, format.createOwlFormat(), out);
+            ByteArrayOutputStream prettyOut = new ByteArrayOutputStream();
+            pretty.saveOntology(pretty.getOntology(expected.getOntologyID()), format.createOwlFormat(), prettyOut);
+            LOGGER.debug("{}: streaming {} bytes, pretty {} bytes", format, out.size(), prettyOut.size());
+            if (format == OntFormat.TURTLE) {
+                Assert.assertNotEquals(prettyOut.toString(), out.toString());
+            }
+
+            OntologyModel actual = OntManagers.createONT().loadOntologyFromOntologyDocument(new StreamDocumentSource(
+                    new ByteArrayInputStream(out.toByteArray()), IRI.generateDocumentIRI(), format.createOwlFormat(), null));
+            Assert.assertEquals(expected.getOntologyID(), actual.getOntologyID());
+            Assert.assertTrue(actual.asGraphModel().getBaseGraph().isIsomorphicWith(expected.asGraphModel().getBaseGraph()));
+            Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), actual.axioms().collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void testSaveGzip() throws Exception {
+        IRI iri = IRI.create(ReadWriteUtils.getResourceURI("ontapi/pizza.ttl"));
+        OntologyManager m = OntManagers.createONT();
+        OntologyModel o = m.loadOntology(iri);
+        Graph expected = o.asGraphModel().getBaseGraph();
+        Path dir = Files.createTempDirectory(getClass().getSimpleName() + ".");
+        for (boolean stream : new boolean[]{false, true}) {
+            m.getOntologyConfigurator().setUseStreamWriters(stream);
+            Path file = dir.resolve("pizza-" + stream + ".nt.gz");
+            m.saveOntology(o, OntFormat.NTRIPLES.createOwlFormat(), IRI.create(file.toUri()));
+            Graph actual = OntModelFactory.createDefaultGraph();
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+                RDFDataMgr.read(actual, in, Lang.NTRIPLES);
+            }
+            Assert.assertTrue(actual.isIsomorphicWith(expected));
+        }
+    }
+
+    @Test
+    public void testSaveFailsOnClose() throws Exception {
+        IRI iri = IRI.create(ReadWriteUtils.getResourceURI("ontapi/pizza.ttl"));
+        OntManagers.ONTAPIProfile profile = OntManagers.DEFAULT_PROFILE;
+        OntologyManager m = new OntologyManagerImpl(profile.dataFactory(),
+                profile.createOntologyFactory(profile.createOntologyBuilder()), null) {
+            @Override
+            protected OutputStream openStream(IRI iri) throws IOException {
+                return new FilterOutputStream(super.openStream(iri)) {
+                    @Override
+                    public void close() throws IOException {
+                        super.close();
+                        throw new IOException("Can't write the last block");
+                    }
+                };
+            }
+        };
+        OntologyModel o = m.loadOntology(iri);
+        Path dir = Files.createTempDirectory(getClass().getSimpleName() + ".");
+        for (boolean stream : new boolean[]{false, true}) {
+            m.getOntologyConfigurator().setUseStreamWriters(stream);
+            Path file = dir.resolve("pizza-" + stream + ".nt.gz");
+            try {
+                m.saveOntology(o, OntFormat.NTRIPLES.createOwlFormat(), IRI.create(file.toUri()));
+                Assert.fail("Possible to save with a broken stream");
+            } catch (OWLOntologyStorageIOException e) {
+                LOGGER.debug("Expected: '{}'", e.getMessage());
+                Assert.assertEquals("Can't write the last block", e.getCause().getMessage());
+            }
+        }
+    }
+}
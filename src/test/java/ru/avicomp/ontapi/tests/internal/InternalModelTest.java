@@ -15,6 +15,7 @@
 package ru.avicomp.ontapi.tests.internal;
 
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
@@ -29,14 +30,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.OntFormat;
 import ru.avicomp.ontapi.OntManagers;
-import ru.avicomp.ontapi.internal.AxiomParserProvider;
-import ru.avicomp.ontapi.internal.InternalModel;
-import ru.avicomp.ontapi.internal.InternalModelHolder;
-import ru.avicomp.ontapi.internal.ONTObject;
+import ru.avicomp.ontapi.OntologyManager;
+import ru.avicomp.ontapi.OntologyModel;
+import ru.avicomp.ontapi.OwlObjects;
+import ru.avicomp.ontapi.internal.*;
 import ru.avicomp.ontapi.jena.OntModelFactory;
+import ru.avicomp.ontapi.jena.impl.OntListImpl;
 import ru.avicomp.ontapi.jena.impl.conf.OntModelConfig;
 import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
+import ru.avicomp.ontapi.jena.model.OntCE;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.model.OntObject;
+import ru.avicomp.ontapi.jena.model.OntStatement;
+import ru.avicomp.ontapi.jena.utils.Models;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
 import ru.avicomp.ontapi.transforms.GraphTransformers;
@@ -44,9 +50,9 @@ import ru.avicomp.ontapi.utils.ReadWriteUtils;
 import ru.avicomp.ontapi.utils.TestUtils;
 
 import java.net.URI;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -178,6 +184,264 @@ public class InternalModelTest {
         testEntities("ontapi/goodrelations.rdf", OntFormat.RDF_XML);
     }
 
+    @Test
+    public void testSinglePassAxiomsReading() {
+        testSinglePassAxiomsReading("ontapi/pizza.ttl", OntFormat.TURTLE);
+        testSinglePassAxiomsReading("ontapi/foaf.rdf", OntFormat.RDF_XML);
+        testSinglePassAxiomsReading("ontapi/goodrelations.rdf", OntFormat.RDF_XML);
+        testSinglePassAxiomsReading("ontapi/family.ttl", OntFormat.TURTLE);
+        testSinglePassAxiomsReading("ontapi/swrl.owl.rdf", OntFormat.RDF_XML);
+    }
+
+    private void testSinglePassAxiomsReading(String file, OntFormat format) {
+        InternalModel m = loadInternalModel(file, format);
+        InternalConfig conf = InternalConfig.DEFAULT;
+        for (AxiomType<?> type : AxiomType.AXIOM_TYPES) {
+            AxiomTranslator<?> t = AxiomParserProvider.get(type);
+            Predicate<OntStatement> filter = t.statementFilter(m, conf);
+            if (filter == null) continue;
+            Set<OntStatement> expected = t.listStatements(m, conf).toSet();
+            Set<OntStatement> actual = Models.listStatements(m, null, null, null).filterKeep(filter).toSet();
+            Assert.assertEquals(file + ": wrong statements for " + type, expected, actual);
+        }
+        // each type separately:
+        Set<OWLAxiom> expected = AxiomType.AXIOM_TYPES.stream()
+                .flatMap(x -> m.listOWLAxioms(x)).collect(Collectors.toSet());
+        m.clearCache();
+        // all types at once:
+        Set<OWLAxiom> actual = m.listOWLAxioms().collect(Collectors.toSet());
+        LOGGER.debug("{}: {} axioms", file, actual.size());
+        Assert.assertEquals(file, expected, actual);
+    }
+
+    @Test
+    public void testSearchModelNodeTypes() {
+        for (OntPersonality p : Arrays.asList(OntModelConfig.ONT_PERSONALITY_LAX,
+                OntModelConfig.ONT_PERSONALITY_MEDIUM, OntModelConfig.ONT_PERSONALITY_STRICT)) {
+            testSearchModelNodeTypes("ontapi/pizza.ttl", OntFormat.TURTLE, p);
+            testSearchModelNodeTypes("ontapi/family.ttl", OntFormat.TURTLE, p);
+            testSearchModelNodeTypes("ontapi/swrl.owl.rdf", OntFormat.RDF_XML, p);
+            testSearchModelNodeTypes("ontapi/test-annotations-2.ttl", OntFormat.TURTLE, p);
+        }
+    }
+
+    private static void testSearchModelNodeTypes(String file, OntFormat format, OntPersonality personality) {
+        Graph g = ReadWriteUtils.loadResourceAsModel(file, format).getGraph();
+        g.add(Triple.create(OWL.Thing.asNode(), RDF.Nodes.type, RDFS.Datatype.asNode()));
+        g.add(Triple.create(RDFS.comment.asNode(), RDF.Nodes.type, OWL.ObjectProperty.asNode()));
+        SearchModel m = new SearchModel(g, personality, InternalConfig.DEFAULT);
+        OntPersonality cached = m.getOntPersonality();
+        Set<Node> nodes = new HashSet<>();
+        g.find().forEachRemaining(t -> Stream.of(t.getSubject(), t.getPredicate(), t.getObject())
+                .filter(x -> !x.isLiteral()).forEach(nodes::add));
+        List<Class<? extends OntObject>> types = personality.types(OntObject.class).collect(Collectors.toList());
+        // twice: the first pass fills the table, the second reads it
+        for (int i = 0; i < 2; i++) {
+            nodes.forEach(n -> types.forEach(t -> Assert.assertEquals("Wrong answer for " + n + " as " + t.getSimpleName(),
+                    personality.getObjectFactory(t).canWrap(n, m), cached.getObjectFactory(t).canWrap(n, m))));
+        }
+    }
+
+    @Test
+    public void testSignatureIndex() {
+        testSignatureIndex("ontapi/pizza.ttl", OntFormat.TURTLE);
+        testSignatureIndex("ontapi/family.ttl", OntFormat.TURTLE);
+        testSignatureIndex("ontapi/swrl.owl.rdf", OntFormat.RDF_XML);
+        testSignatureIndex("ontapi/test-annotations-2.ttl", OntFormat.TURTLE);
+    }
+
+    private void testSignatureIndex(String file, OntFormat format) {
+        InternalModel m = loadInternalModel(file, format);
+        OWLDataFactory df = OntManagers.getDataFactory();
+        Set<OWLEntity> expected = new HashSet<>();
+        Stream.concat(m.listOWLAxioms(), m.listOWLAnnotations().map(OWLObject.class::cast))
+                .forEach(x -> OwlObjects.objects(OWLEntity.class, (HasComponents & HasAnnotations) x)
+                        .forEach(expected::add));
+        Set<OWLEntity> entities = new HashSet<>(expected);
+        m.getBaseGraph().find().forEachRemaining(t -> Stream.of(t.getSubject(), t.getPredicate(), t.getObject())
+                .filter(Node::isURI).map(n -> IRI.create(n.getURI()))
+                .forEach(i -> EntityType.values().forEach(e -> entities.add(df.getOWLEntity(e, i)))));
+        entities.add(df.getOWLClass(IRI.create("http://test.com#Unknown")));
+        entities.add(df.getOWLThing());
+        entities.add(df.getRDFPlainLiteral());
+        for (OWLEntity e : entities) {
+            // answer on the cold model, so that the graph is used where possible:
+            m.clearCache();
+            Assert.assertEquals("Wrong answer for " + e, expected.contains(e), m.containsOWLEntity(e));
+        }
+        // and on the loaded signature cache:
+        entities.forEach(e -> Assert.assertEquals("Wrong answer for " + e, expected.contains(e), m.containsOWLEntity(e)));
+        Assert.assertEquals(expected, Stream.of(m.listOWLClasses(), m.listOWLDatatypes(), m.listOWLNamedIndividuals(),
+                m.listOWLObjectProperties(), m.listOWLDataProperties(), m.listOWLAnnotationProperties())
+                .flatMap(Function.identity()).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testSignatureIndexWithImports() {
+        OntGraphModel a = OntModelFactory.createModel().setID("http://a").getModel();
+        a.createOntClass("http://a#X");
+        a.createOntClass("http://a#Y");
+        OntGraphModel b = OntModelFactory.createModel().setID("http://b").getModel().addImport(a);
+        b.createOntClass("http://b#Z").addSubClassOf(a.getOntEntity(ru.avicomp.ontapi.jena.model.OntClass.class, "http://a#Y"));
+
+        OntologyManager manager = OntManagers.createONT();
+        manager.addOntology(a.getBaseGraph());
+        OntologyModel o = manager.addOntology(b.getGraph());
+        OWLDataFactory df = manager.getOWLDataFactory();
+        Map<OWLClass, Boolean> expected = new HashMap<>();
+        expected.put(df.getOWLClass("http://a#X"), false);
+        expected.put(df.getOWLClass("http://a#Y"), true);
+        expected.put(df.getOWLClass("http://b#Z"), true);
+        expected.forEach((c, v) -> {
+            // cold:
+            o.clearCache();
+            Assert.assertEquals("Wrong answer for " + c, v, o.containsClassInSignature(c.getIRI()));
+            Assert.assertEquals("Wrong answer for " + c, v, o.containsEntityInSignature(c));
+        });
+        Set<OWLClass> signature = o.classesInSignature().collect(Collectors.toSet());
+        // warm:
+        expected.forEach((c, v) -> {
+            Assert.assertEquals("Wrong answer for " + c, v, signature.contains(c));
+            Assert.assertEquals("Wrong answer for " + c, v, o.containsClassInSignature(c.getIRI()));
+        });
+    }
+
+    @Test
+    public void testSearchModelListsCache() {
+        Graph g = ReadWriteUtils.loadResourceAsModel("ontapi/pizza.ttl", OntFormat.TURTLE).getGraph();
+        SearchModel m = new SearchModel(g, OntModelConfig.ONT_PERSONALITY_LAX, InternalConfig.DEFAULT);
+        List<Node> heads = g.find(Node.ANY, OWL.intersectionOf.asNode(), Node.ANY)
+                .mapWith(Triple::getObject).toList();
+        Assert.assertFalse(heads.isEmpty());
+        // twice: the first pass fills the cache, the second reads it
+        for (int i = 0; i < 2; i++) {
+            heads.forEach(h -> Assert.assertEquals(new OntListImpl.RDFListCursor(g, h).toList(),
+                    m.listRDFListMembers(h).toList()));
+        }
+
+        OntologyManager manager = OntManagers.createONT();
+        OWLDataFactory df = manager.getOWLDataFactory();
+        OntologyModel o = manager.createOntology();
+        OWLClass a = df.getOWLClass("A");
+        OWLClass b = df.getOWLClass("B");
+        OWLClass c = df.getOWLClass("C");
+        o.add(df.getOWLEquivalentClassesAxiom(c, df.getOWLObjectIntersectionOf(a, b)));
+        o.clearCache();
+        Assert.assertEquals(2, o.axioms(AxiomType.EQUIVALENT_CLASSES)
+                .findFirst().orElseThrow(AssertionError::new).classExpressions().count());
+        // a direct change of the list must be visible
+        o.asGraphModel().ontObjects(OntCE.IntersectionOf.class).findFirst().orElseThrow(AssertionError::new)
+                .getList().add(o.asGraphModel().createOntClass("D"));
+        Assert.assertEquals(3, o.axioms(AxiomType.EQUIVALENT_CLASSES).findFirst()
+                .map(x -> x.classExpressions().filter(e -> !e.isNamed()).findFirst().orElseThrow(AssertionError::new))
+                .orElseThrow(AssertionError::new).asConjunctSet().size());
+    }
+
+    @Test
+    public void testAxiomsIndex() {
+        InternalModel m = loadInternalModel("ontapi/family.ttl", OntFormat.TURTLE);
+        testAxiomsIndex(m);
+
+        OWLDataFactory df = OntManagers.getDataFactory();
+        OWLNamedIndividual i = df.getOWLNamedIndividual(IRI.create("http://test.com#i"));
+        OWLClassAssertionAxiom a = df.getOWLClassAssertionAxiom(df.getOWLClass(IRI.create("http://test.com#C")), i);
+        OWLDataPropertyAssertionAxiom b = df.getOWLDataPropertyAssertionAxiom(
+                df.getOWLDataProperty(IRI.create("http://test.com#p")), i, 42);
+        // through OWL-API interface:
+        m.add(a);
+        m.add(b);
+        Assert.assertEquals(Collections.singletonList(a), m.listOWLAxioms(OWLClassAssertionAxiom.class, i)
+                .collect(Collectors.toList()));
+        Assert.assertEquals(Collections.singletonList(b), m.listOWLAxioms(OWLDataPropertyAssertionAxiom.class, i)
+                .collect(Collectors.toList()));
+        testAxiomsIndex(m);
+        m.remove(a);
+        Assert.assertEquals(0, m.listOWLAxioms(OWLClassAssertionAxiom.class, i).count());
+        Assert.assertEquals(1, m.listOWLAxioms(OWLDataPropertyAssertionAxiom.class, i).count());
+        testAxiomsIndex(m);
+
+        // through jena interface:
+        Resource r = m.createResource(i.getIRI().getIRIString());
+        Resource c = m.createResource("http://test.com#D", OWL.Class);
+        r.addProperty(RDF.type, c);
+        Assert.assertEquals(1, m.listOWLAxioms(OWLClassAssertionAxiom.class, i).count());
+        m.remove(r, RDF.type, c);
+        Assert.assertEquals(0, m.listOWLAxioms(OWLClassAssertionAxiom.class, i).count());
+        testAxiomsIndex(m);
+    }
+
+    @Test
+    public void testReferencesIndex() {
+        InternalModel m = loadInternalModel("ontapi/pizza.ttl", OntFormat.TURTLE);
+        testReferencesIndex(m);
+
+        OWLDataFactory df = OntManagers.getDataFactory();
+        OWLClass c = df.getOWLClass(IRI.create("http://test.com#C"));
+        OWLDatatype d = df.getOWLDatatype(IRI.create("http://test.com#D"));
+        OWLLiteral literal = df.getOWLLiteral("x", d);
+        OWLAxiom a = df.getOWLSubClassOfAxiom(c, df.getOWLDataHasValue(df.getOWLDataProperty(IRI.create("http://test.com#p")), literal));
+        OWLAxiom b = df.getOWLAnnotationAssertionAxiom(c.getIRI(), df.getRDFSComment("comment"));
+        m.add(a);
+        m.add(b);
+        Assert.assertEquals(2, m.listOWLAxioms(c.getIRI()).count());
+        Assert.assertEquals(Collections.singletonList(a), m.listOWLAxioms(c).collect(Collectors.toList()));
+        Assert.assertEquals(Collections.singletonList(a), m.listOWLAxioms(d).collect(Collectors.toList()));
+        Assert.assertEquals(Collections.singletonList(a), m.listOWLAxioms(literal).collect(Collectors.toList()));
+        testReferencesIndex(m);
+
+        m.remove(a);
+        Assert.assertEquals(0, m.listOWLAxioms(c).count());
+        Assert.assertEquals(0, m.listOWLAxioms(literal).count());
+        Assert.assertEquals(Collections.singletonList(b), m.listOWLAxioms(c.getIRI()).collect(Collectors.toList()));
+        testReferencesIndex(m);
+    }
+
+    private static void testReferencesIndex(InternalModel m) {
+        List<OWLAxiom> axioms = m.listOWLAxioms().collect(Collectors.toList());
+        Set<OWLPrimitive> primitives = new HashSet<>();
+        axioms.forEach(a -> {
+            OwlObjects.objects(OWLPrimitive.class, a).forEach(primitives::add);
+            OwlObjects.iris(a).forEach(primitives::add);
+        });
+        Assert.assertFalse(primitives.isEmpty());
+        for (OWLPrimitive p : primitives) {
+            Set<OWLAxiom> expected;
+            if (p instanceof IRI) {
+                expected = axioms.stream().filter(a -> OwlObjects.iris(a).anyMatch(p::equals)).collect(Collectors.toSet());
+            } else if (p instanceof OWLDatatype) {
+                expected = axioms.stream().filter(a -> OwlObjects.objects(OWLDatatype.class, a).anyMatch(p::equals))
+                        .collect(Collectors.toSet());
+            } else {
+                expected = axioms.stream().filter(a -> OwlObjects.objects(OWLPrimitive.class, a).anyMatch(p::equals))
+                        .collect(Collectors.toSet());
+            }
+            List<OWLAxiom> actual = m.listOWLAxioms(p).collect(Collectors.toList());
+            Assert.assertEquals("Wrong references for " + p, expected.size(), actual.size());
+            Assert.assertEquals("Wrong references for " + p, expected, new HashSet<>(actual));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void testAxiomsIndex(InternalModel m) {
+        for (AxiomKey key : AxiomKey.values()) {
+            AxiomTranslator<OWLAxiom> t = (AxiomTranslator<OWLAxiom>) AxiomParserProvider.get(key.getAxiomType());
+            Class<OWLAxiom> type = (Class<OWLAxiom>) key.getAxiomType().getActualClass();
+            Map<OWLObject, Set<OWLAxiom>> expected = new HashMap<>();
+            boolean indexed = true;
+            for (OWLAxiom a : m.listOWLAxioms(type).collect(Collectors.toList())) {
+                Stream<? extends OWLObject> keys = t.keys(a);
+                if (keys == null) {
+                    indexed = false;
+                    break;
+                }
+                keys.forEach(x -> expected.computeIfAbsent(x, k -> new HashSet<>()).add(a));
+            }
+            if (!indexed) continue;
+            expected.forEach((k, v) -> Assert.assertEquals("Wrong index for " + key + ", object " + k,
+                    v, m.listOWLAxioms(type, k).collect(Collectors.toSet())));
+        }
+    }
+
     private static <Axiom extends OWLAxiom> void check(OntGraphModel model, Class<Axiom> view) {
         LOGGER.debug("=========================");
         LOGGER.debug("{}:", view.getSimpleName());
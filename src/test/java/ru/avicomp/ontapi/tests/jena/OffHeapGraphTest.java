@@ -0,0 +1,197 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2019, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.tests.jena;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.*;
+import org.apache.jena.mem.GraphMem;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.semanticweb.owlapi.model.IRI;
+import ru.avicomp.ontapi.*;
+import ru.avicomp.ontapi.jena.OffHeapGraph;
+import ru.avicomp.ontapi.jena.utils.Graphs;
+import ru.avicomp.ontapi.utils.ReadWriteUtils;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * To test {@link OffHeapGraph}.
+ */
+public class OffHeapGraphTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static List<Node> createNodes(Random r, int count) {
+        List<Node> res = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            switch (r.nextInt(5)) {
+                case 0:
+                    res.add(NodeFactory.createBlankNode());
+                    break;
+                case 1:
+                    res.add(NodeFactory.createLiteral("s" + i));
+                    break;
+                case 2:
+                    res.add(NodeFactory.createLiteral("\u0421\u0442\u0440\u043e\u043a\u0430" + i, "ru"));
+                    break;
+                case 3:
+                    res.add(NodeFactory.createLiteral(String.valueOf(i), XSDDatatype.XSDinteger));
+                    break;
+                default:
+                    res.add(NodeFactory.createURI("http://x#u" + i));
+            }
+        }
+        return res;
+    }
+
+    private static void assertSame(Graph expected, Graph actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        Assert.assertEquals(expected.find().toSet(), actual.find().toSet());
+        Assert.assertTrue(expected.isIsomorphicWith(actual));
+    }
+
+    private static void assertFind(Graph expected, Graph actual, Node s, Node p, Node o) {
+        Assert.assertEquals(expected.find(s, p, o).toSet(), actual.find(s, p, o).toSet());
+        Assert.assertEquals(expected.contains(s, p, o), actual.contains(s, p, o));
+    }
+
+    private static void testRandomData(OffHeapGraph actual) {
+        Random r = new Random(42);
+        List<Node> resources = createNodes(r, 500);
+        resources.removeIf(Node::isLiteral);
+        List<Node> objects = createNodes(r, 500);
+        List<Node> predicates = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            predicates.add(NodeFactory.createURI("http://x#p" + i));
+        }
+        Graph expected = new GraphMem();
+        List<Triple> triples = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Triple t = Triple.create(resources.get(r.nextInt(resources.size())),
+                    predicates.get(r.nextInt(predicates.size())), objects.get(r.nextInt(objects.size())));
+            triples.add(t);
+            expected.add(t);
+            actual.add(t);
+        }
+        assertSame(expected, actual);
+        for (int i = 0; i < 100; i++) {
+            Triple t = triples.get(r.nextInt(triples.size()));
+            Node s = r.nextBoolean() ? t.getSubject() : Node.ANY;
+            Node p = r.nextBoolean() ? t.getPredicate() : Node.ANY;
+            Node o = r.nextBoolean() ? t.getObject() : Node.ANY;
+            assertFind(expected, actual, s, p, o);
+        }
+        assertFind(expected, actual, NodeFactory.createURI("http://x#unknown"), Node.ANY, Node.ANY);
+
+        // delete and re-add:
+        for (int i = 0; i < 3000; i++) {
+            Triple t = triples.get(r.nextInt(triples.size()));
+            expected.delete(t);
+            actual.delete(t);
+        }
+        assertSame(expected, actual);
+        for (int i = 0; i < 1000; i++) {
+            Triple t = triples.get(r.nextInt(triples.size()));
+            expected.add(t);
+            actual.add(t);
+        }
+        assertSame(expected, actual);
+        for (int i = 0; i < 100; i++) {
+            Node s = resources.get(r.nextInt(resources.size()));
+            assertFind(expected, actual, s, Node.ANY, Node.ANY);
+            assertFind(expected, actual, Node.ANY, Node.ANY, s);
+        }
+    }
+
+    @Test
+    public void testAddFindDelete() {
+        testRandomData(new OffHeapGraph());
+    }
+
+    @Test
+    public void testMappedFiles() throws Exception {
+        testRandomData(new OffHeapGraph(OffHeapGraph.Allocator.mapped(folder.newFolder().toPath())));
+    }
+
+    @Test
+    public void testIteratorRemoveAndClear() {
+        Graph expected = ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph();
+        OffHeapGraph actual = new OffHeapGraph();
+        expected.find().forEachRemaining(actual::add);
+        assertSame(expected, actual);
+        Assert.assertTrue(actual.offHeapBytes() > 0);
+
+        Node type = NodeFactory.createURI(ru.avicomp.ontapi.jena.vocabulary.RDF.type.getURI());
+        int count = actual.find(Node.ANY, type, Node.ANY).toList().size();
+        ExtendedIterator<Triple> it = actual.find(Node.ANY, type, Node.ANY);
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        Assert.assertEquals(expected.size() - count, actual.size());
+        Assert.assertFalse(actual.contains(Node.ANY, type, Node.ANY));
+
+        actual.clear();
+        Assert.assertTrue(actual.isEmpty());
+        Assert.assertEquals(0, actual.size());
+        expected.find().forEachRemaining(actual::add);
+        assertSame(expected, actual);
+    }
+
+    @Test
+    public void testAddWhileIterating() {
+        Graph g = new OffHeapGraph();
+        Node s = NodeFactory.createURI("http://x#s");
+        Node p = NodeFactory.createURI("http://x#p");
+        for (int i = 0; i < 10; i++) {
+            g.add(Triple.create(s, p, NodeFactory.createLiteral("o" + i)));
+        }
+        // the full scan and the subject chain:
+        for (Triple pattern : Arrays.asList(Triple.ANY, Triple.create(s, Node.ANY, Node.ANY))) {
+            Set<Triple> before = g.find(pattern).toSet();
+            Set<Triple> seen = new HashSet<>();
+            ExtendedIterator<Triple> it = g.find(pattern);
+            int i = 0;
+            while (it.hasNext()) {
+                seen.add(it.next());
+                g.add(Triple.create(s, p, NodeFactory.createLiteral(pattern.getSubject() + "-n" + i++)));
+            }
+            Assert.assertEquals(before, seen);
+            Assert.assertEquals(before.size() * 2, g.find(pattern).toList().size());
+        }
+    }
+
+    @Test
+    public void testLoadOntology() throws Exception {
+        OntManagers.ONTAPIProfile profile = new OntManagers.ONTAPIProfile();
+        OntologyManager m = profile.createManager(OntManagers.getDataFactory(),
+                profile.createOntologyFactory(new OntologyBuilderImpl.OffHeap()), NoOpReadWriteLock.NO_OP_RW_LOCK);
+        OntologyModel o = m.loadOntologyFromOntologyDocument(IRI.create(ReadWriteUtils.getResourceURI("ontapi/pizza.ttl")));
+        Assert.assertTrue(Graphs.getBase(o.asGraphModel().getGraph()) instanceof OffHeapGraph);
+        OntologyModel expected = OntManagers.createONT()
+                .loadOntologyFromOntologyDocument(IRI.create(ReadWriteUtils.getResourceURI("ontapi/pizza.ttl")));
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), o.axioms().collect(Collectors.toSet()));
+
+        OntologyModel created = m.createOntology(IRI.create("http://x"));
+        created.add(expected.axioms().collect(Collectors.toList()));
+        Assert.assertEquals(expected.getAxiomCount(), created.getAxiomCount());
+    }
+}
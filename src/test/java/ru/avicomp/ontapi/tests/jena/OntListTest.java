@@ -547,6 +547,43 @@ public class OntListTest {
                 .findFirst().orElseThrow(AssertionError::new).members().count());
     }
 
+    @Test
+    public void testRDFListCursor() {
+        OntGraphModel m = OntModelFactory.createModel(ReadWriteUtils.loadResourceTTLFile("ontapi/pizza.ttl").getGraph());
+        List<RDFList> lists = m.statements(null, OWL.unionOf, null)
+                .map(s -> s.getObject().as(RDFList.class)).collect(Collectors.toList());
+        Assert.assertFalse(lists.isEmpty());
+        lists.forEach(list -> {
+            OntListImpl.RDFListCursor cursor = new OntListImpl.RDFListCursor(m.getGraph(), list.asNode());
+            List<org.apache.jena.graph.Node> actual = new ArrayList<>();
+            while (cursor.hasNext()) {
+                org.apache.jena.graph.Node n = cursor.next();
+                Assert.assertEquals(n, cursor.member());
+                Assert.assertTrue(m.getGraph().contains(cursor.cell(), RDF.first.asNode(), n));
+                actual.add(n);
+            }
+            Assert.assertEquals(list.asJavaList().stream().map(RDFNode::asNode).collect(Collectors.toList()), actual);
+        });
+
+        OntCE.UnionOf ce = m.ontObjects(OntCE.UnionOf.class).findFirst().orElseThrow(AssertionError::new);
+        Assert.assertEquals(ce.getList().members().map(RDFNode::asNode).collect(Collectors.toList()),
+                ((OntListImpl<?>) ce.getList()).listMemberNodes().toList());
+        Assert.assertFalse(new OntListImpl.RDFListCursor(m.getGraph(), RDF.nil.asNode()).hasNext());
+
+        // broken list: the second cell has no rdf:rest
+        Resource cell = m.createResource().addProperty(RDF.first, OWL.Nothing);
+        Resource head = m.createResource().addProperty(RDF.first, OWL.Thing).addProperty(RDF.rest, cell);
+        Iterator<org.apache.jena.graph.Node> it = new OntListImpl.RDFListCursor(m.getGraph(), head.asNode());
+        Assert.assertEquals(OWL.Thing.asNode(), it.next());
+        Assert.assertTrue(it.hasNext());
+        try {
+            it.next();
+            Assert.fail("Possible to iterate over the broken list");
+        } catch (NoSuchElementException e) {
+            LOGGER.debug("Expected: '{}'", e.getMessage());
+        }
+    }
+
     private static OntStatement getSingleAnnotation(OntList<?> list) {
         return getSingleAnnotation(list.getRoot());
     }
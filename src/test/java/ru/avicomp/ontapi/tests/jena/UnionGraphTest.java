@@ -17,6 +17,7 @@ package ru.avicomp.ontapi.tests.jena;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.jena.graph.Factory;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.mem.GraphMem;
@@ -284,4 +285,52 @@ public class UnionGraphTest {
         Assert.assertTrue(d.dependsOn(a));
         Assert.assertFalse(a.dependsOn(g2));
     }
+
+    @Test
+    public void testFindWithSummaries() {
+        Node p1 = NodeFactory.createURI("p1");
+        Node p2 = NodeFactory.createURI("p2");
+        Node p3 = NodeFactory.createURI("p3");
+        Node s = NodeFactory.createURI("s");
+        Node o = NodeFactory.createBlankNode();
+        Graph g1 = Factory.createGraphMem();
+        Graph g2 = Factory.createGraphMem();
+        Graph g3 = Factory.createGraphMem();
+        g1.add(Triple.create(s, p1, NodeFactory.createLiteral("x")));
+        g2.add(Triple.create(s, p2, o));
+        g3.add(Triple.create(o, p2, s));
+        g3.add(Triple.create(s, p1, NodeFactory.createLiteral("x")));
+        UnionGraph a = new UnionGraph(g1);
+        UnionGraph b = new UnionGraph(g2);
+        a.addGraph(b.addGraph(new UnionGraph(g3)));
+
+        Assert.assertEquals(3, a.find().toList().size());
+        Assert.assertEquals(1, a.find(Node.ANY, p1, Node.ANY).toList().size());
+        Assert.assertEquals(2, a.find(Node.ANY, p2, Node.ANY).toList().size());
+        Assert.assertEquals(1, a.find(s, p2, Node.ANY).toList().size());
+        Assert.assertEquals(1, a.find(Node.ANY, Node.ANY, s).toList().size());
+        Assert.assertFalse(a.contains(Node.ANY, p3, Node.ANY));
+        Assert.assertFalse(a.contains(o, p1, Node.ANY));
+        Assert.assertNotNull(b.getSummary());
+        Assert.assertFalse(b.getSummary().mayContain(Triple.create(Node.ANY, p1, Node.ANY)));
+
+        // changes in the base graphs must be reflected by the summaries:
+        g2.add(Triple.create(o, p3, o));
+        Assert.assertTrue(a.contains(o, p3, o));
+        Assert.assertEquals(1, a.find(Node.ANY, p3, Node.ANY).toList().size());
+        g3.clear();
+        Assert.assertEquals(0, b.find(Node.ANY, p2, s).toList().size());
+        g3.add(Triple.create(o, p1, s));
+        Assert.assertEquals(1, a.find(o, p1, Node.ANY).toList().size());
+        g1.delete(Triple.create(s, p1, NodeFactory.createLiteral("x")));
+        Assert.assertEquals(3, a.find().toList().size());
+
+        // a new sub-graph must be taken into account:
+        Graph g4 = Factory.createGraphMem();
+        g4.add(Triple.create(s, p3, s));
+        b.addGraph(g4);
+        Assert.assertEquals(4, a.find().toList().size());
+        Assert.assertTrue(a.contains(s, p3, s));
+        Assert.assertEquals(2, a.find(Node.ANY, p3, Node.ANY).toList().size());
+    }
 }
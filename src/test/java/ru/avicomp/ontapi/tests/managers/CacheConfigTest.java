@@ -21,6 +21,7 @@ import org.apache.jena.graph.impl.WrappedGraph;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.junit.Assert;
 import org.junit.Test;
+import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,9 +33,13 @@ import ru.avicomp.ontapi.internal.*;
 import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
 import ru.avicomp.ontapi.utils.ReadWriteUtils;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Created by @ssz on 04.03.2019.
@@ -162,11 +167,165 @@ public class CacheConfigTest {
 
     }
 
+    @Test
+    public void testContentTriplesPreloadOption() throws Exception {
+        OntologyManager m = OntManagers.createONT();
+        Assert.assertFalse(Prop.CONTENT_TRIPLES_PRELOAD.getBoolean());
+        Assert.assertFalse(m.getOntologyConfigurator().isContentTriplesPreloadEnabled());
+        OntLoaderConfiguration conf = m.getOntologyLoaderConfiguration().setUseContentTriplesPreload(true);
+        Assert.assertTrue(conf.isContentTriplesPreloadEnabled());
+        m.setOntologyLoaderConfiguration(conf);
+
+        OntologyModel o = m.loadOntologyFromOntologyDocument(ReadWriteUtils.getDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        Assert.assertEquals(945, o.axioms().count());
+        InternalModel base = ((InternalModelHolder) o).getBase();
+        base.getAxioms().values().forEach(x -> Assert.assertTrue(((CacheObjectTriplesMapImpl<?>) x).hasTriplesIndex()));
+
+        OWLAxiom a = o.axioms(AxiomType.SUBCLASS_OF).findFirst().orElseThrow(AssertionError::new);
+        long triples = o.asGraphModel().size();
+        o.remove(a);
+        Assert.assertEquals(944, o.axioms().count());
+        Assert.assertTrue(o.asGraphModel().size() < triples);
+
+        m.setOntologyLoaderConfiguration(conf.setUseContentTriplesPreload(false));
+        Assert.assertEquals(944, o.axioms().count());
+        base.getAxioms().values().forEach(x -> Assert.assertFalse(((CacheObjectTriplesMapImpl<?>) x).hasTriplesIndex()));
+    }
+
+    @Test
+    public void testContentSnapshotOption() throws Exception {
+        OntologyManager m = OntManagers.createConcurrentONT();
+        Assert.assertFalse(Prop.CONTENT_SNAPSHOT.getBoolean());
+        Assert.assertFalse(m.getOntologyConfigurator().isContentSnapshotEnabled());
+        OntLoaderConfiguration conf = m.getOntologyLoaderConfiguration().setUseContentSnapshot(true);
+        Assert.assertTrue(conf.isContentSnapshotEnabled());
+        m.setOntologyLoaderConfiguration(conf);
+
+        OntologyModel o = m.loadOntologyFromOntologyDocument(ReadWriteUtils.getDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        Assert.assertTrue(o instanceof OntologyModelImpl.Concurrent);
+        OntologyModelImpl.Concurrent c = (OntologyModelImpl.Concurrent) o;
+        InternalModel base = c.getBase();
+        // the same graph, but a non-concurrent manager:
+        OntologyModel expected = OntManagers.createONT().addOntology(base.getBaseGraph());
+        Assert.assertEquals(945, o.getAxiomCount());
+        Assert.assertEquals(expected.getLogicalAxiomCount(), o.getLogicalAxiomCount());
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), o.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(expected.logicalAxioms().collect(Collectors.toSet()),
+                o.logicalAxioms().collect(Collectors.toSet()));
+        Assert.assertEquals(expected.annotations().collect(Collectors.toSet()),
+                o.annotations().collect(Collectors.toSet()));
+        Assert.assertFalse(o.isEmpty());
+
+        // the same snapshot while there are no changes:
+        Object snapshot = getContentSnapshot(c);
+        Assert.assertNotNull(snapshot);
+        OWLAxiom a = o.axioms(AxiomType.SUBCLASS_OF).findFirst().orElseThrow(AssertionError::new);
+        Assert.assertTrue(o.containsAxiom(a));
+        Assert.assertEquals(expected.getAxiomCount(AxiomType.SUBCLASS_OF), o.getAxiomCount(AxiomType.SUBCLASS_OF));
+        Assert.assertSame(snapshot, getContentSnapshot(c));
+
+        // a stream obtained before the change is not affected:
+        Stream<OWLAxiom> before = o.axioms();
+        o.remove(a);
+        Assert.assertEquals(945, before.count());
+        Assert.assertFalse(o.containsAxiom(a));
+        Assert.assertEquals(944, o.getAxiomCount());
+        Assert.assertNotSame(snapshot, getContentSnapshot(c));
+
+        o.add(a);
+        Assert.assertTrue(o.containsAxiom(a));
+        Assert.assertEquals(945, o.getAxiomCount());
+
+        // direct graph changes:
+        snapshot = getContentSnapshot(c);
+        o.asGraphModel().createOntClass("http://x#C");
+        Assert.assertEquals(946, o.getAxiomCount());
+        Assert.assertNotSame(snapshot, getContentSnapshot(c));
+
+        // switch off:
+        m.setOntologyLoaderConfiguration(conf.setUseContentSnapshot(false));
+        Assert.assertNull(getContentSnapshot(c));
+        Assert.assertEquals(946, o.getAxiomCount());
+    }
+
+    private static Object getContentSnapshot(OntologyModelImpl.Concurrent o) throws Exception {
+        Method m = OntologyModelImpl.Concurrent.class.getDeclaredMethod("getContentSnapshot");
+        m.setAccessible(true);
+        return m.invoke(o);
+    }
+
+    private static void testParallelAxiomsLoading(String file, OntFormat format) throws Exception {
+        OntologyModel actual = OntManagers.createConcurrentONT()
+                .loadOntologyFromOntologyDocument(ReadWriteUtils.getDocumentSource(file, format));
+        InternalModel base = ((InternalModelHolder) actual).getBase();
+        // the same graph (with the same blank nodes), but a non-concurrent manager:
+        OntologyModel expected = OntManagers.createONT().addOntology(base.getBaseGraph());
+        Assert.assertTrue(base.getConfig().snapshot().parallel());
+        base.getAxioms().values().forEach(x -> Assert.assertFalse(x.isLoaded()));
+
+        Set<OWLAxiom> axioms = actual.axioms().collect(Collectors.toSet());
+        LOGGER.debug("{}: {} axioms", file, axioms.size());
+        base.getAxioms().values().forEach(x -> Assert.assertTrue(x.isLoaded()));
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), axioms);
+    }
+
+    @Test
+    public void testParallelAxiomsLoading() throws Exception {
+        testParallelAxiomsLoading("/ontapi/pizza.ttl", OntFormat.TURTLE);
+        testParallelAxiomsLoading("/ontapi/family.ttl", OntFormat.TURTLE);
+        testParallelAxiomsLoading("/ontapi/goodrelations.rdf", OntFormat.RDF_XML);
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        OntMetrics.Registry metrics = new OntMetrics.Registry("test")
+                .register(server, new ObjectName("ru.avicomp.ontapi:type=Metrics,name=test"));
+        OntologyManager m = OntManagers.createONT();
+        ((OntologyManagerImpl) m).setMetrics(metrics);
+        OntologyModel o = m.loadOntologyFromOntologyDocument(ReadWriteUtils.getDocumentSource("/ontapi/pizza.ttl",
+                OntFormat.TURTLE));
+        Assert.assertEquals(945, o.axioms().count());
+        LOGGER.debug("{}", metrics.getCounters());
+
+        Assert.assertEquals(1, metrics.children().size());
+        OntMetrics.Registry child = metrics.children().iterator().next();
+        Assert.assertEquals("<http://www.co-ode.org/ontologies/pizza/pizza.owl>", child.getName());
+        for (String cache : Arrays.asList(OntMetrics.CACHE_NODES, OntMetrics.CACHE_OBJECTS, OntMetrics.CACHE_IRIS)) {
+            Assert.assertTrue(cache, child.getCounter(cache + OntMetrics.HIT) > 0);
+            Assert.assertTrue(cache, child.getCounter(cache + OntMetrics.MISS) > 0);
+            Assert.assertEquals(cache, child.getCounter(cache + OntMetrics.HIT), metrics.getCounter(cache + OntMetrics.HIT));
+        }
+        Assert.assertTrue(child.getHitRatios().containsKey(OntMetrics.CACHE_NODES));
+        String subClassOf = OntMetrics.translator(AxiomType.SUBCLASS_OF);
+        Assert.assertEquals(o.axioms(AxiomType.SUBCLASS_OF).count(), child.getCounter(subClassOf));
+        Assert.assertTrue(child.getTime(subClassOf) > 0);
+        Assert.assertTrue(child.getCalls().keySet().stream().anyMatch(x -> x.startsWith(OntMetrics.TRANSFORM)));
+
+        ObjectName name = child.getObjectName();
+        Assert.assertNotNull(name);
+        @SuppressWarnings("unchecked")
+        Map<String, Long> counters = (Map<String, Long>) server.getAttribute(name, "Counters");
+        Assert.assertNotNull(counters);
+        Assert.assertTrue(server.isRegistered(name));
+
+        m.removeOntology(o);
+        Assert.assertFalse(server.isRegistered(name));
+        Assert.assertTrue(metrics.children().isEmpty());
+        Assert.assertTrue(metrics.getCounter(subClassOf) > 0);
+        metrics.unregister();
+        Assert.assertTrue(server.queryNames(new ObjectName("ru.avicomp.ontapi:*"), null).isEmpty());
+    }
+
     enum Prop {
         IRI_CACHE_SIZE(OntSettings.ONT_API_MANAGER_CACHE_IRIS.key() + ".integer"),
         NODES_CACHE_SIZE(OntSettings.ONT_API_LOAD_CONF_CACHE_NODES.key() + ".integer"),
         OBJECTS_CACHE_SIZE(OntSettings.ONT_API_LOAD_CONF_CACHE_OBJECTS.key() + ".integer"),
-        CONTENT_CACHE(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT.key() + ".boolean");
+        CONTENT_CACHE(OntSettings.ONT_API_LOAD_CONF_CACHE_CONTENT.key() + ".boolean"),
+        CONTENT_TRIPLES_PRELOAD(OntSettings.ONT_API_LOAD_CONF_CACHE_TRIPLES_PRELOAD.key() + ".boolean"),
+        CONTENT_SNAPSHOT(OntSettings.ONT_API_LOAD_CONF_CACHE_SNAPSHOT.key() + ".boolean");
         private final String key;
 
         Prop(String key) {
@@ -32,6 +32,7 @@ import ru.avicomp.ontapi.config.OntConfig;
 import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.utils.Graphs;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
 import ru.avicomp.ontapi.jena.vocabulary.XSD;
@@ -41,11 +42,15 @@ import ru.avicomp.ontapi.transforms.Transform;
 import ru.avicomp.ontapi.transforms.TransformException;
 import ru.avicomp.ontapi.utils.*;
 
+import javax.annotation.Nonnull;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -445,6 +450,178 @@ public class LoadFactoryManagerTest {
         // todo: it would be nice to validate the result ontologie
     }
 
+    @Test
+    public void testParallelImportsLoading() throws Exception {
+        String ns = "http://test.com/parallel/";
+        int num = 8;
+        Path dir = Files.createTempDirectory(getClass().getSimpleName() + ".");
+        List<OWLOntologyIRIMapper> mappers = new ArrayList<>();
+        for (int i = 0; i < num; i++) {
+            // 0 -> 1, 2, 3 ; 1 -> 2 -> 3 -> ... -> 7 -> 0
+            OntGraphModel o = OntModelFactory.createModel().setNsPrefixes(OntModelFactory.STANDARD);
+            o.setID(ns + i);
+            if (i == 0) {
+                Stream.of(1, 2, 3).forEach(j -> o.getID().addImport(ns + j));
+            } else {
+                o.getID().addImport(ns + ((i + 1) % num));
+            }
+            // no declarations to have some work for transforms:
+            o.createResource(ns + "C" + i).addProperty(RDFS.subClassOf, o.createResource(ns + "C" + (i + 1)));
+            o.createResource(ns + "i" + i, o.createResource(ns + "C" + i));
+            Path file = dir.resolve(i + ".ttl");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                o.write(out, "ttl");
+            }
+            mappers.add(new SimpleIRIMapper(IRI.create(ns + i), IRI.create(file.toUri())));
+        }
+        List<OntologyManager> managers = Arrays.asList(OntManagers.createONT(),
+                OntManagers.createONT(), OntManagers.createConcurrentONT());
+        for (int i = 0; i < managers.size(); i++) {
+            OntologyManager m = managers.get(i);
+            m.getIRIMappers().add(mappers);
+            if (i > 0) {
+                m.getOntologyConfigurator().setLoadImportsParallelism(4);
+            }
+            m.loadOntology(IRI.create(ns + 0));
+        }
+        OntologyManager expected = managers.get(0);
+        for (OntologyManager actual : managers.subList(1, managers.size())) {
+            Assert.assertEquals(4, actual.getOntologyLoaderConfiguration().getLoadImportsParallelism());
+            Assert.assertEquals(num, actual.ontologies().count());
+            for (int i = 0; i < num; i++) {
+                IRI iri = IRI.create(ns + i);
+                OntologyModel e = expected.getOntology(iri);
+                OntologyModel a = actual.getOntology(iri);
+                Assert.assertNotNull(a);
+                Assert.assertEquals(Graphs.importsTreeAsString(e.asGraphModel().getGraph()),
+                        Graphs.importsTreeAsString(a.asGraphModel().getGraph()));
+                Assert.assertEquals(e.axioms().collect(Collectors.toSet()), a.axioms().collect(Collectors.toSet()));
+                Assert.assertEquals(e.asGraphModel().getBaseGraph().size(), a.asGraphModel().getBaseGraph().size());
+                Assert.assertTrue(a.axioms(AxiomType.DECLARATION).count() >= 2);
+            }
+        }
+        // anonymous imports are included into the parent graph:
+        OntologyManager m = OntManagers.createONT();
+        m.getOntologyConfigurator().setLoadImportsParallelism(3);
+        loadLoopedOntologyFamily(m);
+        Assert.assertEquals("Wrong ontologies count.", 3, m.ontologies().count());
+    }
+
+    @Test
+    public void testAsyncLoading() throws Exception {
+        List<String> files = Arrays.asList("ontapi/pizza.ttl", "ontapi/family.ttl", "ontapi/foaf.rdf",
+                "ontapi/goodrelations.rdf", "ontapi/test2.fss", "owlapi/importNoOntology/subject-bob.ttl");
+        IRI[] mapping = {IRI.create("http://www.w3.org/2013/12/FDA-TA/tests/RenalTransplantation/subject-amy"),
+                IRI.create(ReadWriteUtils.getResourceURI("owlapi/importNoOntology/subject-amy.ttl")),
+                IRI.create("http://www.w3.org/2013/12/FDA-TA/tests/RenalTransplantation/subject-sue"),
+                IRI.create(ReadWriteUtils.getResourceURI("owlapi/importNoOntology/subject-sue.ttl")),
+                IRI.create("http://www.w3.org/2013/12/FDA-TA/core"),
+                IRI.create(ReadWriteUtils.getResourceURI("ontapi/core.ttl"))};
+        OntologyManager expected = OntManagers.createONT();
+        OntologyManager actual = OntManagers.createConcurrentONT();
+        for (int i = 0; i < mapping.length; i += 2) {
+            expected.getIRIMappers().add(FileMap.create(mapping[i], mapping[i + 1]));
+            actual.getIRIMappers().add(FileMap.create(mapping[i], mapping[i + 1]));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Map<String, CompletableFuture<OntologyModel>> futures = new LinkedHashMap<>();
+            files.forEach(f -> futures.put(f, actual.loadOntologyFromOntologyDocumentAsync(
+                    new IRIDocumentSource(IRI.create(ReadWriteUtils.getResourceURI(f))),
+                    actual.getOntologyLoaderConfiguration(), executor)));
+            for (String f : files) {
+                OntologyModel e = expected.loadOntologyFromOntologyDocument(IRI.create(ReadWriteUtils.getResourceURI(f)));
+                OntologyModel a = futures.get(f).get(1, TimeUnit.MINUTES);
+                LOGGER.debug("Test <{}>: {}", f, a.getOntologyID());
+                Assert.assertSame(actual, a.getOWLOntologyManager());
+                Assert.assertEquals(e.getOntologyID(), a.getOntologyID());
+                Assert.assertEquals(expected.getOntologyDocumentIRI(e), actual.getOntologyDocumentIRI(a));
+                OWLDocumentFormat ef = expected.getOntologyFormat(e);
+                OWLDocumentFormat af = actual.getOntologyFormat(a);
+                Assert.assertNotNull(af);
+                Assert.assertEquals(ef.getClass(), af.getClass());
+                Assert.assertEquals(ef.getOntologyLoaderMetaData().map(OWLOntologyLoaderMetaData::getTripleCount),
+                        af.getOntologyLoaderMetaData().map(OWLOntologyLoaderMetaData::getTripleCount));
+                Assert.assertEquals(e.asGraphModel().getBaseGraph().size(), a.asGraphModel().getBaseGraph().size());
+                Assert.assertEquals(e.getAxiomCount(), a.getAxiomCount());
+                // blank nodes have different labels in different parsings:
+                Assert.assertEquals(e.axioms().filter(x -> !x.anonymousIndividuals().findFirst().isPresent())
+                                .collect(Collectors.toSet()),
+                        a.axioms().filter(x -> !x.anonymousIndividuals().findFirst().isPresent())
+                                .collect(Collectors.toSet()));
+                Assert.assertEquals(e.imports().count(), a.imports().count());
+            }
+            Assert.assertEquals(expected.ontologies().count(), actual.ontologies().count());
+
+            // wrong []-List: the future must be completed exceptionally
+            CompletableFuture<OntologyModel> wrong = actual.loadOntologyFromOntologyDocumentAsync(
+                    new IRIDocumentSource(IRI.create(ReadWriteUtils.getResourceURI("ontapi/wrong.rdf"))),
+                    actual.getOntologyLoaderConfiguration(), executor);
+            try {
+                wrong.get(1, TimeUnit.MINUTES);
+                Assert.fail("Possible to load wrong ontology");
+            } catch (ExecutionException ex) {
+                LOGGER.debug("Expected: '{}'", ex.getMessage());
+                Assert.assertTrue(ex.getCause() instanceof OntologyFactoryImpl.OWLTransformException);
+            }
+            Assert.assertTrue(wrong.isCompletedExceptionally());
+            Assert.assertEquals(expected.ontologies().count(), actual.ontologies().count());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testAsyncLoadingEvents() throws Exception {
+        OntologyManager m = OntManagers.createConcurrentONT();
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        m.addOntologyLoaderListener(new OWLOntologyLoaderListener() {
+            @Override
+            public void startedLoadingOntology(@Nonnull LoadingStartedEvent event) {
+                events.add("started");
+            }
+
+            @Override
+            public void finishedLoadingOntology(@Nonnull LoadingFinishedEvent event) {
+                events.add(event.isSuccessful() ? "finished" : "failed");
+            }
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            String good = "<urn:a> a <" + OWL.Ontology.getURI() + "> .";
+            m.loadOntologyFromOntologyDocumentAsync(createSource(good, "urn:doc:good", events),
+                    m.getOntologyLoaderConfiguration(), executor).get(1, TimeUnit.MINUTES);
+            LOGGER.debug("Events: {}", events);
+            Assert.assertEquals(Arrays.asList("started", "read", "finished"), events);
+
+            events.clear();
+            CompletableFuture<OntologyModel> wrong = m.loadOntologyFromOntologyDocumentAsync(
+                    createSource("<urn:b> a", "urn:doc:wrong", events),
+                    m.getOntologyLoaderConfiguration(), executor);
+            try {
+                wrong.get(1, TimeUnit.MINUTES);
+                Assert.fail("Possible to load wrong document");
+            } catch (ExecutionException ex) {
+                LOGGER.debug("Expected: '{}'", ex.getMessage());
+            }
+            LOGGER.debug("Events: {}", events);
+            Assert.assertEquals(Arrays.asList("started", "read", "failed"), events);
+            Assert.assertEquals(1, m.ontologies().count());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static OWLOntologyDocumentSource createSource(String turtle, String iri, List<String> events) {
+        return new StringDocumentSource(turtle, IRI.create(iri), OntFormat.TURTLE.createOwlFormat(), null) {
+            @Override
+            public Optional<InputStream> getInputStream() {
+                if (!events.contains("read")) events.add("read");
+                return super.getInputStream();
+            }
+        };
+    }
+
     @Test
     public void testMissedImports() throws OWLOntologyCreationException {
         // create data:
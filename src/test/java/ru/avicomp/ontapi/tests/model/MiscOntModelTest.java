@@ -17,6 +17,7 @@ package ru.avicomp.ontapi.tests.model;
 import org.junit.Assert;
 import org.junit.Test;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import ru.avicomp.ontapi.*;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
 import ru.avicomp.ontapi.jena.model.OntIndividual;
@@ -24,6 +25,12 @@ import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.utils.ReadWriteUtils;
 import ru.avicomp.ontapi.utils.StringInputStreamDocumentSource;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * For testing miscellaneous general model functionality.
  *
@@ -144,4 +151,113 @@ public class MiscOntModelTest extends OntModelTestBase {
         Assert.assertEquals("_:" + ti1.getId().getLabelString(), ti2.toStringID());
         Assert.assertEquals(ni1.toStringID(), "_:" + ni2.getId().getLabelString());
     }
+
+    @Test
+    public void testApplyAxiomChangesInBatch() {
+        testApplyAxiomChangesInBatch(OntManagers.createONT(), OntManagers.createONT());
+        testApplyAxiomChangesInBatch(OntManagers.createConcurrentONT(), OntManagers.createONT());
+    }
+
+    private static void testApplyAxiomChangesInBatch(OntologyManager m1, OntologyManager m2) {
+        DataFactory df = m1.getOWLDataFactory();
+        OntologyModel o1 = m1.createOntology(IRI.create("http://batch"));
+        OntologyModel o2 = m2.createOntology(IRI.create("http://batch"));
+        OWLClass a = df.getOWLClass("A");
+        OWLClass b = df.getOWLClass("B");
+        OWLAxiom declaration = df.getOWLDeclarationAxiom(a);
+        OWLAxiom subClassOf = df.getOWLSubClassOfAxiom(a, b);
+        OWLAxiom disjoint = df.getOWLDisjointClassesAxiom(a, b);
+        OWLAxiom assertion = df.getOWLClassAssertionAxiom(a, df.getOWLNamedIndividual("i"));
+        o1.add(assertion);
+        o2.add(assertion);
+
+        List<OWLAxiom> axioms = Arrays.asList(subClassOf, declaration, disjoint, subClassOf, assertion, disjoint,
+                declaration, assertion, df.getOWLDeclarationAxiom(b));
+        List<Boolean> adds = Arrays.asList(true, true, true, true, true, false, false, false, false);
+        List<OWLOntologyChange> changes1 = new ArrayList<>();
+        List<OWLOntologyChange> changes2 = new ArrayList<>();
+        for (int i = 0; i < axioms.size(); i++) {
+            changes1.add(adds.get(i) ? new AddAxiom(o1, axioms.get(i)) : new RemoveAxiom(o1, axioms.get(i)));
+            changes2.add(adds.get(i) ? new AddAxiom(o2, axioms.get(i)) : new RemoveAxiom(o2, axioms.get(i)));
+        }
+        ChangeDetails res = m1.applyChangesAndGetDetails(changes1);
+        List<OWLOntologyChange> applied = new ArrayList<>();
+        changes2.forEach(c -> {
+            if (m2.applyChange(c) == ChangeApplied.SUCCESSFULLY) applied.add(c);
+        });
+        ReadWriteUtils.print(o1);
+
+        Assert.assertEquals(ChangeApplied.SUCCESSFULLY, res.getChangeEffect());
+        Assert.assertEquals(applied.size(), res.getEnactedChanges().size());
+        Assert.assertEquals(Arrays.asList(subClassOf, declaration, disjoint, disjoint, declaration, assertion),
+                res.getEnactedChanges().stream().map(OWLOntologyChange::getAxiom).collect(Collectors.toList()));
+        Assert.assertEquals(o2.axioms().collect(Collectors.toSet()), o1.axioms().collect(Collectors.toSet()));
+        Assert.assertTrue(o1.asGraphModel().getBaseGraph().isIsomorphicWith(o2.asGraphModel().getBaseGraph()));
+        o1.clearCache();
+        o2.clearCache();
+        Assert.assertEquals(o2.axioms().collect(Collectors.toSet()), o1.axioms().collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testAddSimpleAxiomsAsTriples() {
+        OntologyManager m = OntManagers.createONT();
+        DataFactory df = m.getOWLDataFactory();
+        OWLClass a = df.getOWLClass("A");
+        OWLClass b = df.getOWLClass("B");
+        OWLClass c = df.getOWLClass("C");
+        OWLObjectProperty p = df.getOWLObjectProperty("p");
+        OWLObjectProperty q = df.getOWLObjectProperty("q");
+        OWLDataProperty d = df.getOWLDataProperty("d");
+        OWLAnnotationProperty n = df.getOWLAnnotationProperty("n");
+        OWLNamedIndividual i = df.getOWLNamedIndividual("i");
+        OWLNamedIndividual j = df.getOWLNamedIndividual("j");
+        OWLAnonymousIndividual k = df.getOWLAnonymousIndividual();
+        OWLDatatype dt = df.getOWLDatatype("DT");
+        List<OWLAxiom> axioms = Arrays.asList(df.getOWLDeclarationAxiom(a),
+                df.getOWLDeclarationAxiom(df.getOWLThing()),
+                df.getOWLSubClassOfAxiom(a, b),
+                df.getOWLSubClassOfAxiom(b, df.getOWLThing()),
+                df.getOWLSubClassOfAxiom(c, df.getOWLObjectSomeValuesFrom(p, a)),
+                df.getOWLSubObjectPropertyOfAxiom(p, q),
+                df.getOWLSubObjectPropertyOfAxiom(df.getOWLObjectInverseOf(p), q),
+                df.getOWLSubAnnotationPropertyOfAxiom(n, df.getRDFSLabel()),
+                df.getOWLObjectPropertyDomainAxiom(p, a),
+                df.getOWLDataPropertyRangeAxiom(d, dt),
+                df.getOWLAnnotationPropertyDomainAxiom(n, a.getIRI()),
+                df.getOWLTransitiveObjectPropertyAxiom(q),
+                df.getOWLFunctionalDataPropertyAxiom(d),
+                df.getOWLClassAssertionAxiom(a, i),
+                df.getOWLClassAssertionAxiom(b, k),
+                df.getOWLObjectPropertyAssertionAxiom(p, i, j),
+                df.getOWLObjectPropertyAssertionAxiom(df.getOWLObjectInverseOf(q), k, i),
+                df.getOWLDataPropertyAssertionAxiom(d, j, df.getOWLLiteral("x", dt)),
+                df.getOWLDataPropertyAssertionAxiom(d, i, df.getOWLLiteral(42)),
+                df.getOWLAnnotationAssertionAxiom(n, a.getIRI(), df.getOWLLiteral("y", "en")),
+                df.getOWLAnnotationAssertionAxiom(df.getRDFSLabel(), k, df.getOWLLiteral("z")),
+                df.getOWLAnnotationAssertionAxiom(df.getRDFSComment(), b.getIRI(), df.getOWLLiteral("w"),
+                        Collections.singleton(df.getRDFSLabel("ann"))),
+                df.getOWLEquivalentClassesAxiom(a, b, c),
+                df.getOWLEquivalentObjectPropertiesAxiom(p, q),
+                df.getOWLSameIndividualAxiom(i, j),
+                df.getOWLDisjointClassesAxiom(a, c),
+                df.getOWLDisjointClassesAxiom(a, b, c, df.getOWLNothing()),
+                df.getOWLDisjointObjectPropertiesAxiom(p, q),
+                df.getOWLDifferentIndividualsAxiom(i, j, df.getOWLNamedIndividual("l")));
+
+        OntologyModel o1 = m.createOntology(IRI.create("http://bulk"));
+        o1.add(axioms);
+        OntologyModel o2 = OntManagers.createONT().createOntology(IRI.create("http://bulk"));
+        axioms.forEach(o2::add);
+        ReadWriteUtils.print(o1);
+
+        Assert.assertEquals(o2.axioms().collect(Collectors.toSet()), o1.axioms().collect(Collectors.toSet()));
+        Assert.assertTrue(o1.asGraphModel().getBaseGraph().isIsomorphicWith(o2.asGraphModel().getBaseGraph()));
+        axioms.forEach(x -> {
+            o1.remove(x);
+            o2.remove(x);
+            Assert.assertTrue("Wrong graph after removing " + x,
+                    o1.asGraphModel().getBaseGraph().isIsomorphicWith(o2.asGraphModel().getBaseGraph()));
+        });
+        Assert.assertEquals(0, o1.axioms().count());
+    }
 }
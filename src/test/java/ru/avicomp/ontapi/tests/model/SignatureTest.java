@@ -19,6 +19,8 @@ import org.junit.Test;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.search.EntitySearcher;
 import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyModel;
+import ru.avicomp.ontapi.jena.model.OntClass;
 import ru.avicomp.ontapi.utils.ReadWriteUtils;
 
 import java.util.Set;
@@ -49,4 +51,41 @@ public class SignatureTest {
         Assert.assertTrue(ont.containsEntityInSignature(a));
         Assert.assertTrue(ont.containsEntityInSignature(o));
     }
+
+    @Test
+    public void testSignatureAfterEdits() {
+        OWLOntologyManager m = OntManagers.createONT();
+        OWLDataFactory df = m.getOWLDataFactory();
+        OntologyModel o = (OntologyModel) ReadWriteUtils.loadOWLOntology(m, IRI.create(ReadWriteUtils.getResourceURI("ontapi/pizza.ttl")));
+        long classes = o.classesInSignature().count();
+        long properties = o.objectPropertiesInSignature().count();
+
+        OWLClass pizza = df.getOWLClass(IRI.create("http://www.co-ode.org/ontologies/pizza/pizza.owl#Pizza"));
+        OWLClass c = df.getOWLClass(IRI.create("http://x#C"));
+        OWLAxiom a1 = df.getOWLSubClassOfAxiom(c, pizza);
+        OWLAxiom a2 = df.getOWLDeclarationAxiom(c);
+        o.add(a1);
+        o.add(a2);
+        Assert.assertEquals(classes + 1, o.classesInSignature().count());
+        Assert.assertEquals(properties, o.objectPropertiesInSignature().count());
+        Assert.assertTrue(o.containsEntityInSignature(c));
+
+        o.remove(a1);
+        // still referred from declaration:
+        Assert.assertTrue(o.containsEntityInSignature(c));
+        Assert.assertTrue(o.containsEntityInSignature(pizza));
+        o.remove(a2);
+        Assert.assertFalse(o.containsEntityInSignature(c));
+        Assert.assertEquals(classes, o.classesInSignature().count());
+
+        // direct graph deletion:
+        o.add(a2);
+        Assert.assertTrue(o.containsEntityInSignature(c));
+        OntClass x = o.asGraphModel().getOntEntity(OntClass.class, c.getIRI().getIRIString());
+        Assert.assertNotNull(x);
+        o.asGraphModel().removeAll(x, null, null);
+        Assert.assertFalse(o.containsEntityInSignature(c));
+        Assert.assertEquals(classes, o.classesInSignature().count());
+        Assert.assertEquals(properties, o.objectPropertiesInSignature().count());
+    }
 }
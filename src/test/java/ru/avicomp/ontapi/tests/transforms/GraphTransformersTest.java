@@ -15,10 +15,12 @@
 package ru.avicomp.ontapi.tests.transforms;
 
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.util.FileManager;
 import org.apache.jena.vocabulary.RDFS;
 import org.hamcrest.core.IsEqual;
@@ -46,6 +48,7 @@ import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
 import ru.avicomp.ontapi.jena.vocabulary.SWRL;
 import ru.avicomp.ontapi.transforms.*;
+import ru.avicomp.ontapi.transforms.vocabulary.AVC;
 import ru.avicomp.ontapi.utils.*;
 
 import java.util.*;
@@ -362,6 +365,95 @@ public class GraphTransformersTest {
         iris.forEach(i -> Assert.assertNotNull(m.getGraphModel(i)));
     }
 
+    @Test
+    public void testClassAssertionsDeclarations() {
+        Model m = ModelFactory.createDefaultModel();
+        m.setNsPrefixes(OntModelFactory.STANDARD);
+        String ns = "http://x#";
+        m.createResource("http://x", OWL.Ontology);
+        Resource a = m.createResource(ns + "A", OWL.Class);
+        Resource b = m.createResource(ns + "B");
+        Resource i1 = m.createResource(ns + "i1", a);
+        Resource i2 = m.createResource(ns + "i2", OWL.Thing);
+        Resource i3 = m.createResource(b);
+        Resource u = m.createResource().addProperty(OWL.unionOf, m.createList(a, b));
+        Resource i4 = m.createResource(ns + "i4", u);
+        Resource d = m.createResource(ns + "D", RDFS.Datatype);
+        long size = m.size();
+
+        GraphTransformers.Stats stats = new GraphTransformers.Store()
+                .add(g -> new OWLDeclarationTransform.ManifestDeclarator(g) {
+                    @Override
+                    public void perform() {
+                        parseClassAssertions();
+                    }
+
+                    @Override
+                    public String name() {
+                        return "ClassAssertions";
+                    }
+                })
+                .transform(m.getGraph());
+        ReadWriteUtils.print(m);
+
+        Set<Statement> expected = new HashSet<>(Arrays.asList(
+                m.createStatement(i1, RDF.type, OWL.NamedIndividual),
+                m.createStatement(i2, RDF.type, OWL.NamedIndividual),
+                m.createStatement(i4, RDF.type, OWL.NamedIndividual),
+                m.createStatement(b, RDF.type, OWL.Class),
+                m.createStatement(u, RDF.type, OWL.Class),
+                m.createStatement(i3, RDF.type, AVC.AnonymousIndividual)));
+        expected.forEach(s -> Assert.assertTrue("No " + s, m.contains(s)));
+        Assert.assertEquals(size + expected.size(), m.size());
+        Assert.assertFalse(m.contains(OWL.Thing, RDF.type, OWL.Class));
+        Assert.assertFalse(m.contains(d, RDF.type, OWL.Class));
+        Assert.assertFalse(m.contains(d, RDF.type, OWL.NamedIndividual));
+        Assert.assertEquals(expected.stream().map(Statement::asTriple).collect(Collectors.toSet()),
+                stats.getTriples(GraphTransformers.Stats.Type.ADDED, "ClassAssertions"));
+    }
+
+    @Test
+    public void testIncrementalTransforms() {
+        Model m = ModelFactory.createDefaultModel();
+        m.setNsPrefixes(OntModelFactory.STANDARD);
+        String ns = "http://x#";
+        m.createResource("http://x", OWL.Ontology);
+        Resource a = m.createResource(ns + "A", OWL.Class);
+        m.createResource(ns + "i1", a);
+
+        GraphTransformers.Store store = GraphTransformers.getTransformers();
+        store.transform(m.getGraph());
+        long size = m.size();
+        ReadWriteUtils.print(m);
+
+        try (GraphTransformers.Tracker tracker = store.track(m.getGraph())) {
+            Resource b = m.createResource(ns + "B").addProperty(RDFS.subClassOf, a);
+            Resource i2 = m.createResource(ns + "i2", b);
+            Assert.assertEquals(2, tracker.getDelta().size());
+
+            GraphTransformers.Stats stats = tracker.transform();
+            ReadWriteUtils.print(m);
+            Assert.assertTrue(tracker.getDelta().isEmpty());
+
+            Set<Statement> expected = new HashSet<>(Arrays.asList(
+                    m.createStatement(b, RDF.type, OWL.Class),
+                    m.createStatement(i2, RDF.type, OWL.NamedIndividual)));
+            expected.forEach(s -> Assert.assertTrue("No " + s, m.contains(s)));
+            Assert.assertEquals(size + 2 + expected.size(), m.size());
+            Set<Triple> added = stats.triples(GraphTransformers.Stats.Type.ADDED).collect(Collectors.toSet());
+            Assert.assertEquals(expected.stream().map(Statement::asTriple).collect(Collectors.toSet()), added);
+            Assert.assertEquals(added.size(), stats.triples(GraphTransformers.Stats.Type.ADDED).count());
+            Assert.assertFalse(stats.hasTriples(GraphTransformers.Stats.Type.DELETED));
+
+            // nothing changed -> nothing to do
+            Assert.assertFalse(tracker.transform().isNotEmpty());
+            // deleted triples are removed from the delta
+            Resource c = m.createResource(ns + "C", a);
+            m.removeAll(c, null, null);
+            Assert.assertTrue(tracker.getDelta().isEmpty());
+        }
+    }
+
     private static void signatureTest(OWLOntology owl, OntGraphModel jena) {
         List<String> expectedClasses = owlToList(owl.classesInSignature(Imports.INCLUDED));
         List<String> actualClasses = jenaToList(jena.listClasses());
@@ -39,6 +39,7 @@ import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.XSD;
 import ru.avicomp.ontapi.transforms.GraphTransformers;
+import ru.avicomp.ontapi.transforms.OWLDeclarationTransform;
 import ru.avicomp.ontapi.transforms.Transform;
 import ru.avicomp.ontapi.transforms.TransformException;
 import ru.avicomp.ontapi.transforms.vocabulary.DEPRECATED;
@@ -255,6 +256,29 @@ public class OWLTransformTest {
         Assert.assertEquals(o.asGraphModel().size(), meta.getTripleCount());
     }
 
+    @Test
+    public void testReasonerDeclaratorPropagation() {
+        String ns = "http://ex.com#";
+        int num = 500;
+        Model m = ModelFactory.createDefaultModel();
+        m.createResource(ns + "p0", OWL.ObjectProperty);
+        m.createResource(ns + "C0", OWL.Class);
+        for (int i = 1; i < num; i++) {
+            // each link can be resolved only after the previous one:
+            m.createResource(ns + "p" + i).addProperty(RDFS.subPropertyOf, m.createResource(ns + "p" + (i - 1)));
+            m.createResource(ns + "C" + i).addProperty(OWL.equivalentClass, m.createResource(ns + "C" + (i - 1)));
+        }
+        long size = m.size();
+        Transform t = new OWLDeclarationTransform.ReasonerDeclarator(m.getGraph());
+        t.perform();
+        Assert.assertEquals(0, t.uncertainTriples().count());
+        for (int i = 0; i < num; i++) {
+            Assert.assertTrue(m.contains(m.getResource(ns + "p" + i), RDF.type, OWL.ObjectProperty));
+            Assert.assertTrue(m.contains(m.getResource(ns + "C" + i), RDF.type, OWL.Class));
+        }
+        Assert.assertEquals(size + 2 * (num - 1), m.size());
+    }
+
     private static void print(OWLOntologyLoaderMetaData meta) {
         meta.getGuessedDeclarations().asMap().forEach((x, y) -> LOGGER.debug("Guessed: {} => {}", x, y));
         meta.getUnparsedTriples().forEach(t -> LOGGER.debug("Unparsed: {}", t));